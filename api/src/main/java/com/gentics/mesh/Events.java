@@ -50,6 +50,21 @@ public final class Events {
 	 */
 	public static final String EVENT_CLEAR_PERMISSION_STORE = "mesh.clear-permission-store";
 
+	/**
+	 * Event which is send to invalidate the cached permissions of a single element within the permission stores.
+	 */
+	public static final String EVENT_PERMISSION_STORE_INVALIDATE_ELEMENT = "mesh.permission-store.invalidate-element";
+
+	/**
+	 * Event which is send to invalidate the cached permissions of all role sets which contain a role within the permission stores.
+	 */
+	public static final String EVENT_PERMISSION_STORE_INVALIDATE_ROLE = "mesh.permission-store.invalidate-role";
+
+	/**
+	 * Event which is send to invalidate the cached role sets of users within the permission stores.
+	 */
+	public static final String EVENT_PERMISSION_STORE_INVALIDATE_USERS = "mesh.permission-store.invalidate-users";
+
 	/* User */
 
 	public static final String EVENT_USER_CREATED = "mesh.user.created";
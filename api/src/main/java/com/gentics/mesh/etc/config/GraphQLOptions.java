@@ -0,0 +1,128 @@
+package com.gentics.mesh.etc.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.doc.GenerateDocumentation;
+import com.gentics.mesh.etc.config.env.EnvironmentVariable;
+import com.gentics.mesh.etc.config.env.Option;
+
+/**
+ * GraphQL options are used to limit the resources which a single GraphQL query may use.
+ */
+@GenerateDocumentation
+public class GraphQLOptions implements Option {
+
+	public static final String MESH_GRAPHQL_MAX_DEPTH_ENV = "MESH_GRAPHQL_MAX_DEPTH";
+	public static final String MESH_GRAPHQL_MAX_NODE_VISITS_ENV = "MESH_GRAPHQL_MAX_NODE_VISITS";
+	public static final String MESH_GRAPHQL_DEFAULT_PAGE_SIZE_ENV = "MESH_GRAPHQL_DEFAULT_PAGE_SIZE";
+	public static final String MESH_GRAPHQL_TIMEOUT_ENV = "MESH_GRAPHQL_TIMEOUT";
+	public static final int DEFAULT_MAX_DEPTH = 20;
+	public static final long DEFAULT_MAX_NODE_VISITS = 1_000_000;
+	public static final long DEFAULT_DEFAULT_PAGE_SIZE = 0;
+	public static final long DEFAULT_TIMEOUT = 60_000;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the maximum allowed nesting depth of the fields of a query. A value of 0 or less disables the limit. Default: "
+		+ DEFAULT_MAX_DEPTH)
+	@EnvironmentVariable(name = MESH_GRAPHQL_MAX_DEPTH_ENV, description = "Override the maximum depth of GraphQL queries.")
+	private int maxDepth = DEFAULT_MAX_DEPTH;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the maximum amount of elements which a query may load according to the cost estimation which is run before the query gets executed. A value of 0 or less disables the limit. Default: "
+		+ DEFAULT_MAX_NODE_VISITS)
+	@EnvironmentVariable(name = MESH_GRAPHQL_MAX_NODE_VISITS_ENV, description = "Override the maximum estimated element visits of GraphQL queries.")
+	private long maxNodeVisits = DEFAULT_MAX_NODE_VISITS;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the page size which is used for paging fields which do not specify the perPage argument. A value of 0 or less disables the default page size. Those pages are unbounded and are estimated with 100 elements by the cost estimation. Default: "
+		+ DEFAULT_DEFAULT_PAGE_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPHQL_DEFAULT_PAGE_SIZE_ENV, description = "Override the default page size of GraphQL paging fields.")
+	private long defaultPageSize = DEFAULT_DEFAULT_PAGE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the time in milliseconds after which the execution of a query will be aborted. A value of 0 or less disables the limit. Default: "
+		+ DEFAULT_TIMEOUT)
+	@EnvironmentVariable(name = MESH_GRAPHQL_TIMEOUT_ENV, description = "Override the execution time budget of GraphQL queries.")
+	private long timeout = DEFAULT_TIMEOUT;
+
+	/**
+	 * Return the maximum query depth.
+	 *
+	 * @return
+	 */
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+	/**
+	 * Set the maximum query depth.
+	 *
+	 * @param maxDepth
+	 * @return Fluent API
+	 */
+	public GraphQLOptions setMaxDepth(int maxDepth) {
+		this.maxDepth = maxDepth;
+		return this;
+	}
+
+	/**
+	 * Return the maximum amount of estimated element visits.
+	 *
+	 * @return
+	 */
+	public long getMaxNodeVisits() {
+		return maxNodeVisits;
+	}
+
+	/**
+	 * Set the maximum amount of estimated element visits.
+	 *
+	 * @param maxNodeVisits
+	 * @return Fluent API
+	 */
+	public GraphQLOptions setMaxNodeVisits(long maxNodeVisits) {
+		this.maxNodeVisits = maxNodeVisits;
+		return this;
+	}
+
+	/**
+	 * Return the page size which is used when no perPage argument was specified.
+	 *
+	 * @return
+	 */
+	public long getDefaultPageSize() {
+		return defaultPageSize;
+	}
+
+	/**
+	 * Set the page size which is used when no perPage argument was specified.
+	 *
+	 * @param defaultPageSize
+	 * @return Fluent API
+	 */
+	public GraphQLOptions setDefaultPageSize(long defaultPageSize) {
+		this.defaultPageSize = defaultPageSize;
+		return this;
+	}
+
+	/**
+	 * Return the execution time budget in milliseconds.
+	 *
+	 * @return
+	 */
+	public long getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * Set the execution time budget in milliseconds.
+	 *
+	 * @param timeout
+	 * @return Fluent API
+	 */
+	public GraphQLOptions setTimeout(long timeout) {
+		this.timeout = timeout;
+		return this;
+	}
+
+}
@@ -16,11 +16,19 @@ public class ImageManipulatorOptions implements Option {
 
 	public static final String MESH_IMAGE_MAX_WIDTH_ENV = "MESH_IMAGE_MAX_WIDTH";
 	public static final String MESH_IMAGE_MAX_HEIGHT_ENV = "MESH_IMAGE_MAX_HEIGHT";
+	public static final String MESH_IMAGE_CACHE_MAX_SIZE_ENV = "MESH_IMAGE_CACHE_MAX_SIZE";
 	public static final int DEFAULT_MAX_WIDTH = 2048;
 	public static final int DEFAULT_MAX_HEIGHT = 2048;
+	public static final long DEFAULT_IMAGE_CACHE_MAX_SIZE = 1024L * 1024 * 1024; // 1 GiB
 
 	private String imageCacheDirectory = "data" + File.separator + "binaryImageCache";
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the maximum size of the image cache in bytes. The least recently used images will be removed from the cache once the size has been exceeded. Set this to -1 to disable the limit. Default: "
+		+ DEFAULT_IMAGE_CACHE_MAX_SIZE)
+	@EnvironmentVariable(name = MESH_IMAGE_CACHE_MAX_SIZE_ENV, description = "Override the maximum size of the image cache in bytes.")
+	private long imageCacheMaxSize = DEFAULT_IMAGE_CACHE_MAX_SIZE;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Configure the maximum allowed image resize width. Resizing is a memory intensive operation and thus this limit can help avoid memory issues. Default: "
 		+ DEFAULT_MAX_WIDTH)
@@ -53,6 +61,27 @@ public class ImageManipulatorOptions implements Option {
 		return this;
 	}
 
+	/**
+	 * Return the maximum size of the image cache in bytes.
+	 * 
+	 * @return Size in bytes or -1 if the size is not limited
+	 */
+	public long getImageCacheMaxSize() {
+		return imageCacheMaxSize;
+	}
+
+	/**
+	 * Set the maximum size of the image cache in bytes.
+	 * 
+	 * @param imageCacheMaxSize
+	 *            Size in bytes or -1 to disable the limit
+	 * @return Fluent API
+	 */
+	public ImageManipulatorOptions setImageCacheMaxSize(long imageCacheMaxSize) {
+		this.imageCacheMaxSize = imageCacheMaxSize;
+		return this;
+	}
+
 	/**
 	 * Return the maximum image height.
 	 * 
@@ -94,7 +123,8 @@ public class ImageManipulatorOptions implements Option {
 	}
 
 	public void validate(MeshOptions meshOptions) {
-		// TODO Auto-generated method stub
-
+		if (getImageCacheMaxSize() == 0 || getImageCacheMaxSize() < -1) {
+			throw new IllegalArgumentException("The image cache size must be greater than zero or -1 to disable the limit.");
+		}
 	}
 }
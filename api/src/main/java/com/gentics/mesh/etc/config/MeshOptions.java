@@ -79,6 +79,14 @@ public class MeshOptions implements Option {
 	@JsonPropertyDescription("Image handling options.")
 	private ImageManipulatorOptions imageOptions = new ImageManipulatorOptions();
 
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("GraphQL options.")
+	private GraphQLOptions graphQLOptions = new GraphQLOptions();
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Node migration options.")
+	private MigrationOptions migrationOptions = new MigrationOptions();
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Path to the central tmp directory.")
 	@EnvironmentVariable(name = MESH_TEMP_DIR_ENV, description = "Override the configured temp directory.")
@@ -319,6 +327,48 @@ public class MeshOptions implements Option {
 		return this;
 	}
 
+	/**
+	 * Return the GraphQL options.
+	 * 
+	 * @return
+	 */
+	@JsonProperty("graphql")
+	public GraphQLOptions getGraphQLOptions() {
+		return graphQLOptions;
+	}
+
+	/**
+	 * Set the GraphQL options.
+	 * 
+	 * @param graphQLOptions
+	 * @return Fluent API
+	 */
+	public MeshOptions setGraphQLOptions(GraphQLOptions graphQLOptions) {
+		this.graphQLOptions = graphQLOptions;
+		return this;
+	}
+
+	/**
+	 * Return the node migration options.
+	 * 
+	 * @return
+	 */
+	@JsonProperty("migration")
+	public MigrationOptions getMigrationOptions() {
+		return migrationOptions;
+	}
+
+	/**
+	 * Set the node migration options.
+	 * 
+	 * @param migrationOptions
+	 * @return Fluent API
+	 */
+	public MeshOptions setMigrationOptions(MigrationOptions migrationOptions) {
+		this.migrationOptions = migrationOptions;
+		return this;
+	}
+
 	/**
 	 * Return update checker flag.
 	 * 
@@ -412,6 +462,12 @@ public class MeshOptions implements Option {
 		if (getImageOptions() != null) {
 			getImageOptions().validate(this);
 		}
+		if (getGraphQLOptions() != null) {
+			getGraphQLOptions().validate(this);
+		}
+		if (getMigrationOptions() != null) {
+			getMigrationOptions().validate(this);
+		}
 
 		// TODO check for other invalid characters in node name
 	}
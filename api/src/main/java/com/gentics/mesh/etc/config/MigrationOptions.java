@@ -0,0 +1,81 @@
+package com.gentics.mesh.etc.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.doc.GenerateDocumentation;
+import com.gentics.mesh.etc.config.env.EnvironmentVariable;
+import com.gentics.mesh.etc.config.env.Option;
+
+/**
+ * Migration options are used to tune the execution of node migrations after schema updates.
+ */
+@GenerateDocumentation
+public class MigrationOptions implements Option {
+
+	public static final String MESH_MIGRATION_WORKERS_ENV = "MESH_MIGRATION_WORKERS";
+	public static final String MESH_MIGRATION_BATCH_SIZE_ENV = "MESH_MIGRATION_BATCH_SIZE";
+	public static final int DEFAULT_WORKERS = 2;
+	public static final int DEFAULT_BATCH_SIZE = 50;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the amount of workers which migrate the node contents in parallel. Default: " + DEFAULT_WORKERS)
+	@EnvironmentVariable(name = MESH_MIGRATION_WORKERS_ENV, description = "Override the amount of node migration workers.")
+	private int workers = DEFAULT_WORKERS;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the amount of node contents which will be migrated and committed within a single transaction. Default: "
+		+ DEFAULT_BATCH_SIZE)
+	@EnvironmentVariable(name = MESH_MIGRATION_BATCH_SIZE_ENV, description = "Override the node migration batch size.")
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	/**
+	 * Return the amount of migration workers.
+	 *
+	 * @return
+	 */
+	public int getWorkers() {
+		return workers;
+	}
+
+	/**
+	 * Set the amount of migration workers.
+	 *
+	 * @param workers
+	 * @return Fluent API
+	 */
+	public MigrationOptions setWorkers(int workers) {
+		this.workers = workers;
+		return this;
+	}
+
+	/**
+	 * Return the amount of contents which are migrated within a single transaction.
+	 *
+	 * @return
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Set the amount of contents which are migrated within a single transaction.
+	 *
+	 * @param batchSize
+	 * @return Fluent API
+	 */
+	public MigrationOptions setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	@Override
+	public void validate(MeshOptions meshOptions) {
+		if (getWorkers() < 1) {
+			throw new IllegalArgumentException("The amount of migration workers must be at least 1.");
+		}
+		if (getBatchSize() < 1) {
+			throw new IllegalArgumentException("The migration batch size must be at least 1.");
+		}
+	}
+
+}
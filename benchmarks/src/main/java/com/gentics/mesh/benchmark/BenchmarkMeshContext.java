@@ -0,0 +1,40 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.test.TestSize.FULL;
+
+import org.junit.runner.Description;
+
+import com.gentics.mesh.test.context.MeshTestContext;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+/**
+ * Test context which sets up an in-memory graph with the test data outside of a JUnit run.
+ */
+@MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = false, inMemoryDB = true)
+public class BenchmarkMeshContext extends MeshTestContext {
+
+	private final Description suite = Description.createSuiteDescription(BenchmarkMeshContext.class);
+
+	private final Description test = Description.createTestDescription(BenchmarkMeshContext.class, "benchmark");
+
+	public BenchmarkMeshContext() {
+		suite.addChild(test);
+	}
+
+	/**
+	 * Initialize mesh and create the test data.
+	 */
+	public void start() {
+		starting(suite);
+		starting(test);
+	}
+
+	/**
+	 * Clear the test data and remove the created folders.
+	 */
+	public void stop() {
+		finished(test);
+		finished(suite);
+	}
+
+}
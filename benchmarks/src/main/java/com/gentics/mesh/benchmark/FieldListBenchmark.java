@@ -0,0 +1,41 @@
+package com.gentics.mesh.benchmark;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.node.field.list.StringGraphFieldList;
+
+/**
+ * Benchmark for loading the items of a field list.
+ */
+public class FieldListBenchmark extends AbstractMeshBenchmark {
+
+	/**
+	 * Field container of the content. The container is resolved once per iteration within the transaction of the {@link TxState} so that the benchmark
+	 * only measures the list access.
+	 */
+	@State(Scope.Thread)
+	public static class ContainerState {
+
+		private NodeGraphFieldContainer container;
+
+		@Setup(Level.Iteration)
+		public void setup(MeshState mesh, TxState tx) {
+			container = mesh.content().getLatestDraftFieldContainer(mesh.data().getEnglish());
+		}
+
+	}
+
+	@Benchmark
+	public List<?> getList(ContainerState state) {
+		StringGraphFieldList list = state.container.getStringList(MeshState.LIST_FIELD);
+		return list.getList();
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.gentics.mesh.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.json.JsonUtil;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Benchmarks for the serialization of REST models.
+ */
+@State(Scope.Benchmark)
+public class JsonBenchmark extends AbstractMeshBenchmark {
+
+	private NodeResponse response;
+
+	@Setup(Level.Trial)
+	public void setup(MeshState mesh) {
+		TxState tx = new TxState();
+		tx.setup(mesh);
+		try {
+			response = mesh.content().transformToRestSync(tx.ac(), 0, "en");
+		} finally {
+			tx.tearDown();
+		}
+	}
+
+	@Benchmark
+	public String toJson() {
+		return JsonUtil.toJson(response);
+	}
+
+	@Benchmark
+	public Buffer toJsonBuffer() {
+		return JsonUtil.toJsonBuffer(response, false);
+	}
+
+}
@@ -0,0 +1,85 @@
+package com.gentics.mesh.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.field.list.StringGraphFieldList;
+import com.gentics.mesh.dagger.MeshInternal;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.test.TestDataProvider;
+import com.syncleus.ferma.tx.Tx;
+
+/**
+ * Shared fixture of all benchmarks. The fixture uses an in-memory graph which contains the data of the {@link TestDataProvider}.
+ */
+@State(Scope.Benchmark)
+public class MeshState {
+
+	/**
+	 * Key of the string list which is added to the content.
+	 */
+	public static final String LIST_FIELD = "benchmarkList";
+
+	public static final int LIST_SIZE = 100;
+
+	private BenchmarkMeshContext context;
+
+	private String contentWithLinks;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		context = new BenchmarkMeshContext();
+		context.start();
+		try (Tx tx = db().tx()) {
+			NodeGraphFieldContainer container = content().getLatestDraftFieldContainer(data().getEnglish());
+			StringGraphFieldList list = container.createStringList(LIST_FIELD);
+			for (int i = 0; i < LIST_SIZE; i++) {
+				list.createString("item " + i);
+			}
+
+			StringBuilder builder = new StringBuilder();
+			for (Node node : data().getContents().values()) {
+				builder.append("<p>Some text <a href=\"{{mesh.link('").append(node.getUuid()).append("', 'en')}}\">link</a></p>");
+			}
+			contentWithLinks = builder.toString();
+			tx.success();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.stop();
+	}
+
+	public Database db() {
+		return MeshInternal.get().database();
+	}
+
+	public TestDataProvider data() {
+		return context.getData();
+	}
+
+	/**
+	 * Return the content which is used by the benchmarks. The content contains the {@link #LIST_FIELD} list.
+	 * 
+	 * @return
+	 */
+	public Node content() {
+		return data().getContent("news overview");
+	}
+
+	/**
+	 * Return HTML which contains a link to each content of the test data.
+	 * 
+	 * @return
+	 */
+	public String getContentWithLinks() {
+		return contentWithLinks;
+	}
+
+}
@@ -0,0 +1,22 @@
+package com.gentics.mesh.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import com.gentics.mesh.core.rest.node.NodeResponse;
+
+/**
+ * Benchmarks for the transformation of nodes.
+ */
+public class NodeBenchmark extends AbstractMeshBenchmark {
+
+	@Benchmark
+	public NodeResponse transformToRestSync(MeshState mesh, TxState tx) {
+		return mesh.content().transformToRestSync(tx.ac(), 0, "en");
+	}
+
+	@Benchmark
+	public String getETag(MeshState mesh, TxState tx) {
+		return mesh.content().getETag(tx.ac());
+	}
+
+}
@@ -0,0 +1,88 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.gentics.mesh.core.cache.PermissionStore;
+import com.gentics.mesh.core.data.node.Node;
+import com.syncleus.ferma.tx.Tx;
+
+/**
+ * Benchmark for the permission check of a user. The checks cycle through the ids of all nodes of the test data so that the benchmark does not only
+ * measure a single cached entry.
+ */
+public class PermissionBenchmark extends AbstractMeshBenchmark {
+
+	/**
+	 * Ids of the nodes which will be checked.
+	 */
+	@State(Scope.Thread)
+	public static class NodeIds {
+
+		private List<Object> ids;
+
+		private int next;
+
+		@Setup(Level.Trial)
+		public void setup(MeshState mesh) {
+			ids = new ArrayList<>();
+			try (Tx tx = mesh.db().tx()) {
+				for (Node node : mesh.data().getContents().values()) {
+					ids.add(node.id());
+				}
+				for (Node node : mesh.data().getFolders().values()) {
+					ids.add(node.id());
+				}
+			}
+		}
+
+		public Object nextId() {
+			Object id = ids.get(next);
+			next = (next + 1) % ids.size();
+			return id;
+		}
+
+		public List<Object> getIds() {
+			return ids;
+		}
+
+	}
+
+	/**
+	 * Empty permission store. The store is cleared per invocation and thus only used by the batched benchmark which checks all ids at once.
+	 */
+	@State(Scope.Thread)
+	public static class EmptyPermissionStore {
+
+		@Setup(Level.Invocation)
+		public void setup() {
+			PermissionStore.invalidate(false);
+		}
+
+	}
+
+	/**
+	 * Check the permissions one at a time. The results are served by the permission store after the first round.
+	 */
+	@Benchmark
+	public boolean hasPermissionForId(NodeIds ids, TxState tx) {
+		return tx.ac().getUser().hasPermissionForId(ids.nextId(), READ_PERM);
+	}
+
+	/**
+	 * Check the permissions of all nodes at once with an empty permission store.
+	 */
+	@Benchmark
+	public boolean[] hasPermissionForIdsUncached(NodeIds ids, EmptyPermissionStore store, TxState tx) {
+		return tx.ac().getUser().hasPermissionForIds(ids.getIds(), READ_PERM);
+	}
+
+}
@@ -0,0 +1,46 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.context.impl.LocalActionContextImpl;
+import com.gentics.mesh.core.data.impl.MeshAuthUserImpl;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.parameter.impl.NodeParametersImpl;
+import com.syncleus.ferma.tx.Tx;
+
+/**
+ * Per thread fixture which provides a transaction and an action context. The transaction is kept open for a whole iteration so that the benchmarks do
+ * not measure the transaction handling.
+ */
+@State(Scope.Thread)
+public class TxState {
+
+	private Tx tx;
+
+	private LocalActionContextImpl<NodeResponse> ac;
+
+	@Setup(Level.Iteration)
+	public void setup(MeshState mesh) {
+		ac = new LocalActionContextImpl<>(null, NodeResponse.class, new NodeParametersImpl().setLanguages("en"));
+		ac.setProject(PROJECT_NAME);
+		tx = mesh.db().tx();
+		ac.setUser(mesh.data().user().reframe(MeshAuthUserImpl.class));
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		tx.close();
+	}
+
+	public InternalActionContext ac() {
+		return ac;
+	}
+
+}
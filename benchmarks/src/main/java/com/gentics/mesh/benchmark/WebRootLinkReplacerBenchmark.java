@@ -0,0 +1,28 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import com.gentics.mesh.core.data.ContainerType;
+import com.gentics.mesh.dagger.MeshInternal;
+import com.gentics.mesh.parameter.LinkType;
+
+/**
+ * Benchmark for the resolving of mesh links within HTML content.
+ */
+public class WebRootLinkReplacerBenchmark extends AbstractMeshBenchmark {
+
+	private static final List<String> LANGUAGES = Arrays.asList("en");
+
+	@Benchmark
+	public String replace(MeshState mesh, TxState tx) {
+		String branchUuid = tx.ac().getBranch().getUuid();
+		return MeshInternal.get().webRootLinkReplacer().replace(tx.ac(), branchUuid, ContainerType.DRAFT, mesh.getContentWithLinks(), LinkType.SHORT,
+			PROJECT_NAME, LANGUAGES);
+	}
+
+}
@@ -1,7 +1,9 @@
 package com.gentics.mesh.auth.provider;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.netty.handler.codec.http.HttpResponseStatus.UNAUTHORIZED;
 
 import javax.inject.Inject;
@@ -19,6 +21,7 @@ import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.rest.auth.TokenResponse;
 import com.gentics.mesh.etc.config.AuthenticationOptions;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.json.JsonUtil;
 import com.syncleus.ferma.tx.Tx;
 
 import io.vertx.core.AsyncResult;
@@ -297,7 +300,7 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 			} else {
 				ac.addCookie(Cookie.cookie(MeshJWTAuthProvider.TOKEN_COOKIE_KEY, rh.result())
 					.setMaxAge(Mesh.mesh().getOptions().getAuthenticationOptions().getTokenExpirationTime()).setPath("/"));
-				ac.send(new TokenResponse(rh.result()).toJson());
+				ac.send(JsonUtil.toJsonBuffer(new TokenResponse(rh.result()), false), OK, APPLICATION_JSON_UTF8);
 			}
 		});
 	}
@@ -1,6 +1,7 @@
 package com.gentics.mesh.context;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
@@ -12,6 +13,7 @@ import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.json.JsonUtil;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
@@ -29,7 +31,7 @@ public abstract class AbstractInternalActionContext extends AbstractActionContex
 
 	@Override
 	public void send(RestModel restModel, HttpResponseStatus status) {
-		send(restModel.toJson(), status);
+		send(JsonUtil.toJsonBuffer(restModel, getGenericParameters().getPrettyPrint()), status, APPLICATION_JSON_UTF8);
 	}
 
 	@Override
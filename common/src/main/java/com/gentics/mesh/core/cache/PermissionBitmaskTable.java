@@ -0,0 +1,232 @@
+package com.gentics.mesh.core.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Open addressing hash table which maps primitive element ids to permission bitmasks. The table avoids boxing of the keys and the creation of cache key
+ * objects for every permission check. Reads use an optimistic lock and thus don't block each other.
+ *
+ * The table is bounded. Once the maximum amount of entries has been reached the table will be cleared. This is sufficient since entries can be cheaply
+ * recomputed and a table only covers the elements which have been checked for a single role set.
+ */
+final class PermissionBitmaskTable {
+
+	/**
+	 * Value which is returned when no entry could be found for the given key.
+	 */
+	static final int ABSENT = 0;
+
+	/**
+	 * Marker for free slots. Element ids are never negative.
+	 */
+	private static final long FREE = -1L;
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final StampedLock lock = new StampedLock();
+
+	private final int maxEntries;
+
+	private long[] keys;
+
+	private int[] values;
+
+	private int size;
+
+	/**
+	 * Create a new table.
+	 *
+	 * @param maxEntries
+	 *            Maximum amount of entries before the table will be cleared
+	 */
+	PermissionBitmaskTable(int maxEntries) {
+		this.maxEntries = maxEntries;
+		allocate(INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Return the stored bitmask for the given key.
+	 *
+	 * @param key
+	 * @return Found bitmask or {@link #ABSENT}
+	 */
+	int get(long key) {
+		long stamp = lock.tryOptimisticRead();
+		int value = lookup(key);
+		if (!lock.validate(stamp)) {
+			stamp = lock.readLock();
+			try {
+				value = lookup(key);
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Merge the given bits into the bitmask which is stored for the key.
+	 *
+	 * @param key
+	 * @param bits
+	 */
+	void merge(long key, int bits) {
+		long stamp = lock.writeLock();
+		try {
+			if (size >= maxEntries) {
+				allocate(INITIAL_CAPACITY);
+			}
+			int mask = keys.length - 1;
+			int pos = slot(key, mask);
+			while (keys[pos] != FREE) {
+				if (keys[pos] == key) {
+					values[pos] |= bits;
+					return;
+				}
+				pos = (pos + 1) & mask;
+			}
+			keys[pos] = key;
+			values[pos] = bits;
+			// Keep the load factor below 0.5
+			if (++size * 2 > keys.length) {
+				rehash(keys.length * 2);
+			}
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Remove the entry for the given key.
+	 *
+	 * @param key
+	 */
+	void remove(long key) {
+		long stamp = lock.writeLock();
+		try {
+			int mask = keys.length - 1;
+			int pos = slot(key, mask);
+			while (keys[pos] != FREE) {
+				if (keys[pos] == key) {
+					shiftKeys(pos);
+					size--;
+					return;
+				}
+				pos = (pos + 1) & mask;
+			}
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Remove all entries.
+	 */
+	void clear() {
+		long stamp = lock.writeLock();
+		try {
+			allocate(INITIAL_CAPACITY);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Return the amount of stored entries.
+	 *
+	 * @return
+	 */
+	int size() {
+		long stamp = lock.readLock();
+		try {
+			return size;
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	private int lookup(long key) {
+		// Work on local references since the lookup may run concurrently to a write when invoked within the optimistic read section.
+		long[] k = keys;
+		int[] v = values;
+		int mask = k.length - 1;
+		int pos = slot(key, mask);
+		for (int i = 0; i < k.length; i++) {
+			long current = k[pos];
+			if (current == FREE) {
+				return ABSENT;
+			}
+			if (current == key) {
+				return pos < v.length ? v[pos] : ABSENT;
+			}
+			pos = (pos + 1) & mask;
+		}
+		return ABSENT;
+	}
+
+	/**
+	 * Shift the following entries of the removed slot to keep the probe sequences intact.
+	 *
+	 * @param pos
+	 */
+	private void shiftKeys(int pos) {
+		int mask = keys.length - 1;
+		while (true) {
+			int last = pos;
+			pos = (pos + 1) & mask;
+			long current;
+			while (true) {
+				current = keys[pos];
+				if (current == FREE) {
+					keys[last] = FREE;
+					values[last] = ABSENT;
+					return;
+				}
+				int slot = slot(current, mask);
+				if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+					break;
+				}
+				pos = (pos + 1) & mask;
+			}
+			keys[last] = current;
+			values[last] = values[pos];
+		}
+	}
+
+	private void rehash(int capacity) {
+		long[] oldKeys = keys;
+		int[] oldValues = values;
+		long[] newKeys = new long[capacity];
+		int[] newValues = new int[capacity];
+		Arrays.fill(newKeys, FREE);
+		int mask = capacity - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			long key = oldKeys[i];
+			if (key != FREE) {
+				int pos = slot(key, mask);
+				while (newKeys[pos] != FREE) {
+					pos = (pos + 1) & mask;
+				}
+				newKeys[pos] = key;
+				newValues[pos] = oldValues[i];
+			}
+		}
+		values = newValues;
+		keys = newKeys;
+	}
+
+	private void allocate(int capacity) {
+		long[] newKeys = new long[capacity];
+		Arrays.fill(newKeys, FREE);
+		values = new int[capacity];
+		keys = newKeys;
+		size = 0;
+	}
+
+	private static int slot(long key, int mask) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32)) & mask;
+	}
+
+}
@@ -1,105 +1,382 @@
 package com.gentics.mesh.core.cache;
 
 import static com.gentics.mesh.Events.EVENT_CLEAR_PERMISSION_STORE;
+import static com.gentics.mesh.Events.EVENT_NODE_CREATED;
+import static com.gentics.mesh.Events.EVENT_NODE_DELETED;
+import static com.gentics.mesh.Events.EVENT_NODE_UPDATED;
+import static com.gentics.mesh.Events.EVENT_PERMISSION_STORE_INVALIDATE_ELEMENT;
+import static com.gentics.mesh.Events.EVENT_PERMISSION_STORE_INVALIDATE_ROLE;
+import static com.gentics.mesh.Events.EVENT_PERMISSION_STORE_INVALIDATE_USERS;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.graphdb.spi.CommitHooks;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
- * Central LRU permission cache which is used to quickly lookup cached permissions.
+ * Central permission cache which is used to quickly lookup cached permissions.
+ *
+ * The cache stores the effective permissions per role set and element. Users which share the same roles also share the same {@link RoleSet} and thus the
+ * cached permissions. Granting and denying results are cached. Changes to the permissions of an element only invalidate the entries of that element,
+ * changes to a role only invalidate the role sets which contain the role and changes to the group memberships only invalidate the role sets of the affected
+ * users.
+ *
+ * The role sets also contain the digests of the readable children of nodes. The node events invalidate the digests of the changed node and its parent
+ * nodes. Any permission change invalidates all digests.
  */
 public final class PermissionStore {
 
 	private static final Logger log = LoggerFactory.getLogger(PermissionStore.class);
 
-	public static final Cache<String, Boolean> PERM_CACHE = Caffeine.newBuilder().maximumSize(100_000).expireAfterWrite(30, TimeUnit.MINUTES).build();
+	/**
+	 * Maximum amount of elements for which permissions will be cached per role set.
+	 */
+	private static final int MAX_ELEMENTS_PER_ROLE_SET = 100_000;
+
+	/**
+	 * Maximum age of the cached permissions of a role set.
+	 */
+	private static final long MAX_AGE = TimeUnit.MINUTES.toMillis(30);
+
+	/**
+	 * Cache which maps the numeric user id to the role set of the user.
+	 */
+	private static final Cache<Long, RoleSet> USER_ROLES = Caffeine.newBuilder().maximumSize(10_000).expireAfterWrite(30, TimeUnit.MINUTES).build();
+
+	/**
+	 * Registry of all role sets which are currently in use. Role sets which are no longer referenced by any user will be removed automatically.
+	 */
+	/**
+	 * Generation of the children digests. The generation is incremented by each invalidation so that digests which were computed concurrently are not
+	 * stored.
+	 */
+	private static final AtomicLong CHILDREN_GENERATION = new AtomicLong();
+
+	private static final Cache<RoleSet.Key, RoleSet> ROLE_SETS = Caffeine.newBuilder().weakValues().build();
 
 	/**
-	 * Check whether the granting user permission was stored in the cache.
-	 * 
-	 * @param userId
-	 *            Vertex id of the user
+	 * Return the cached role set of the user.
+	 *
+	 * @param userKey
+	 *            Numeric id of the user
+	 * @return Found role set or null if the roles of the user have not yet been cached
+	 */
+	public static RoleSet getRoleSet(long userKey) {
+		if (userKey == -1) {
+			return null;
+		}
+		return USER_ROLES.getIfPresent(userKey);
+	}
+
+	/**
+	 * Store the roles of the user. An existing role set will be reused if another user already has the same roles.
+	 *
+	 * @param userKey
+	 *            Numeric id of the user
+	 * @param roleIds
+	 *            Graph ids of the roles of the user
+	 * @param roleKeys
+	 *            Numeric ids of the roles of the user. The order must match the order of the graph ids.
+	 * @return Role set for the given roles
+	 */
+	public static RoleSet storeRoleSet(long userKey, Object[] roleIds, long[] roleKeys) {
+		long[] sortedKeys = Arrays.copyOf(roleKeys, roleKeys.length);
+		Arrays.sort(sortedKeys);
+		// Don't cache the role set if it contains elements which have not yet been persisted
+		if (userKey == -1 || (sortedKeys.length > 0 && sortedKeys[0] == -1)) {
+			return new RoleSet(sortedKeys, roleIds, MAX_ELEMENTS_PER_ROLE_SET);
+		}
+		RoleSet roleSet = ROLE_SETS.get(new RoleSet.Key(sortedKeys), key -> new RoleSet(sortedKeys, roleIds, MAX_ELEMENTS_PER_ROLE_SET));
+		USER_ROLES.put(userKey, roleSet);
+		return roleSet;
+	}
+
+	/**
+	 * Check whether a permission result for the element was stored in the cache.
+	 *
+	 * @param roleSet
+	 *            Role set of the user
 	 * @param permission
 	 *            Permission to check against
-	 * @param elementId
-	 *            Vertex id of the element to which permissions should be checked
-	 * @return true, if a granting permission was found or false if the permission could not be found in the cache
+	 * @param elementKey
+	 *            Numeric id of the element to which permissions should be checked
+	 * @return {@link Boolean#TRUE} if a granting result was found, {@link Boolean#FALSE} if a denying result was found or null if no result has been cached
+	 */
+	public static Boolean hasPermission(RoleSet roleSet, GraphPermission permission, long elementKey) {
+		if (elementKey == -1) {
+			return null;
+		}
+		roleSet.expire(MAX_AGE);
+		return roleSet.get(elementKey, permission);
+	}
+
+	/**
+	 * Store the effective permission in the cache.
+	 *
+	 * @param roleSet
+	 *            Role set of the user
+	 * @param permission
+	 *            Permission which was checked
+	 * @param elementKey
+	 *            Numeric id of the element which was checked
+	 * @param granted
+	 *            Whether the permission is granted
+	 */
+	public static void store(RoleSet roleSet, GraphPermission permission, long elementKey, boolean granted) {
+		if (elementKey != -1) {
+			roleSet.put(elementKey, permission, granted);
+		}
+	}
+
+	/**
+	 * Return the current generation of the children digests. The generation must be read before the digest is computed.
+	 *
+	 * @return
+	 */
+	public static long childrenGeneration() {
+		return CHILDREN_GENERATION.get();
+	}
+
+	/**
+	 * Return the cached digest of the children of the node which are readable by the role set.
+	 *
+	 * @param roleSet
+	 * @param nodeUuid
+	 * @param branchUuid
+	 * @return Digest or null if no digest has been cached
 	 */
-	public static boolean hasPermission(Object userId, GraphPermission permission, Object elementId) {
-		String key = createCacheKey(userId, permission, elementId);
-		Boolean cachedPerm = PERM_CACHE.getIfPresent(key);
-		return cachedPerm != null && cachedPerm;
+	public static String getChildrenDigest(RoleSet roleSet, String nodeUuid, String branchUuid) {
+		roleSet.expire(MAX_AGE);
+		return roleSet.getChildrenDigest(nodeUuid, branchUuid);
 	}
 
 	/**
-	 * Register the event handler which can be used to invalidate the LRU cache.
+	 * Store the digest of the readable children of the node. The digest will not be stored if the digests were invalidated since the given generation.
+	 *
+	 * @param roleSet
+	 * @param nodeUuid
+	 * @param branchUuid
+	 * @param digest
+	 * @param generation
+	 *            Generation which was returned by {@link #childrenGeneration()} before the digest was computed
+	 */
+	public static void storeChildrenDigest(RoleSet roleSet, String nodeUuid, String branchUuid, String digest, long generation) {
+		if (generation == CHILDREN_GENERATION.get()) {
+			roleSet.putChildrenDigest(nodeUuid, branchUuid, digest);
+		}
+	}
+
+	/**
+	 * Register the event handlers which are used to invalidate the cache. The events are sent by all instances in the cluster once the change was
+	 * committed.
 	 */
 	public static void registerEventHandler() {
 		Mesh.vertx().eventBus().consumer(EVENT_CLEAR_PERMISSION_STORE, e -> {
 			if (log.isDebugEnabled()) {
 				log.debug("Clearing permission store due to received event from {" + e.address() + "}");
 			}
-			PERM_CACHE.invalidateAll();
+			invalidateLocally();
+		});
+		Mesh.vertx().eventBus().consumer(EVENT_PERMISSION_STORE_INVALIDATE_ELEMENT, (Message<JsonObject> e) -> {
+			long elementKey = e.body().getLong("element");
+			if (log.isDebugEnabled()) {
+				log.debug("Invalidating permissions of element {" + elementKey + "} due to received event from {" + e.address() + "}");
+			}
+			invalidateElementLocally(elementKey);
+		});
+		Mesh.vertx().eventBus().consumer(EVENT_PERMISSION_STORE_INVALIDATE_ROLE, (Message<JsonObject> e) -> {
+			long roleKey = e.body().getLong("role");
+			if (log.isDebugEnabled()) {
+				log.debug("Invalidating permissions of role {" + roleKey + "} due to received event from {" + e.address() + "}");
+			}
+			invalidateRoleLocally(roleKey);
+		});
+		Mesh.vertx().eventBus().consumer(EVENT_PERMISSION_STORE_INVALIDATE_USERS, (Message<JsonObject> e) -> {
+			JsonArray users = e.body().getJsonArray("users");
+			if (log.isDebugEnabled()) {
+				log.debug("Invalidating roles of {" + users.size() + "} users due to received event from {" + e.address() + "}");
+			}
+			for (int i = 0; i < users.size(); i++) {
+				USER_ROLES.invalidate(users.getLong(i));
+			}
 		});
+		for (String address : new String[] { EVENT_NODE_CREATED, EVENT_NODE_UPDATED, EVENT_NODE_DELETED }) {
+			Mesh.vertx().eventBus().consumer(address, (Message<JsonObject> e) -> {
+				JsonObject body = e.body();
+				JsonArray parentUuids = body == null ? null : body.getJsonArray(WebRootPathCache.PARENT_NODE_UUIDS_KEY);
+				// Events of deleted nodes don't reference the former parents
+				if (parentUuids == null) {
+					invalidateChildrenDigests(null);
+				} else {
+					List<String> nodeUuids = new ArrayList<>();
+					nodeUuids.add(body.getString("uuid"));
+					for (Object parentUuid : parentUuids) {
+						nodeUuids.add((String) parentUuid);
+					}
+					invalidateChildrenDigests(nodeUuids);
+				}
+			});
+		}
 	}
 
 	/**
-	 * Create the cache key.
-	 * 
-	 * @param userId
-	 * @param permission
-	 * @param elementId
-	 * @return
+	 * Invalidate the children digests of the given nodes. The digest of the node itself is included since the node may have been the previous parent of
+	 * a moved node.
+	 *
+	 * @param nodeUuids
+	 *            Uuids of the nodes or null to invalidate all digests
+	 */
+	private static void invalidateChildrenDigests(List<String> nodeUuids) {
+		CHILDREN_GENERATION.incrementAndGet();
+		for (RoleSet roleSet : ROLE_SETS.asMap().values()) {
+			if (nodeUuids == null) {
+				roleSet.clearChildrenDigests();
+			} else {
+				roleSet.removeChildrenDigests(nodeUuids);
+			}
+		}
+	}
+
+	/**
+	 * Invalidate the cached permissions of the given element and optionally notify other instances in the cluster. The invalidation is deferred until the
+	 * current transaction has been committed. Otherwise a concurrent check could cache the old permissions again.
+	 *
+	 * @param elementKey
+	 *            Numeric id of the element
+	 * @param notify
+	 */
+	public static void invalidateElement(long elementKey, boolean notify) {
+		if (elementKey == -1) {
+			return;
+		}
+		CommitHooks.afterCommit(() -> {
+			invalidateElementLocally(elementKey);
+			if (notify) {
+				publish(EVENT_PERMISSION_STORE_INVALIDATE_ELEMENT, new JsonObject().put("element", elementKey));
+			}
+		});
+	}
+
+	private static void invalidateElementLocally(long elementKey) {
+		// The element might be the child of any node
+		CHILDREN_GENERATION.incrementAndGet();
+		for (RoleSet roleSet : ROLE_SETS.asMap().values()) {
+			roleSet.remove(elementKey);
+			roleSet.clearChildrenDigests();
+		}
+	}
+
+	/**
+	 * Invalidate the cached permissions of all role sets which contain the given role and optionally notify other instances in the cluster. Users which are
+	 * assigned to the role will resolve their roles again. The invalidation is deferred until the current transaction has been committed.
+	 *
+	 * @param roleKey
+	 *            Numeric id of the role
+	 * @param notify
+	 */
+	public static void invalidateRole(long roleKey, boolean notify) {
+		if (roleKey == -1) {
+			return;
+		}
+		CommitHooks.afterCommit(() -> {
+			invalidateRoleLocally(roleKey);
+			if (notify) {
+				publish(EVENT_PERMISSION_STORE_INVALIDATE_ROLE, new JsonObject().put("role", roleKey));
+			}
+		});
+	}
+
+	private static void invalidateRoleLocally(long roleKey) {
+		CHILDREN_GENERATION.incrementAndGet();
+		for (RoleSet roleSet : ROLE_SETS.asMap().values()) {
+			if (roleSet.contains(roleKey)) {
+				roleSet.clear();
+			}
+		}
+		USER_ROLES.asMap().values().removeIf(roleSet -> roleSet.contains(roleKey));
+	}
+
+	/**
+	 * Invalidate the cached role sets of the given users and optionally notify other instances in the cluster. The cached permissions of the role sets remain
+	 * valid since they only depend on the roles. The users will resolve their roles again. The invalidation is deferred until the current transaction has
+	 * been committed.
+	 *
+	 * @param userKeys
+	 *            Numeric ids of the users
+	 * @param notify
 	 */
-	private static String createCacheKey(Object userId, GraphPermission permission, Object elementId) {
-		return userId + "-" + permission.ordinal() + "-" + elementId;
+	public static void invalidateUsers(long[] userKeys, boolean notify) {
+		JsonArray users = new JsonArray();
+		for (long userKey : userKeys) {
+			if (userKey != -1) {
+				users.add(userKey);
+			}
+		}
+		if (users.isEmpty()) {
+			return;
+		}
+		CommitHooks.afterCommit(() -> {
+			for (int i = 0; i < users.size(); i++) {
+				USER_ROLES.invalidate(users.getLong(i));
+			}
+			if (notify) {
+				publish(EVENT_PERMISSION_STORE_INVALIDATE_USERS, new JsonObject().put("users", users));
+			}
+		});
 	}
 
 	/**
-	 * Invalidate the LRU cache and optionally notify other instances in the cluster.
-	 * 
+	 * Invalidate the cache and optionally notify other instances in the cluster. The invalidation is deferred until the current transaction has been
+	 * committed.
+	 *
 	 * @param notify
 	 */
 	public static void invalidate(boolean notify) {
-		// Invalidate locally
-		PERM_CACHE.invalidateAll();
-		if (notify) {
-			// Send the event to inform other to purge the stored permissions
-			Vertx vertx = Mesh.vertx();
-			if (vertx != null) {
-				vertx.eventBus().publish(EVENT_CLEAR_PERMISSION_STORE, null);
-			} else {
-				log.error("Can't distribute cache clear event. Maybe Vert.x is stopping / starting right now");
+		CommitHooks.afterCommit(() -> {
+			invalidateLocally();
+			if (notify) {
+				// Send the event to inform other to purge the stored permissions
+				publish(EVENT_CLEAR_PERMISSION_STORE, null);
 			}
+		});
+	}
+
+	private static void invalidateLocally() {
+		CHILDREN_GENERATION.incrementAndGet();
+		USER_ROLES.invalidateAll();
+		for (RoleSet roleSet : ROLE_SETS.asMap().values()) {
+			roleSet.clear();
 		}
 	}
 
 	/**
-	 * Invalidate the LRU cache.
+	 * Invalidate the cache.
 	 */
 	public static void invalidate() {
 		invalidate(true);
 	}
 
-	/**
-	 * Store a granting permission in the cache.
-	 * 
-	 * @param userId
-	 *            User which currently has roles which grant him the permission on the element
-	 * @param permission
-	 *            Permission which is granted
-	 * @param elementId
-	 *            Id of the element to which a permission is granted
-	 */
-	public static void store(Object userId, GraphPermission permission, Object elementId) {
-		PERM_CACHE.put(createCacheKey(userId, permission, elementId), true);
+	private static void publish(String address, JsonObject body) {
+		Vertx vertx = Mesh.vertx();
+		if (vertx != null) {
+			vertx.eventBus().publish(address, body);
+		} else {
+			log.error("Can't distribute cache invalidation event. Maybe Vert.x is stopping / starting right now");
+		}
 	}
+
 }
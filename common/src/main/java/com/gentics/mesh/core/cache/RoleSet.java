@@ -0,0 +1,206 @@
+package com.gentics.mesh.core.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * A role set represents the set of roles which are assigned to one or more users. Users with the same roles share the same role set instance and thus also
+ * share the cached effective permissions.
+ *
+ * The effective permissions are stored per element in a bitmask. For each permission one bit marks whether the permission has been checked and a second bit
+ * marks whether the permission is granted. This way denying results are cached as well.
+ *
+ * Additionally the set keeps a digest of the readable children per node and branch. The digest is used for the etag of the node.
+ */
+public final class RoleSet {
+
+	private static final int GRANTED_SHIFT = 16;
+
+	private static final int MAX_CHILDREN_DIGESTS = 10_000;
+
+	private final long[] roleKeys;
+
+	private final Object[] roleIds;
+
+	private final PermissionBitmaskTable permissions;
+
+	/**
+	 * Digests of the readable children per node uuid and branch uuid.
+	 */
+	private final Cache<String, Map<String, String>> childrenDigests = Caffeine.newBuilder().maximumSize(MAX_CHILDREN_DIGESTS).build();
+
+	private volatile long created = System.currentTimeMillis();
+
+	/**
+	 * Create a new role set.
+	 *
+	 * @param roleKeys
+	 *            Sorted numeric ids of the roles
+	 * @param roleIds
+	 *            Graph ids of the roles
+	 * @param maxEntries
+	 *            Maximum amount of cached elements
+	 */
+	RoleSet(long[] roleKeys, Object[] roleIds, int maxEntries) {
+		this.roleKeys = roleKeys;
+		this.roleIds = roleIds;
+		this.permissions = new PermissionBitmaskTable(maxEntries);
+	}
+
+	/**
+	 * Return the graph ids of the roles within the set.
+	 *
+	 * @return
+	 */
+	public Object[] getRoleIds() {
+		return roleIds;
+	}
+
+	/**
+	 * Check whether the set contains the role with the given numeric id.
+	 *
+	 * @param roleKey
+	 * @return
+	 */
+	public boolean contains(long roleKey) {
+		return Arrays.binarySearch(roleKeys, roleKey) >= 0;
+	}
+
+	/**
+	 * Return the cached permission for the given element.
+	 *
+	 * @param elementKey
+	 * @param permission
+	 * @return {@link Boolean#TRUE} for granting, {@link Boolean#FALSE} for denying cached results and null if no result has been cached yet
+	 */
+	Boolean get(long elementKey, GraphPermission permission) {
+		int bits = permissions.get(elementKey);
+		int bit = 1 << permission.ordinal();
+		if ((bits & bit) == 0) {
+			return null;
+		}
+		return (bits & (bit << GRANTED_SHIFT)) != 0;
+	}
+
+	/**
+	 * Store the effective permission for the given element.
+	 *
+	 * @param elementKey
+	 * @param permission
+	 * @param granted
+	 */
+	void put(long elementKey, GraphPermission permission, boolean granted) {
+		int bit = 1 << permission.ordinal();
+		permissions.merge(elementKey, granted ? bit | (bit << GRANTED_SHIFT) : bit);
+	}
+
+	/**
+	 * Remove the cached permissions for the given element.
+	 *
+	 * @param elementKey
+	 */
+	void remove(long elementKey) {
+		permissions.remove(elementKey);
+	}
+
+	/**
+	 * Return the cached digest of the readable children of the node.
+	 *
+	 * @param nodeUuid
+	 * @param branchUuid
+	 * @return Digest or null if no digest has been cached
+	 */
+	String getChildrenDigest(String nodeUuid, String branchUuid) {
+		Map<String, String> digests = childrenDigests.getIfPresent(nodeUuid);
+		return digests == null ? null : digests.get(branchUuid);
+	}
+
+	/**
+	 * Store the digest of the readable children of the node.
+	 *
+	 * @param nodeUuid
+	 * @param branchUuid
+	 * @param digest
+	 */
+	void putChildrenDigest(String nodeUuid, String branchUuid, String digest) {
+		childrenDigests.get(nodeUuid, key -> new ConcurrentHashMap<>()).put(branchUuid, digest);
+	}
+
+	/**
+	 * Remove the cached children digests of the given nodes.
+	 *
+	 * @param nodeUuids
+	 */
+	void removeChildrenDigests(Collection<String> nodeUuids) {
+		childrenDigests.invalidateAll(nodeUuids);
+	}
+
+	/**
+	 * Remove all cached children digests.
+	 */
+	void clearChildrenDigests() {
+		childrenDigests.invalidateAll();
+	}
+
+	/**
+	 * Remove all cached permissions.
+	 */
+	void clear() {
+		permissions.clear();
+		childrenDigests.invalidateAll();
+		created = System.currentTimeMillis();
+	}
+
+	/**
+	 * Remove all cached permissions if the entries are older than the given age.
+	 *
+	 * @param maxAge
+	 *            Maximum age in milliseconds
+	 */
+	void expire(long maxAge) {
+		if (System.currentTimeMillis() - created > maxAge) {
+			clear();
+		}
+	}
+
+	/**
+	 * Return the amount of elements for which permissions have been cached.
+	 *
+	 * @return
+	 */
+	int size() {
+		return permissions.size();
+	}
+
+	/**
+	 * Key which identifies a role set by the numeric ids of its roles.
+	 */
+	static final class Key {
+
+		private final long[] roleKeys;
+
+		private final int hash;
+
+		Key(long[] roleKeys) {
+			this.roleKeys = roleKeys;
+			this.hash = Arrays.hashCode(roleKeys);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Key && Arrays.equals(roleKeys, ((Key) obj).roleKeys);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+}
@@ -0,0 +1,623 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.Events.EVENT_BRANCH_UPDATED;
+import static com.gentics.mesh.Events.EVENT_NODE_CREATED;
+import static com.gentics.mesh.Events.EVENT_NODE_DELETED;
+import static com.gentics.mesh.Events.EVENT_NODE_UPDATED;
+import static com.gentics.mesh.Events.EVENT_PROJECT_DELETED;
+import static com.gentics.mesh.Events.EVENT_SCHEMA_UPDATED;
+import static com.gentics.mesh.Events.MESH_MIGRATION;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.ContainerType;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Cross request cache for resolved webroot paths.
+ *
+ * The cache contains two maps. The first one maps the requested path of a branch to the graph ids of the containers which provide the path segments. The
+ * second one maps a node to its rendered webroot path and is used when rendering links. Both maps are bounded. Each entry records the nodes it was built
+ * from and is indexed by the uuids of those nodes. Node events only remove the entries which reference the changed node, while branch, schema and
+ * migration events clear the whole cache. Those events are published on the clustered event bus after the change has been committed and thus also
+ * invalidate the caches of the other instances.
+ *
+ * Additionally the cache keeps the last etag per user and requested webroot URI. HEAD and conditional GET requests can be answered from this map without
+ * opening a transaction as long as the cached permission of the user on the node is still present in the {@link PermissionStore}. The etags are also
+ * indexed by the nodes of the resolved path since a renamed or moved ancestor changes the node to which the URI resolves.
+ */
+public final class WebRootPathCache {
+
+	private static final Logger log = LoggerFactory.getLogger(WebRootPathCache.class);
+
+	/**
+	 * Key of the parent node uuids within the node events.
+	 */
+	public static final String PARENT_NODE_UUIDS_KEY = "parentNodeUuids";
+
+	private static final int MAX_ENTRIES = 50_000;
+
+	/**
+	 * Maximum age of the entries. Limits the time a stale entry could be served when an invalidation event raced with a concurrent resolve.
+	 */
+	private static final long MAX_AGE_MINUTES = 10;
+
+	private static final NodeIndex PATH_INDEX = new NodeIndex();
+
+	private static final NodeIndex NODE_PATH_INDEX = new NodeIndex();
+
+	private static final NodeIndex ETAG_INDEX = new NodeIndex();
+
+	private static final Cache<String, CachedPath> PATHS = Caffeine.newBuilder().maximumSize(MAX_ENTRIES).expireAfterWrite(MAX_AGE_MINUTES,
+		TimeUnit.MINUTES).<String, CachedPath>removalListener((key, path, cause) -> PATH_INDEX.remove(key, path.getNodeUuids(),
+			uuid -> {
+				CachedPath current = WebRootPathCache.PATHS.getIfPresent(key);
+				return current != null && current.dependsOn(uuid);
+			}))
+		.build();
+
+	private static final Cache<String, CachedNodePath> NODE_PATHS = Caffeine.newBuilder().maximumSize(MAX_ENTRIES).expireAfterWrite(MAX_AGE_MINUTES,
+		TimeUnit.MINUTES).<String, CachedNodePath>removalListener((key, path, cause) -> NODE_PATH_INDEX.remove(key, path.nodeUuids, uuid -> {
+			CachedNodePath current = WebRootPathCache.NODE_PATHS.getIfPresent(key);
+			return current != null && current.nodeUuids.contains(uuid);
+		}))
+		.build();
+
+	private static final Cache<String, CachedETag> ETAGS = Caffeine.newBuilder().maximumSize(MAX_ENTRIES).expireAfterWrite(MAX_AGE_MINUTES,
+		TimeUnit.MINUTES).<String, CachedETag>removalListener((key, etag, cause) -> ETAG_INDEX.remove(key, etag.getNodeUuids(), uuid -> {
+			CachedETag current = WebRootPathCache.ETAGS.getIfPresent(key);
+			return current != null && current.dependsOn(uuid);
+		}))
+		.build();
+
+	/**
+	 * Generation which is incremented by every invalidation. Entries which were resolved before an invalidation will not be stored.
+	 */
+	private static final AtomicLong GENERATION = new AtomicLong();
+
+	/**
+	 * Compose the key for a requested webroot path.
+	 *
+	 * @param projectUuid
+	 * @param branchUuid
+	 * @param type
+	 * @param path
+	 *            Path without the branch path prefix
+	 * @return
+	 */
+	public static String pathKey(String projectUuid, String branchUuid, ContainerType type, String path) {
+		return projectUuid + "-" + branchUuid + "-" + type.getCode() + "-" + path;
+	}
+
+	/**
+	 * Return the current generation of the cache. The generation must be fetched before the path gets resolved and passed along when storing the result.
+	 *
+	 * @return
+	 */
+	public static long generation() {
+		return GENERATION.get();
+	}
+
+	/**
+	 * Return the cached resolved path.
+	 *
+	 * @param key
+	 *            Key which was created via {@link #pathKey(String, String, ContainerType, String)}
+	 * @return Found path or null
+	 */
+	public static CachedPath getPath(String key) {
+		return PATHS.getIfPresent(key);
+	}
+
+	/**
+	 * Store the resolved path. The path will not be stored if the cache was invalidated since the given generation.
+	 *
+	 * @param key
+	 * @param path
+	 * @param generation
+	 */
+	public static void putPath(String key, CachedPath path, long generation) {
+		if (generation == GENERATION.get()) {
+			PATHS.put(key, path);
+			PATH_INDEX.add(key, path.getNodeUuids());
+			// An invalidation which ran before the entry was indexed could not find it
+			if (generation != GENERATION.get()) {
+				PATHS.invalidate(key);
+			}
+		}
+	}
+
+	/**
+	 * Return the cached webroot path of a node.
+	 *
+	 * @param key
+	 *            Key which identifies the node, branch, container type and languages
+	 * @return Found path or null
+	 */
+	public static String getNodePath(String key) {
+		CachedNodePath cached = NODE_PATHS.getIfPresent(key);
+		return cached == null ? null : cached.path;
+	}
+
+	/**
+	 * Store the rendered webroot path of a node. The path will not be stored if the cache was invalidated since the given generation.
+	 *
+	 * @param key
+	 * @param path
+	 * @param nodeUuids
+	 *            Uuids of the node and of the parent nodes which provide the path segments
+	 * @param generation
+	 */
+	public static void putNodePath(String key, String path, Set<String> nodeUuids, long generation) {
+		if (generation == GENERATION.get()) {
+			NODE_PATHS.put(key, new CachedNodePath(path, nodeUuids));
+			NODE_PATH_INDEX.add(key, nodeUuids);
+			// An invalidation which ran before the entry was indexed could not find it
+			if (generation != GENERATION.get()) {
+				NODE_PATHS.invalidate(key);
+			}
+		}
+	}
+
+	/**
+	 * Compose the key for the etag of a webroot request.
+	 *
+	 * @param userKey
+	 *            Element key of the requesting user
+	 * @param uri
+	 *            Requested URI including the query parameters
+	 * @return
+	 */
+	public static String etagKey(long userKey, String uri) {
+		return userKey + "-" + uri;
+	}
+
+	/**
+	 * Return the cached etag of a webroot request.
+	 *
+	 * @param key
+	 *            Key which was created via {@link #etagKey(long, String)}
+	 * @return Found etag or null
+	 */
+	public static CachedETag getETag(String key) {
+		return ETAGS.getIfPresent(key);
+	}
+
+	/**
+	 * Store the etag of a webroot request. The etag will not be stored if the cache was invalidated since the given generation.
+	 *
+	 * @param key
+	 * @param etag
+	 * @param generation
+	 */
+	public static void putETag(String key, CachedETag etag, long generation) {
+		if (generation == GENERATION.get()) {
+			ETAGS.put(key, etag);
+			ETAG_INDEX.add(key, etag.getNodeUuids());
+			// An invalidation which ran before the entry was indexed could not find it
+			if (generation != GENERATION.get()) {
+				ETAGS.invalidate(key);
+			}
+		}
+	}
+
+	/**
+	 * Register the event handlers which invalidate the cache.
+	 */
+	public static void registerEventHandler() {
+		EventBus eb = Mesh.vertx().eventBus();
+		for (String address : new String[] { EVENT_NODE_CREATED, EVENT_NODE_UPDATED, EVENT_NODE_DELETED }) {
+			eb.consumer(address, (Message<JsonObject> e) -> {
+				JsonObject body = e.body();
+				JsonArray parentUuids = body == null ? null : body.getJsonArray(PARENT_NODE_UUIDS_KEY);
+				// Events of deleted nodes don't reference the former parents
+				if (parentUuids == null) {
+					invalidate();
+				} else {
+					Set<String> parents = new HashSet<>();
+					for (Object parentUuid : parentUuids) {
+						parents.add((String) parentUuid);
+					}
+					invalidateNode(body.getString("uuid"), parents);
+				}
+			});
+		}
+		for (String address : new String[] { EVENT_BRANCH_UPDATED, EVENT_SCHEMA_UPDATED, EVENT_PROJECT_DELETED, MESH_MIGRATION }) {
+			eb.consumer(address, e -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing webroot path cache due to received event from {" + e.address() + "}");
+				}
+				invalidate();
+			});
+		}
+	}
+
+	/**
+	 * Invalidate the entries which were built from the given node. This includes the entries of the descendants of the node since their paths contain the
+	 * node. The etags of the parent nodes are also invalidated since they depend on the children.
+	 *
+	 * @param nodeUuid
+	 *            Uuid of the changed node
+	 * @param parentUuids
+	 *            Uuids of the parent nodes of the changed node in all branches
+	 */
+	public static void invalidateNode(String nodeUuid, Set<String> parentUuids) {
+		GENERATION.incrementAndGet();
+		PATHS.invalidateAll(PATH_INDEX.remove(nodeUuid));
+		NODE_PATHS.invalidateAll(NODE_PATH_INDEX.remove(nodeUuid));
+		ETAGS.invalidateAll(ETAG_INDEX.remove(nodeUuid));
+		// The etags of the parent nodes themselves are affected but not the ones of their other descendants
+		for (String parentUuid : parentUuids) {
+			for (String key : ETAG_INDEX.get(parentUuid)) {
+				CachedETag etag = ETAGS.getIfPresent(key);
+				if (etag != null && parentUuid.equals(etag.getNodeUuid())) {
+					ETAGS.invalidate(key);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Invalidate all cached paths.
+	 */
+	public static void invalidate() {
+		GENERATION.incrementAndGet();
+		// Clear the indices first so that no entry which gets stored concurrently is left without index
+		PATH_INDEX.clear();
+		NODE_PATH_INDEX.clear();
+		ETAG_INDEX.clear();
+		PATHS.invalidateAll();
+		NODE_PATHS.invalidateAll();
+		ETAGS.invalidateAll();
+	}
+
+	/**
+	 * Cached information of a resolved webroot path. Only the graph ids of the containers are stored since the graph elements can't be shared across
+	 * transactions.
+	 */
+	public static final class CachedPath {
+
+		private final String targetPath;
+
+		private final List<String> initialStack;
+
+		private final List<Segment> segments = new ArrayList<>();
+
+		/**
+		 * Create a new cached path.
+		 *
+		 * @param targetPath
+		 * @param initialStack
+		 *            Initial resolve stack or null if the path was resolved without a stack
+		 */
+		public CachedPath(String targetPath, List<String> initialStack) {
+			this.targetPath = targetPath;
+			this.initialStack = initialStack == null ? null : Collections.unmodifiableList(new ArrayList<>(initialStack));
+		}
+
+		/**
+		 * Add a segment to the path.
+		 *
+		 * @param segment
+		 * @return Fluent API
+		 */
+		public CachedPath addSegment(Segment segment) {
+			segments.add(segment);
+			return this;
+		}
+
+		/**
+		 * Check whether one of the segments is provided by the given node.
+		 *
+		 * @param nodeUuid
+		 * @return
+		 */
+		public boolean dependsOn(String nodeUuid) {
+			for (Segment segment : segments) {
+				if (nodeUuid.equals(segment.getNodeUuid())) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Return the uuids of the nodes which provide the segments.
+		 *
+		 * @return
+		 */
+		public Set<String> getNodeUuids() {
+			Set<String> nodeUuids = new HashSet<>();
+			for (Segment segment : segments) {
+				nodeUuids.add(segment.getNodeUuid());
+			}
+			return nodeUuids;
+		}
+
+		public String getTargetPath() {
+			return targetPath;
+		}
+
+		public List<String> getInitialStack() {
+			return initialStack;
+		}
+
+		public List<Segment> getSegments() {
+			return segments;
+		}
+
+	}
+
+	/**
+	 * Cached information of a single path segment.
+	 */
+	public static final class Segment {
+
+		private final Object containerId;
+
+		private final String nodeUuid;
+
+		private final String fieldKey;
+
+		private final boolean binary;
+
+		private final String languageTag;
+
+		private final String segment;
+
+		/**
+		 * Create a new cached segment.
+		 *
+		 * @param containerId
+		 *            Graph id of the container which provides the segment
+		 * @param nodeUuid
+		 *            Uuid of the node of the container
+		 * @param fieldKey
+		 *            Key of the segment field or null if the segment is not provided by a field
+		 * @param binary
+		 *            Whether the segment field is a binary field
+		 * @param languageTag
+		 * @param segment
+		 */
+		public Segment(Object containerId, String nodeUuid, String fieldKey, boolean binary, String languageTag, String segment) {
+			this.containerId = containerId;
+			this.nodeUuid = nodeUuid;
+			this.fieldKey = fieldKey;
+			this.binary = binary;
+			this.languageTag = languageTag;
+			this.segment = segment;
+		}
+
+		public Object getContainerId() {
+			return containerId;
+		}
+
+		public String getNodeUuid() {
+			return nodeUuid;
+		}
+
+		public String getFieldKey() {
+			return fieldKey;
+		}
+
+		public boolean isBinary() {
+			return binary;
+		}
+
+		public String getLanguageTag() {
+			return languageTag;
+		}
+
+		public String getSegment() {
+			return segment;
+		}
+
+	}
+
+	/**
+	 * Cached etag of a webroot response. The entry references the role set of the user and the permission which granted access to the node. Changes of the
+	 * roles or permissions invalidate the {@link PermissionStore} and thus also the cached etag.
+	 */
+	public static final class CachedETag {
+
+		private final String nodeUuid;
+
+		private final Set<String> nodeUuids;
+
+		private final String etag;
+
+		private final boolean weak;
+
+		private final String responseType;
+
+		private final RoleSet roleSet;
+
+		private final GraphPermission permission;
+
+		private final long nodeKey;
+
+		/**
+		 * Create a new cached etag.
+		 *
+		 * @param nodeUuid
+		 *            Uuid of the requested node
+		 * @param pathNodeUuids
+		 *            Uuids of the nodes which provide the segments of the resolved path
+		 * @param etag
+		 * @param weak
+		 *            Whether the etag is a weak etag
+		 * @param responseType
+		 *            Webroot response type (node or binary)
+		 * @param roleSet
+		 *            Role set of the user at the time the permission was checked
+		 * @param permission
+		 *            Permission which granted read access on the node
+		 * @param nodeKey
+		 *            Element key of the node
+		 */
+		public CachedETag(String nodeUuid, Set<String> pathNodeUuids, String etag, boolean weak, String responseType, RoleSet roleSet,
+			GraphPermission permission, long nodeKey) {
+			this.nodeUuid = nodeUuid;
+			this.nodeUuids = new HashSet<>(pathNodeUuids);
+			this.nodeUuids.add(nodeUuid);
+			this.etag = etag;
+			this.weak = weak;
+			this.responseType = responseType;
+			this.roleSet = roleSet;
+			this.permission = permission;
+			this.nodeKey = nodeKey;
+		}
+
+		public String getNodeUuid() {
+			return nodeUuid;
+		}
+
+		/**
+		 * Return the uuids of the requested node and of the nodes which provide the segments of the resolved path.
+		 *
+		 * @return
+		 */
+		public Set<String> getNodeUuids() {
+			return nodeUuids;
+		}
+
+		/**
+		 * Check whether the etag was built from the given node.
+		 *
+		 * @param nodeUuid
+		 * @return
+		 */
+		public boolean dependsOn(String nodeUuid) {
+			return nodeUuids.contains(nodeUuid);
+		}
+
+		public String getETag() {
+			return etag;
+		}
+
+		public boolean isWeak() {
+			return weak;
+		}
+
+		public String getResponseType() {
+			return responseType;
+		}
+
+		/**
+		 * Check whether the etag may still be served to the user with the given role set. This is only the case if the roles of the user did not change and
+		 * the permission on the node is still cached as granted.
+		 *
+		 * @param currentRoleSet
+		 *            Currently cached role set of the user
+		 * @return
+		 */
+		public boolean isValid(RoleSet currentRoleSet) {
+			return roleSet != null && roleSet == currentRoleSet && Boolean.TRUE.equals(PermissionStore.hasPermission(roleSet, permission, nodeKey));
+		}
+
+	}
+
+	private static final class CachedNodePath {
+
+		private final String path;
+
+		private final Set<String> nodeUuids;
+
+		CachedNodePath(String path, Set<String> nodeUuids) {
+			this.path = path;
+			this.nodeUuids = nodeUuids;
+		}
+	}
+
+
+	/**
+	 * Index of the cache keys by the uuids of the nodes from which the entries were built. The index is used to find the affected entries of a node event
+	 * without scanning the whole cache.
+	 */
+	private static final class NodeIndex {
+
+		private final ConcurrentMap<String, Set<String>> keys = new ConcurrentHashMap<>();
+
+		/**
+		 * Add the key of an entry to the given nodes.
+		 *
+		 * @param key
+		 * @param nodeUuids
+		 */
+		void add(String key, Collection<String> nodeUuids) {
+			for (String nodeUuid : nodeUuids) {
+				keys.compute(nodeUuid, (uuid, nodeKeys) -> {
+					Set<String> result = nodeKeys == null ? ConcurrentHashMap.newKeySet() : nodeKeys;
+					result.add(key);
+					return result;
+				});
+			}
+		}
+
+		/**
+		 * Remove the key of an evicted entry from the given nodes. The key is kept for the nodes which are still referenced by an entry that was stored for
+		 * the same key in the meantime.
+		 *
+		 * @param key
+		 * @param nodeUuids
+		 * @param stillReferenced
+		 */
+		void remove(String key, Collection<String> nodeUuids, Predicate<String> stillReferenced) {
+			for (String nodeUuid : nodeUuids) {
+				keys.computeIfPresent(nodeUuid, (uuid, nodeKeys) -> {
+					if (!stillReferenced.test(uuid)) {
+						nodeKeys.remove(key);
+					}
+					return nodeKeys.isEmpty() ? null : nodeKeys;
+				});
+			}
+		}
+
+		/**
+		 * Return the keys of the entries which reference the node.
+		 *
+		 * @param nodeUuid
+		 * @return
+		 */
+		Set<String> get(String nodeUuid) {
+			Set<String> nodeKeys = keys.get(nodeUuid);
+			return nodeKeys == null ? Collections.emptySet() : nodeKeys;
+		}
+
+		/**
+		 * Remove and return the keys of the entries which reference the node.
+		 *
+		 * @param nodeUuid
+		 * @return
+		 */
+		Set<String> remove(String nodeUuid) {
+			Set<String> nodeKeys = keys.remove(nodeUuid);
+			return nodeKeys == null ? Collections.emptySet() : nodeKeys;
+		}
+
+		void clear() {
+			keys.clear();
+		}
+	}
+
+}
@@ -4,11 +4,13 @@ import static com.gentics.mesh.Events.EVENT_USER_CREATED;
 import static com.gentics.mesh.Events.EVENT_USER_DELETED;
 import static com.gentics.mesh.Events.EVENT_USER_UPDATED;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.TypeInfo;
+import com.gentics.mesh.core.cache.RoleSet;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
@@ -326,6 +328,22 @@ public interface User extends MeshCoreVertex<UserResponse, User>, ReferenceableE
 	 */
 	boolean hasPermissionForId(Object elementId, GraphPermission permission);
 
+	/**
+	 * Check whether the user has the given permission on the elements with the given ids. The roles of the user are only resolved once for all elements.
+	 * 
+	 * @param elementIds
+	 * @param permission
+	 * @return Array which contains the result for each element id in the order of the given ids
+	 */
+	boolean[] hasPermissionForIds(List<?> elementIds, GraphPermission permission);
+
+	/**
+	 * Return the set of roles which are assigned to the user. The role set holds the cached permissions of the user.
+	 * 
+	 * @return Role set or null if the permissions of the user are not cached
+	 */
+	RoleSet getRoleSet();
+
 	/**
 	 * Check the read permission on the given container and fail if the needed permission to read the container is not set. This method will not fail if the
 	 * user has READ permission or READ_PUBLISH permission on a published node.
@@ -71,4 +71,17 @@ public interface BinaryRoot extends MeshVertex {
 	 */
 	Binary create(String hash, Long size);
 
+	/**
+	 * Create a new binary with the given uuid. This is used when the binary data has already been stored using the uuid.
+	 * 
+	 * @param uuid
+	 *            Uuid of the binary
+	 * @param hash
+	 *            Hash sum of the binary
+	 * @param size
+	 *            Size in bytes
+	 * @return
+	 */
+	Binary create(String uuid, String hash, Long size);
+
 }
\ No newline at end of file
@@ -339,6 +339,19 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 	 */
 	void setParentNode(String branchUuid, Node parentNode);
 
+	/**
+	 * Return the content version of the node. The content version is a counter which will be incremented by every mutation which affects the REST response of
+	 * the node (e.g. update, move, publish, tagging, permission changes). It is used to compute the etag of the node without traversing the graph.
+	 * 
+	 * @return
+	 */
+	long getContentVersion();
+
+	/**
+	 * Increment the content version of the node.
+	 */
+	void bumpContentVersion();
+
 	/**
 	 * Create a child node in this node in the latest branch of the project.
 	 * 
@@ -39,6 +39,15 @@ public interface Page<T> extends Iterable<T> {
 	 */
 	long getTotalElements();
 
+	/**
+	 * Return the opaque cursor which can be used to load the next page.
+	 * 
+	 * @return Cursor or null if there is no next page or the page does not support cursors
+	 */
+	default String getNextCursor() {
+		return null;
+	}
+
 	/**
 	 * Return the number of elements which are currently contained within the page.
 	 * 
@@ -60,6 +69,7 @@ public interface Page<T> extends Iterable<T> {
 		info.setPageCount(getPageCount());
 		info.setPerPage(getPerPage());
 		info.setTotalCount(getTotalElements());
+		info.setNextCursor(getNextCursor());
 	}
 
 	/**
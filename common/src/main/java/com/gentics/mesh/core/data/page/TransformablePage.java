@@ -50,6 +50,7 @@ public interface TransformablePage<T extends TransformableElement<? extends Rest
 	 * Return the eTag of the page. The etag is calculated using the following information:
 	 * <ul>
 	 * <li>Number of total elements (all pages)</li>
+	 * <li>Whether a next page exists</li>
 	 * <li>All etags for all found elements</li>
 	 * <li>Number of the current page</li>
 	 * </ul>
@@ -62,6 +63,7 @@ public interface TransformablePage<T extends TransformableElement<? extends Rest
 		builder.append(getTotalElements());
 		builder.append(getNumber());
 		builder.append(getPerPage());
+		builder.append(hasNextPage());
 		for (T element : this) {
 			builder.append("-");
 			builder.append(element.getETag(ac));
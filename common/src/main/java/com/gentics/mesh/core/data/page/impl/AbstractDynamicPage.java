@@ -2,7 +2,9 @@ package com.gentics.mesh.core.data.page.impl;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -37,6 +39,26 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	protected Iterator<? extends T> visibleItems;
 
+	/**
+	 * Whether the total count computation should be skipped.
+	 */
+	protected boolean skipCount;
+
+	/**
+	 * Opaque cursor which was passed along with the paging parameters.
+	 */
+	protected String cursor;
+
+	/**
+	 * Id of the last element of the page. Only set by pages which support cursors.
+	 */
+	protected Object lastElementId;
+
+	/**
+	 * Optional check which is invoked before each element is loaded.
+	 */
+	private Runnable iterationCheck;
+
 	public AbstractDynamicPage(PagingParameters pagingInfo) {
 		if (pagingInfo.getPage() < 1) {
 			throw new GenericRestException(BAD_REQUEST, "error_page_parameter_must_be_positive", String.valueOf(pagingInfo.getPage()));
@@ -54,9 +76,27 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 		} else {
 			this.lowerBound = (pageNumber - 1) * perPage;
 		}
+		this.skipCount = pagingInfo.isSkipCount();
+		this.cursor = pagingInfo.getCursor();
 
 	}
 
+	/**
+	 * Switch to cursor based paging if a cursor was specified. The page must skip all elements up to and including the element which is identified by the
+	 * returned id.
+	 * 
+	 * @return Decoded element id of the cursor or null if no cursor was specified
+	 */
+	protected String useCursor() {
+		if (cursor == null) {
+			return null;
+		}
+		if (perPage != null) {
+			lowerBound = 0L;
+		}
+		return decodeCursor(cursor);
+	}
+
 	@Override
 	public Long getPerPage() {
 		return perPage;
@@ -69,6 +109,8 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 			totalPages = 0L;
 			if (perPage == null) {
 				totalPages = 1L;
+			} else if (perPage != 0 && skipCount) {
+				totalPages = -1L;
 			} else if (perPage != 0) {
 				totalPages = (long) Math.ceil(getTotalElements() / (double) (perPage));
 			}
@@ -83,9 +125,12 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	@Override
 	public long getTotalElements() {
+		if (skipCount) {
+			return -1;
+		}
 		// Iterate over all elements to determine the total count
 		while (visibleItems.hasNext()) {
-			visibleItems.next();
+			nextItem();
 		}
 		return totalCounter.get();
 	}
@@ -94,7 +139,7 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 	public List<? extends T> getWrappedList() {
 		// Iterate over more edges if the page is not yet full and there are any more edges
 		while (visibleItems.hasNext() && !pageFull.get()) {
-			visibleItems.next();
+			nextItem();
 		}
 		return elementsOfPage;
 	}
@@ -103,9 +148,57 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 	public boolean hasNextPage() {
 		// Iterate over more items as long as the hasNextPage flag has not been set
 		while (!hasNextPage.get() && visibleItems.hasNext()) {
-			visibleItems.next();
+			nextItem();
 		}
 		return hasNextPage.get();
 	}
 
+	/**
+	 * Set a check which will be invoked before each element is loaded. The check can abort the iteration by throwing an exception.
+	 * 
+	 * @param iterationCheck
+	 */
+	public void setIterationCheck(Runnable iterationCheck) {
+		this.iterationCheck = iterationCheck;
+	}
+
+	private void nextItem() {
+		if (iterationCheck != null) {
+			iterationCheck.run();
+		}
+		visibleItems.next();
+	}
+
+	@Override
+	public String getNextCursor() {
+		if (lastElementId == null || !hasNextPage()) {
+			return null;
+		}
+		return encodeCursor(lastElementId);
+	}
+
+	/**
+	 * Encode the element id to an opaque cursor.
+	 * 
+	 * @param id
+	 * @return
+	 */
+	public static String encodeCursor(Object id) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decode the opaque cursor to the element id.
+	 * 
+	 * @param cursor
+	 * @return
+	 */
+	public static String decodeCursor(String cursor) {
+		try {
+			return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw new GenericRestException(BAD_REQUEST, "error_invalid_paging_parameters");
+		}
+	}
+
 }
@@ -6,7 +6,9 @@ import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.parameter.PagingParameters;
+import com.gentics.mesh.util.PermissionFilteringIterator;
 import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.traversals.VertexTraversal;
 import com.syncleus.ferma.tx.Tx;
@@ -14,19 +16,26 @@ import com.tinkerpop.blueprints.Direction;
 import com.tinkerpop.blueprints.Edge;
 import com.tinkerpop.blueprints.Vertex;
 
+import java.util.Iterator;
 import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 /**
  * This page implementation will handle paging internally and on-demand. The internal paging will only iterate over as many items as the needed operation
  * requires. Loading the first page will thus only iterate over the elements of the first page. Loading the total count on the other hand requires the
  * implementation to iterate over all edges.
  * 
+ * The page also supports cursor based paging. The next page can be loaded by passing the returned cursor. If the total count computation is skipped, the
+ * elements before the cursor are skipped without loading and checking them and the remaining elements are not iterated. A cursor which points to a
+ * deleted element is rejected since the position of the page can no longer be determined.
+ * 
  * @param <T>
  */
 public class DynamicTransformablePageImpl<T extends TransformableElement<? extends RestModel>> extends AbstractDynamicPage<T>
@@ -141,9 +150,17 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 		AtomicLong pageCounter = new AtomicLong();
 		FramedGraph graph = Tx.getActive().getGraph();
 
-		// Only handle elements which are visible to the user
+		// Skip all elements up to the cursor. If the count is not needed this is done before loading and checking the elements. Otherwise the elements
+		// before the cursor still need to be checked in order to count them.
+		String cursorId = useCursor();
+		AtomicBoolean cursorFound = new AtomicBoolean(false);
+		if (cursorId != null && skipCount) {
+			stream = stream.filter(item -> afterCursor(cursorId, cursorFound, item.getId()));
+		}
+
+		// Only handle elements which are visible to the user. The permissions are checked in batches.
 		if (perm != null) {
-			stream = stream.filter(item -> requestUser.hasPermissionForId(item.getId(), perm));
+			stream = PermissionFilteringIterator.filter(requestUser, stream, perm);
 		}
 
 		Stream<T> framedStream;
@@ -168,6 +185,11 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 		framedStream = framedStream
 			.peek(item -> totalCounter.incrementAndGet());
 
+		if (cursorId != null && !skipCount) {
+			// Elements are no longer framed once the page is full. The cursor has been passed at that point.
+			framedStream = framedStream.filter(item -> item == null || afterCursor(cursorId, cursorFound, item.getId()));
+		}
+
 		if (lowerBound != null) {
 			framedStream = framedStream.skip(lowerBound);
 		}
@@ -178,6 +200,7 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 			long elementsInPage = pageCounter.get();
 			if (perPage == null || elementsInPage < perPage) {
 				elementsOfPage.add(element);
+				lastElementId = element.getId();
 				pageCounter.incrementAndGet();
 			} else {
 				pageFull.set(true);
@@ -185,8 +208,49 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 			}
 		});
 
-		visibleItems = framedStream.iterator();
+		Iterator<T> iterator = framedStream.iterator();
+		if (cursorId == null) {
+			visibleItems = iterator;
+		} else {
+			visibleItems = new Iterator<T>() {
+				@Override
+				public boolean hasNext() {
+					boolean hasNext = iterator.hasNext();
+					// The element of the cursor has been deleted or is no longer visible. Resuming would silently return an empty page.
+					if (!hasNext && !cursorFound.get()) {
+						throw new GenericRestException(BAD_REQUEST, "error_paging_cursor_not_found", cursor);
+					}
+					return hasNext;
+				}
 
+				@Override
+				public T next() {
+					return iterator.next();
+				}
+			};
+		}
+
+	}
+
+	/**
+	 * Check whether the element with the given id is located after the element of the cursor.
+	 * 
+	 * @param cursorId
+	 *            Element id of the cursor
+	 * @param cursorFound
+	 *            Flag which will be set once the element of the cursor was found
+	 * @param id
+	 *            Id of the element to check
+	 * @return
+	 */
+	private static boolean afterCursor(String cursorId, AtomicBoolean cursorFound, Object id) {
+		if (cursorFound.get()) {
+			return true;
+		}
+		if (cursorId.equals(String.valueOf(id))) {
+			cursorFound.set(true);
+		}
+		return false;
 	}
 
 	/**
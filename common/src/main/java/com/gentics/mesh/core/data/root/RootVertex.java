@@ -25,6 +25,7 @@ import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.madlmigration.TraversalResult;
 import com.gentics.mesh.parameter.PagingParameters;
+import com.gentics.mesh.util.PermissionFilteringIterator;
 import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.FramedTransactionalGraph;
 import com.syncleus.ferma.tx.Tx;
@@ -65,9 +66,9 @@ public interface RootVertex<T extends MeshCoreVertex<? extends RestModel, T>> ex
 		FramedTransactionalGraph graph = Tx.getActive().getGraph();
 
 		Spliterator<Edge> itemEdges = graph.getEdges("e." + getRootLabel().toLowerCase() + "_out", id()).spliterator();
-		return StreamSupport.stream(itemEdges, false)
-			.map(edge -> edge.getVertex(Direction.IN))
-			.filter(vertex -> user.hasPermissionForId(vertex.getId(), READ_PERM))
+		Stream<Vertex> vertices = StreamSupport.stream(itemEdges, false)
+			.map(edge -> edge.getVertex(Direction.IN));
+		return PermissionFilteringIterator.filter(user, vertices, READ_PERM)
 			.map(vertex -> graph.frameElementExplicit(vertex, getPersistanceClass()));
 	}
 
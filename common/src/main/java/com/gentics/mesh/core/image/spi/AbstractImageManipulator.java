@@ -27,22 +27,17 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 
 	protected Vertx vertx;
 
+	protected ImageVariantCache cache;
+
 	public AbstractImageManipulator(Vertx vertx, ImageManipulatorOptions options) {
 		this.vertx = vertx;
 		this.options = options;
+		this.cache = new ImageVariantCache(vertx, options);
 	}
 
 	@Override
 	public File getCacheFile(String sha512sum, ImageManipulationParameters parameters) {
-
-		String[] parts = sha512sum.split("(?<=\\G.{8})");
-		StringBuffer buffer = new StringBuffer();
-		buffer.append(File.separator);
-		for (String part : parts) {
-			buffer.append(part + File.separator);
-		}
-
-		File baseFolder = new File(options.getImageCacheDirectory(), buffer.toString());
+		File baseFolder = getCacheFolder(sha512sum);
 		if (!baseFolder.exists()) {
 			baseFolder.mkdirs();
 		}
@@ -53,6 +48,27 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 		return cacheFile;
 	}
 
+	@Override
+	public void evictVariants(String sha512sum) {
+		cache.evictFolder(getCacheFolder(sha512sum));
+	}
+
+	/**
+	 * Return the folder which contains the cached variants of the image with the given sha512 checksum.
+	 * 
+	 * @param sha512sum
+	 * @return
+	 */
+	private File getCacheFolder(String sha512sum) {
+		String[] parts = sha512sum.split("(?<=\\G.{8})");
+		StringBuffer buffer = new StringBuffer();
+		buffer.append(File.separator);
+		for (String part : parts) {
+			buffer.append(part + File.separator);
+		}
+		return new File(options.getImageCacheDirectory(), buffer.toString());
+	}
+
 	@Override
 	public Single<ImageInfo> readImageInfo(String file) {
 		return vertx.rxExecuteBlocking(bh -> {
@@ -29,6 +29,19 @@ public interface ImageManipulator {
 	 */
 	Single<PropReadFileStream> handleResize(Flowable<Buffer> stream, String cacheKey, ImageManipulationParameters imageRequestParameter);
 
+	/**
+	 * Resize the given binary data and return the path to the cache file which contains the resized image data. The file will not be opened which
+	 * allows callers to send the file directly.
+	 * 
+	 * @param stream
+	 *            Binary data stream to be used for resizing
+	 * @param cacheKey
+	 *            Key used to name the local cache file
+	 * @param imageRequestParameter
+	 * @return Path to the cache file
+	 */
+	Single<String> handleResizeToFile(Flowable<Buffer> stream, String cacheKey, ImageManipulationParameters imageRequestParameter);
+
 	/**
 	 * Return the cache file for the given sha512 checksum and image manipulation parameters.
 	 * 
@@ -38,6 +51,13 @@ public interface ImageManipulator {
 	 */
 	File getCacheFile(String sha512sum, ImageManipulationParameters parameters);
 
+	/**
+	 * Remove all cached variants of the image with the given sha512 checksum.
+	 * 
+	 * @param sha512sum
+	 */
+	void evictVariants(String sha512sum);
+
 	/**
 	 * Read the image information from image file.
 	 * 
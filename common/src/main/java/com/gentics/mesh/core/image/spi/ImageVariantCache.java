@@ -0,0 +1,256 @@
+package com.gentics.mesh.core.image.spi;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.core.Vertx;
+
+/**
+ * Index of the image variants within the image cache directory.
+ *
+ * The index keeps track of the size and the last access of every cached image. The least recently used images will be removed in the background once
+ * the configured size limit has been exceeded. The index is kept in memory and will be populated from the cache directory on startup. Images from
+ * previous runs are treated as less recently used than any image which was accessed since the startup and are ordered by their modification date.
+ */
+public class ImageVariantCache {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageVariantCache.class);
+
+	private static final MetricRegistry metricRegistry = SharedMetricRegistries.getOrCreate("mesh");
+
+	/**
+	 * Name of the counter for requests which could be served from the cache.
+	 */
+	public static final String HIT = "image.cache.hit";
+
+	/**
+	 * Name of the counter for requests which required the image to be resized.
+	 */
+	public static final String MISS = "image.cache.miss";
+
+	/**
+	 * Name of the counter for images which were removed from the cache.
+	 */
+	public static final String EVICTION = "image.cache.eviction";
+
+	/**
+	 * The eviction removes images until the cache size drops below this fraction of the limit. This avoids running the eviction for each added image.
+	 */
+	private static final double EVICTION_WATERMARK = 0.9;
+
+	private final Vertx vertx;
+
+	private final File cacheDirectory;
+
+	private final long maxSize;
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private final AtomicLong size = new AtomicLong();
+
+	private final AtomicLong clock = new AtomicLong();
+
+	private final AtomicBoolean evicting = new AtomicBoolean();
+
+	public ImageVariantCache(Vertx vertx, ImageManipulatorOptions options) {
+		this.vertx = vertx;
+		this.cacheDirectory = new File(options.getImageCacheDirectory()).getAbsoluteFile();
+		this.maxSize = options.getImageCacheMaxSize();
+		vertx.executeBlocking(bh -> {
+			index();
+			bh.complete();
+		}, false, rh -> {
+			if (rh.failed()) {
+				log.error("Indexing the image cache directory {" + cacheDirectory + "} failed", rh.cause());
+			}
+			evictIfNeeded();
+		});
+	}
+
+	/**
+	 * Check whether the given image is cached and record the access.
+	 *
+	 * @param cacheFile
+	 * @return true if the image exists in the cache
+	 */
+	public boolean lookup(File cacheFile) {
+		String key = cacheFile.getAbsolutePath();
+		if (cacheFile.exists()) {
+			Entry entry = entries.get(key);
+			if (entry == null) {
+				// The image has not yet been indexed
+				add(key, new Entry(cacheFile.length(), clock.incrementAndGet()));
+			} else {
+				entry.lastAccess = clock.incrementAndGet();
+			}
+			metricRegistry.counter(HIT).inc();
+			return true;
+		}
+		// The image may have been removed by an external process
+		forget(key);
+		metricRegistry.counter(MISS).inc();
+		return false;
+	}
+
+	/**
+	 * Add the written image to the index. The least recently used images will be evicted if the cache size exceeds the limit.
+	 *
+	 * @param cacheFile
+	 */
+	public void put(File cacheFile) {
+		add(cacheFile.getAbsolutePath(), new Entry(cacheFile.length(), clock.incrementAndGet()));
+		evictIfNeeded();
+	}
+
+	/**
+	 * Remove all images within the given folder from the cache. The folder and its empty parent folders will be deleted as well.
+	 *
+	 * @param folder
+	 *            Cache folder which contains the variants of a single image
+	 */
+	public void evictFolder(File folder) {
+		File[] files = folder.listFiles();
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
+			evict(file);
+		}
+		File dir = folder.getAbsoluteFile();
+		while (dir != null && !dir.equals(cacheDirectory) && dir.delete()) {
+			dir = dir.getParentFile();
+		}
+	}
+
+	/**
+	 * Return the total size of the indexed images in bytes.
+	 *
+	 * @return
+	 */
+	public long getSize() {
+		return size.get();
+	}
+
+	/**
+	 * Start the eviction in the background if the cache exceeds the size limit and no other eviction is running.
+	 */
+	private void evictIfNeeded() {
+		if (maxSize < 0 || size.get() <= maxSize || !evicting.compareAndSet(false, true)) {
+			return;
+		}
+		vertx.executeBlocking(bh -> {
+			evictLeastRecentlyUsed();
+			bh.complete();
+		}, false, rh -> {
+			evicting.set(false);
+			if (rh.failed()) {
+				log.error("Evicting images from the cache failed", rh.cause());
+			}
+		});
+	}
+
+	/**
+	 * Remove the least recently used images until the cache size drops below the watermark.
+	 */
+	private void evictLeastRecentlyUsed() {
+		long target = (long) (maxSize * EVICTION_WATERMARK);
+		// Take a snapshot of the access times since they may change while sorting
+		List<Candidate> candidates = new ArrayList<>(entries.size());
+		for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+			candidates.add(new Candidate(entry.getKey(), entry.getValue().lastAccess));
+		}
+		candidates.sort(Comparator.comparingLong(c -> c.lastAccess));
+		for (Candidate candidate : candidates) {
+			if (size.get() <= target) {
+				break;
+			}
+			evict(new File(candidate.path));
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Image cache size after eviction {" + size.get() + "} bytes");
+		}
+	}
+
+	private void evict(File file) {
+		forget(file.getAbsolutePath());
+		if (file.delete()) {
+			metricRegistry.counter(EVICTION).inc();
+		}
+	}
+
+	private void add(String key, Entry entry) {
+		Entry previous = entries.put(key, entry);
+		size.addAndGet(entry.size - (previous == null ? 0 : previous.size));
+	}
+
+	private void forget(String key) {
+		Entry entry = entries.remove(key);
+		if (entry != null) {
+			size.addAndGet(-entry.size);
+		}
+	}
+
+	/**
+	 * Add all images from the cache directory to the index.
+	 */
+	private void index() {
+		if (!cacheDirectory.exists()) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		try (Stream<Path> stream = Files.walk(cacheDirectory.toPath())) {
+			stream.filter(Files::isRegularFile).forEach(path -> {
+				File file = path.toFile();
+				// Negative access values keep the images of previous runs behind the images which were accessed since the startup
+				Entry entry = new Entry(file.length(), file.lastModified() - now);
+				if (entries.putIfAbsent(file.getAbsolutePath(), entry) == null) {
+					size.addAndGet(entry.size);
+				}
+			});
+		} catch (IOException e) {
+			throw new RuntimeException("Could not read the image cache directory {" + cacheDirectory + "}", e);
+		}
+		log.info("Indexed {" + entries.size() + "} cached images with a total size of {" + size.get() + "} bytes");
+	}
+
+	private static class Entry {
+
+		private final long size;
+
+		private volatile long lastAccess;
+
+		private Entry(long size, long lastAccess) {
+			this.size = size;
+			this.lastAccess = lastAccess;
+		}
+	}
+
+	private static class Candidate {
+
+		private final String path;
+
+		private final long lastAccess;
+
+		private Candidate(String path, long lastAccess) {
+			this.path = path;
+			this.lastAccess = lastAccess;
+		}
+	}
+
+}
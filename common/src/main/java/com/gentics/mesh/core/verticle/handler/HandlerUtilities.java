@@ -3,6 +3,7 @@ package com.gentics.mesh.core.verticle.handler;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.DELETE_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
@@ -26,9 +27,11 @@ import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.data.search.SearchQueue;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
+import com.gentics.mesh.core.rest.common.ListResponse;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.error.NotModifiedException;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.util.ResultInfo;
 import com.gentics.mesh.util.Tuple;
@@ -38,7 +41,9 @@ import com.syncleus.ferma.tx.TxAction0;
 import com.syncleus.ferma.tx.TxAction1;
 import com.syncleus.ferma.tx.TxAction2;
 
+import io.reactivex.Single;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -50,6 +55,10 @@ public class HandlerUtilities {
 
 	private static final Logger log = LoggerFactory.getLogger(HandlerUtilities.class);
 
+	private static final String LIST_START = "{\"data\":[";
+
+	private static final String LIST_END = "],\"_metainfo\":";
+
 	private Database database;
 	private SearchQueue searchQueue;
 
@@ -228,7 +237,7 @@ public class HandlerUtilities {
 	 *            Handler which provides the root vertex which should be used when loading the element
 	 */
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void readElementList(InternalActionContext ac, TxAction1<RootVertex<T>> handler) {
-		asyncTx(ac, (tx) -> {
+		database.asyncTx(() -> {
 			RootVertex<T> root = handler.handle();
 
 			PagingParameters pagingInfo = ac.getPagingParameters();
@@ -242,8 +251,35 @@ public class HandlerUtilities {
 					throw new NotModifiedException();
 				}
 			}
-			return page.transformToRest(ac, 0).blockingGet();
-		}, (e) -> ac.send(e, OK));
+			if (ac.getGenericParameters().getPrettyPrint()) {
+				return Single.just(JsonUtil.toJsonBuffer(page.transformToRest(ac, 0).blockingGet(), true));
+			}
+			return Single.just(serializeList(ac, page));
+		}).subscribe(body -> ac.send(body, OK, APPLICATION_JSON_UTF8), ac::fail);
+	}
+
+	/**
+	 * Transform the elements of the page one by one and append each serialized element to the response buffer. This way the response does not have to be
+	 * kept in memory as rest model.
+	 * 
+	 * @param ac
+	 * @param page
+	 * @return Serialized list response
+	 */
+	private <T extends MeshCoreVertex<RM, T>, RM extends RestModel> Buffer serializeList(InternalActionContext ac,
+		TransformablePage<? extends T> page) {
+		Buffer body = Buffer.buffer(LIST_START);
+		boolean first = true;
+		for (T element : page) {
+			if (!first) {
+				body.appendString(",");
+			}
+			first = false;
+			body.appendBuffer(JsonUtil.toJsonBuffer(element.transformToRestSync(ac, 0), false));
+		}
+		ListResponse<RestModel> listResponse = new ListResponse<>();
+		page.setPaging(listResponse);
+		return body.appendString(LIST_END).appendBuffer(JsonUtil.toJsonBuffer(listResponse.getMetainfo(), false)).appendString("}");
 	}
 
 	/**
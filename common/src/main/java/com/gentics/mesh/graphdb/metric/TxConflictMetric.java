@@ -0,0 +1,76 @@
+package com.gentics.mesh.graphdb.metric;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
+
+/**
+ * Counters for transaction conflicts. The conflicts are counted per vertex class in order to identify the elements which cause most of the conflicts.
+ */
+public final class TxConflictMetric {
+
+	private static final MetricRegistry metricRegistry = SharedMetricRegistries.getOrCreate("mesh");
+
+	public static final String PREFIX = "graph.tx.conflict.";
+
+	/**
+	 * Name of the counter for all conflicts which could be resolved by retrying the transaction.
+	 */
+	public static final String RETRIED = "graph.tx.retry.total";
+
+	/**
+	 * Name of the counter for all transactions which failed since the retry limit or time budget was exceeded.
+	 */
+	public static final String EXHAUSTED = "graph.tx.retry.exhausted";
+
+	private TxConflictMetric() {
+	}
+
+	/**
+	 * Record a conflict which was caused by an element of the given type.
+	 *
+	 * @param type
+	 *            Vertex class of the conflicting element or null if the type is unknown
+	 */
+	public static void conflict(String type) {
+		metricRegistry.counter(PREFIX + (type == null ? "unknown" : type)).inc();
+	}
+
+	/**
+	 * Record a retry of a transaction.
+	 */
+	public static void retried() {
+		metricRegistry.counter(RETRIED).inc();
+	}
+
+	/**
+	 * Record a transaction which could not be completed within the retry limits.
+	 */
+	public static void exhausted() {
+		metricRegistry.counter(EXHAUSTED).inc();
+	}
+
+	/**
+	 * Return the conflict counts per vertex class.
+	 *
+	 * @return
+	 */
+	public static Map<String, Long> fetch() {
+		Map<String, Long> map = new HashMap<>();
+		for (Map.Entry<String, Counter> entry : metricRegistry.getCounters((name, metric) -> name.startsWith(PREFIX)).entrySet()) {
+			map.put(entry.getKey().substring(PREFIX.length()), entry.getValue().getCount());
+		}
+		return map;
+	}
+
+	/**
+	 * Remove all conflict metrics.
+	 */
+	public static void reset() {
+		metricRegistry.removeMatching((name, metric) -> name.startsWith(PREFIX) || name.equals(RETRIED) || name.equals(EXHAUSTED));
+	}
+
+}
@@ -0,0 +1,152 @@
+package com.gentics.mesh.graphdb.metric;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Lightweight trace of an asynchronous transaction.
+ *
+ * The call site of a transaction is identified by the REST endpoint which is currently handled by the thread. Transactions which are started outside of
+ * an endpoint are identified by the class which declared the transaction handler. The stacktrace of the caller is only captured when
+ * debug logging is enabled for this class or when the transaction was selected by sampling. The duration of each transaction is recorded per call site.
+ */
+public final class TxTrace {
+
+	private static final Logger log = LoggerFactory.getLogger(TxTrace.class);
+
+	private static final MetricRegistry metricRegistry = SharedMetricRegistries.getOrCreate("mesh");
+
+	public static final String PREFIX = "graph.tx.duration.";
+
+	public static final String SAMPLE_RATE_PARAMETER_KEY = "txTraceSampleRate";
+
+	/**
+	 * Call site ids of the handler classes. Lambda classes are mapped to the class which declared the lambda.
+	 */
+	private static final ClassValue<String> CALL_SITES = new ClassValue<String>() {
+		@Override
+		protected String computeValue(Class<?> type) {
+			String name = type.getName();
+			int lambdaIdx = name.indexOf("$$Lambda");
+			if (lambdaIdx != -1) {
+				name = name.substring(0, lambdaIdx);
+			}
+			return name.substring(name.lastIndexOf('.') + 1);
+		}
+	};
+
+	/**
+	 * Endpoint which is currently handled by the thread.
+	 */
+	private static final ThreadLocal<String> ENDPOINT = new ThreadLocal<>();
+
+	private static volatile double sampleRate = 0;
+
+	private final String callSite;
+
+	private final Exception origin;
+
+	private volatile long start = System.nanoTime();
+
+	private TxTrace(String callSite, Exception origin) {
+		this.callSite = callSite;
+		this.origin = origin;
+	}
+
+	/**
+	 * Start the trace for the given transaction handler.
+	 *
+	 * @param handler
+	 * @return
+	 */
+	public static TxTrace start(Object handler) {
+		String callSite = ENDPOINT.get();
+		if (callSite == null) {
+			callSite = CALL_SITES.get(handler.getClass());
+		}
+		Exception origin = null;
+		if (log.isDebugEnabled() || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+			origin = new Exception("Transaction stacktrace of call site {" + callSite + "}");
+		}
+		return new TxTrace(callSite, origin);
+	}
+
+	/**
+	 * Invoke the action and identify all transactions which are started by it with the given endpoint.
+	 *
+	 * @param endpoint
+	 *            Id of the endpoint (e.g. "GET /{project}/nodes/{nodeUuid}")
+	 * @param action
+	 */
+	public static void inEndpoint(String endpoint, Runnable action) {
+		String previous = ENDPOINT.get();
+		ENDPOINT.set(endpoint);
+		try {
+			action.run();
+		} finally {
+			if (previous == null) {
+				ENDPOINT.remove();
+			} else {
+				ENDPOINT.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * Set the fraction of the transactions for which the stacktrace of the caller should be captured.
+	 *
+	 * @param parameters
+	 *            Graph storage parameters (may be null)
+	 */
+	public static void configure(Map<String, String> parameters) {
+		String value = parameters == null ? null : parameters.get(SAMPLE_RATE_PARAMETER_KEY);
+		sampleRate = value == null ? 0 : Double.parseDouble(value);
+	}
+
+	/**
+	 * Mark the begin of the transaction. The time which the transaction waited for a worker thread will not be recorded.
+	 */
+	public void begin() {
+		start = System.nanoTime();
+	}
+
+	/**
+	 * Record the duration of the transaction.
+	 */
+	public void done() {
+		metricRegistry.timer(PREFIX + callSite).update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Return the id of the call site.
+	 *
+	 * @return
+	 */
+	public String getCallSite() {
+		return callSite;
+	}
+
+	/**
+	 * Return the captured stacktrace of the caller.
+	 *
+	 * @return Exception which holds the stacktrace or null if the stacktrace was not captured
+	 */
+	public Exception getOrigin() {
+		return origin;
+	}
+
+	/**
+	 * Remove all duration metrics.
+	 */
+	public static void reset() {
+		metricRegistry.removeMatching((name, metric) -> name.startsWith(PREFIX));
+	}
+
+}
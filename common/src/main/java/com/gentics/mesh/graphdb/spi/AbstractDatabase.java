@@ -22,6 +22,7 @@ public abstract class AbstractDatabase implements Database {
 	protected MeshOptions options;
 	protected String meshVersion;
 	protected String[] basePaths;
+	protected TxRetryPolicy retryPolicy = new TxRetryPolicy();
 
 	@Override
 	public void clear() {
@@ -45,6 +46,11 @@ public abstract class AbstractDatabase implements Database {
 		this.basePaths = basePaths;
 	}
 
+	@Override
+	public TxRetryPolicy getTxRetryPolicy() {
+		return retryPolicy;
+	}
+
 	/**
 	 * Return the graph database storage options.
 	 * 
@@ -0,0 +1,76 @@
+package com.gentics.mesh.graphdb.spi;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Actions which are deferred until the transaction of the current thread has been committed.
+ *
+ * The scopes are opened by {@link Database#tx(com.syncleus.ferma.tx.TxAction)} for each attempt of the transaction. Actions of attempts which failed or
+ * which were retried are discarded. Actions which are registered outside of such a scope are executed immediately.
+ */
+public final class CommitHooks {
+
+	private static final Logger log = LoggerFactory.getLogger(CommitHooks.class);
+
+	private static final ThreadLocal<Deque<List<Runnable>>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+	private CommitHooks() {
+	}
+
+	/**
+	 * Run the action once the current transaction has been committed. The action is executed immediately if no transaction scope is active.
+	 *
+	 * @param action
+	 */
+	public static void afterCommit(Runnable action) {
+		Deque<List<Runnable>> scopes = SCOPES.get();
+		if (scopes.isEmpty()) {
+			action.run();
+		} else {
+			scopes.peek().add(action);
+		}
+	}
+
+	/**
+	 * Open a new scope for the actions of a transaction attempt.
+	 */
+	public static void begin() {
+		SCOPES.get().push(new ArrayList<>());
+	}
+
+	/**
+	 * Close the current scope.
+	 *
+	 * @return Actions which were registered within the scope
+	 */
+	public static List<Runnable> end() {
+		Deque<List<Runnable>> scopes = SCOPES.get();
+		List<Runnable> actions = scopes.pop();
+		if (scopes.isEmpty()) {
+			SCOPES.remove();
+		}
+		return actions;
+	}
+
+	/**
+	 * Run the actions of a committed transaction. The actions are passed to the enclosing scope if the transaction was nested within another transaction.
+	 *
+	 * @param actions
+	 */
+	public static void committed(List<Runnable> actions) {
+		for (Runnable action : actions) {
+			try {
+				afterCommit(action);
+			} catch (Exception e) {
+				log.error("Error while running the commit action", e);
+			}
+		}
+	}
+
+}
@@ -1,17 +1,21 @@
 package com.gentics.mesh.graphdb.spi;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicReference;
 
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterStatusResponse;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.metric.TxTrace;
 import com.gentics.mesh.graphdb.model.MeshElement;
 import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.ElementFrame;
@@ -28,6 +32,8 @@ import com.tinkerpop.blueprints.Vertex;
 import io.reactivex.Completable;
 import io.reactivex.Single;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -67,6 +73,13 @@ public interface Database extends TxFactory {
 	 */
 	void clear();
 
+	/**
+	 * Return the retry policy which is used for transactions that failed due to a conflict.
+	 * 
+	 * @return
+	 */
+	TxRetryPolicy getTxRetryPolicy();
+
 	/**
 	 * Asynchronously execute the given handler within a transaction and return the completable.
 	 * 
@@ -74,25 +87,11 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default Completable asyncTx(TxAction0 txHandler) {
-		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
-		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
-		try {
-			throw new Exception("Transaction timeout exception");
-		} catch (Exception e1) {
-			reference.set(e1);
-		}
-
+		TxTrace trace = TxTrace.start(txHandler);
 		return Completable.create(sub -> {
-			Mesh.vertx().executeBlocking(bc -> {
-				try (Tx tx = tx()) {
-					txHandler.handle();
-					bc.complete();
-				} catch (Exception e) {
-					if (log.isTraceEnabled()) {
-						log.trace("Error while handling no-transaction.", e);
-					}
-					bc.fail(e);
-				}
+			executeAsyncTx(trace, tx -> {
+				txHandler.handle();
+				return null;
 			}, false, done -> {
 				if (done.failed()) {
 					sub.onError(done.cause());
@@ -110,41 +109,9 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default <T> Single<T> asyncTx(TxAction1<Single<T>> trxHandler) {
-		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
-		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
-		try {
-			throw new Exception("Transaction timeout exception");
-		} catch (Exception e1) {
-			reference.set(e1);
-		}
-
+		TxTrace trace = TxTrace.start(trxHandler);
 		return Single.create(sub -> {
-			Mesh.vertx().executeBlocking(bc -> {
-				try (Tx tx = tx()) {
-					Single<T> result = trxHandler.handle();
-					if (result == null) {
-						bc.complete();
-					} else {
-						try {
-							T ele = result.timeout(40, TimeUnit.SECONDS).blockingGet();
-							bc.complete(ele);
-						} catch (Exception e2) {
-							if (e2 instanceof TimeoutException) {
-								log.error("Timeout while processing result of transaction handler.", e2);
-								log.error("Calling transaction stacktrace.", reference.get());
-								bc.fail(reference.get());
-							} else {
-								throw e2;
-							}
-						}
-					}
-				} catch (Exception e) {
-					if (log.isTraceEnabled()) {
-						log.trace("Error while handling no-transaction.", e);
-					}
-					bc.fail(e);
-				}
-			}, false, (AsyncResult<T> done) -> {
+			executeAsyncTx(trace, tx -> trxHandler.handle(), false, (AsyncResult<T> done) -> {
 				if (done.failed()) {
 					sub.onError(done.cause());
 				} else {
@@ -161,41 +128,9 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default <T> Single<T> asyncTx(TxAction<Single<T>> trxHandler) {
-		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
-		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
-		try {
-			throw new Exception("Transaction timeout exception");
-		} catch (Exception e1) {
-			reference.set(e1);
-		}
-
+		TxTrace trace = TxTrace.start(trxHandler);
 		return Single.create(sub -> {
-			Mesh.vertx().executeBlocking(bc -> {
-				try (Tx tx = tx()) {
-					Single<T> result = trxHandler.handle(tx);
-					if (result == null) {
-						bc.complete();
-					} else {
-						try {
-							T ele = result.timeout(40, TimeUnit.SECONDS).blockingGet();
-							bc.complete(ele);
-						} catch (Exception e2) {
-							if (e2 instanceof TimeoutException) {
-								log.error("Timeout while processing result of transaction handler.", e2);
-								log.error("Calling transaction stacktrace.", reference.get());
-								bc.fail(reference.get());
-							} else {
-								throw e2;
-							}
-						}
-					}
-				} catch (Exception e) {
-					if (!(e instanceof GenericRestException)) {
-						log.error("Error while handling no-transaction.", e);
-					}
-					bc.fail(e);
-				}
-			}, false, (AsyncResult<T> done) -> {
+			executeAsyncTx(trace, trxHandler, true, (AsyncResult<T> done) -> {
 				if (done.failed()) {
 					sub.onError(done.cause());
 				} else {
@@ -205,6 +140,76 @@ public interface Database extends TxFactory {
 		});
 	}
 
+	/**
+	 * Execute the handler within a transaction in a worker pool thread. The single which was returned by the handler is subscribed within the transaction
+	 * and the worker thread blocks until the single emitted its result. The transaction can't be completed from the callback of the single instead, since
+	 * it is bound to the thread which opened it. Delayed results may thus still read the graph via the given transaction but keep the worker thread busy.
+	 * 
+	 * The handler is not retried when it fails due to a conflict since it may already have triggered side effects (e.g. events or file operations). Graph
+	 * modifications within the handler should thus use {@link #tx(TxAction)} which retries the modification according to the {@link TxRetryPolicy}.
+	 * 
+	 * @param trace
+	 *            Trace of the transaction
+	 * @param trxHandler
+	 *            Handler which will be invoked within the transaction
+	 * @param logErrors
+	 *            Whether errors other than {@link GenericRestException} should be logged
+	 * @param resultHandler
+	 */
+	default <T> void executeAsyncTx(TxTrace trace, TxAction<Single<T>> trxHandler, boolean logErrors, Handler<AsyncResult<T>> resultHandler) {
+		Mesh.vertx().executeBlocking((Future<T> bc) -> {
+			trace.begin();
+			try {
+				T result;
+				try (Tx tx = tx()) {
+					result = awaitResult(trxHandler.handle(tx), trace);
+				}
+				bc.complete(result);
+			} catch (Exception e) {
+				if (logErrors && !(e instanceof GenericRestException)) {
+					log.error("Error while handling no-transaction.", e);
+				} else if (log.isTraceEnabled()) {
+					log.trace("Error while handling no-transaction.", e);
+				}
+				bc.fail(e);
+			} finally {
+				trace.done();
+			}
+		}, false, resultHandler);
+	}
+
+	/**
+	 * Subscribe to the result of a transaction handler and block the current thread until it has been emitted or the timeout of 40 seconds has passed.
+	 * 
+	 * @param result
+	 *            Result of the handler (may be null)
+	 * @param trace
+	 *            Trace of the transaction which is used to identify the call site when the result was not emitted in time
+	 * @return Emitted value
+	 * @throws Exception
+	 *             Error which was emitted by the single or a timeout exception
+	 */
+	static <T> T awaitResult(Single<T> result, TxTrace trace) throws Exception {
+		if (result == null) {
+			return null;
+		}
+		CompletableFuture<T> future = new CompletableFuture<>();
+		result.subscribe(future::complete, future::completeExceptionally);
+		try {
+			return future.get(40, TimeUnit.SECONDS);
+		} catch (TimeoutException e) {
+			Exception timeout = new Exception("Transaction timeout exception in {" + trace.getCallSite() + "}", trace.getOrigin());
+			log.error("Timeout while processing result of transaction handler.", timeout);
+			throw timeout;
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			}
+			throw e;
+		}
+	}
+
 	/**
 	 * Initialise the database and store the settings.
 	 * 
@@ -306,6 +311,16 @@ public interface Database extends TxFactory {
 	 */
 	Object createComposedIndexKey(Object... keys);
 
+	/**
+	 * Return a compact numeric representation of the given element id. The value is stable across transactions and can thus be used as a primitive key
+	 * for caches.
+	 * 
+	 * @param id
+	 *            Element id
+	 * @return Numeric representation of the id or -1 if the id is not (yet) persistent
+	 */
+	long getElementIdAsLong(Object id);
+
 	/**
 	 * Add a vertex index for the given type of vertex and fields.
 	 * 
@@ -478,6 +493,17 @@ public interface Database extends TxFactory {
 	 */
 	List<Object> edgeLookup(String edgeLabel, String indexPostfix, Object key);
 
+	/**
+	 * Perform a batched edge SB-Tree index lookup. All given keys will be resolved by a single read of the index for the given edge label and postfix.
+	 * 
+	 * @param edgeLabel
+	 * @param indexPostfix
+	 * @param keys
+	 *            Keys which were created via {@link #createComposedIndexKey(Object...)}
+	 * @return Set of the given keys for which at least one edge was found
+	 */
+	Set<Object> edgeKeyLookup(String edgeLabel, String indexPostfix, Collection<?> keys);
+
 	/**
 	 * Join the cluster and block until the graph database has been received.
 	 * 
@@ -0,0 +1,146 @@
+package com.gentics.mesh.graphdb.spi;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Retry policy for transactions which failed due to a conflict (e.g. a concurrent modification of the same element).
+ *
+ * The delay between two attempts grows exponentially and is randomized (jitter) to avoid that the conflicting transactions retry in lockstep. The retries
+ * are bounded by the maximum amount of attempts and by a time budget. The time budget prevents a worker thread from being blocked for a long time by a hot
+ * element.
+ */
+public class TxRetryPolicy {
+
+	private static final Logger log = LoggerFactory.getLogger(TxRetryPolicy.class);
+
+	public static final String MAX_RETRY_PARAMETER_KEY = "maxTransactionRetry";
+	public static final String BASE_DELAY_PARAMETER_KEY = "txRetryBaseDelay";
+	public static final String MAX_DELAY_PARAMETER_KEY = "txRetryMaxDelay";
+	public static final String TIME_BUDGET_PARAMETER_KEY = "txRetryTimeBudget";
+
+	public static final int DEFAULT_MAX_RETRY = 100;
+	public static final long DEFAULT_BASE_DELAY = 10;
+	public static final long DEFAULT_MAX_DELAY = 1000;
+	public static final long DEFAULT_TIME_BUDGET = 20_000;
+
+	private final int maxRetry;
+
+	private final long baseDelay;
+
+	private final long maxDelay;
+
+	private final long timeBudget;
+
+	/**
+	 * Create a new policy using the default settings.
+	 */
+	public TxRetryPolicy() {
+		this(DEFAULT_MAX_RETRY, DEFAULT_BASE_DELAY, DEFAULT_MAX_DELAY, DEFAULT_TIME_BUDGET);
+	}
+
+	/**
+	 * Create a new policy.
+	 *
+	 * @param maxRetry
+	 *            Maximum amount of attempts
+	 * @param baseDelay
+	 *            Delay in milliseconds before the first retry
+	 * @param maxDelay
+	 *            Upper bound of the delay in milliseconds between two attempts
+	 * @param timeBudget
+	 *            Maximum time in milliseconds which may be spent on retrying a single transaction
+	 */
+	public TxRetryPolicy(int maxRetry, long baseDelay, long maxDelay, long timeBudget) {
+		this.maxRetry = maxRetry;
+		this.baseDelay = baseDelay;
+		this.maxDelay = maxDelay;
+		this.timeBudget = timeBudget;
+	}
+
+	/**
+	 * Create the policy using the given storage parameters. Missing parameters will be set to the default values.
+	 *
+	 * @param parameters
+	 *            Graph storage parameters (may be null)
+	 * @return
+	 */
+	public static TxRetryPolicy fromParameters(Map<String, String> parameters) {
+		if (parameters == null) {
+			return new TxRetryPolicy();
+		}
+		int maxRetry = (int) parse(parameters, MAX_RETRY_PARAMETER_KEY, DEFAULT_MAX_RETRY);
+		long baseDelay = parse(parameters, BASE_DELAY_PARAMETER_KEY, DEFAULT_BASE_DELAY);
+		long maxDelay = parse(parameters, MAX_DELAY_PARAMETER_KEY, DEFAULT_MAX_DELAY);
+		long timeBudget = parse(parameters, TIME_BUDGET_PARAMETER_KEY, DEFAULT_TIME_BUDGET);
+		log.info("Using {" + maxRetry + "} transaction retries with a delay of {" + baseDelay + "-" + maxDelay + "} ms and a time budget of {" + timeBudget
+			+ "} ms");
+		return new TxRetryPolicy(maxRetry, baseDelay, maxDelay, timeBudget);
+	}
+
+	private static long parse(Map<String, String> parameters, String key, long defaultValue) {
+		String value = parameters.get(key);
+		return value == null ? defaultValue : Long.parseLong(value);
+	}
+
+	/**
+	 * Return the delay in milliseconds before the next attempt. The upper bound of the delay doubles with every retry. The actual delay is randomly chosen
+	 * between half of the bound and the bound.
+	 *
+	 * @param retry
+	 *            Number of the failed attempt (starting with 0)
+	 * @return
+	 */
+	public long getDelay(int retry) {
+		long bound = Math.min(maxDelay, baseDelay << Math.min(retry, 20));
+		if (bound <= 1) {
+			return bound;
+		}
+		return ThreadLocalRandom.current().nextLong(bound / 2, bound + 1);
+	}
+
+	/**
+	 * Check whether another attempt may be made.
+	 *
+	 * @param retry
+	 *            Number of the failed attempt (starting with 0)
+	 * @param start
+	 *            Timestamp in milliseconds of the first attempt
+	 * @param delay
+	 *            Delay which would be waited before the next attempt
+	 * @return
+	 */
+	public boolean canRetry(int retry, long start, long delay) {
+		if (retry + 1 >= maxRetry) {
+			return false;
+		}
+		return System.currentTimeMillis() - start + delay <= timeBudget;
+	}
+
+	/**
+	 * Wait before the next attempt.
+	 *
+	 * @param delay
+	 *            Delay in milliseconds
+	 */
+	public void await(long delay) {
+		try {
+			Thread.sleep(delay);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while waiting for the transaction retry", e);
+		}
+	}
+
+	public int getMaxRetry() {
+		return maxRetry;
+	}
+
+	public long getTimeBudget() {
+		return timeBudget;
+	}
+
+}
@@ -47,6 +47,12 @@ public class GenericParametersImpl extends AbstractParameters implements Generic
 		etagParam.setDefaultValue("true");
 		parameters.put(FIELDS_PARAM_KEY, etagParam);
 
+		QueryParameter prettyPrintParam = new QueryParameter();
+		prettyPrintParam.setDescription("Parameter which can be used to indent the JSON response. Compact JSON will be returned by default.");
+		prettyPrintParam.setType(ParamType.BOOLEAN);
+		prettyPrintParam.setDefaultValue("false");
+		parameters.put(PRETTY_PRINT_PARAM_KEY, prettyPrintParam);
+
 		return parameters;
 	}
 
@@ -98,6 +98,24 @@ public class PagingParametersImpl extends AbstractParameters implements PagingPa
 		perPageParameter.setRequired(false);
 		perPageParameter.setType(ParamType.NUMBER);
 		parameters.put(PER_PAGE_PARAMETER_KEY, perPageParameter);
+
+		// cursor
+		QueryParameter cursorParameter = new QueryParameter();
+		cursorParameter.setDescription(
+			"Opaque cursor which was returned as nextCursor by the previous page. The page will start after the last element of the previous page and the page parameter will be ignored.");
+		cursorParameter.setRequired(false);
+		cursorParameter.setType(ParamType.STRING);
+		parameters.put(CURSOR_PARAMETER_KEY, cursorParameter);
+
+		// skipCount
+		QueryParameter skipCountParameter = new QueryParameter();
+		skipCountParameter.setDefaultValue("false");
+		skipCountParameter.setDescription(
+			"Skip the computation of the total count and page count. Both values will be set to -1. This avoids loading all elements and is useful for deep paging.");
+		skipCountParameter.setExample("true");
+		skipCountParameter.setRequired(false);
+		skipCountParameter.setType(ParamType.BOOLEAN);
+		parameters.put(SKIP_COUNT_PARAMETER_KEY, skipCountParameter);
 		return parameters;
 	}
 
@@ -22,6 +22,7 @@ import org.raml.model.parameter.QueryParameter;
 import org.raml.model.parameter.UriParameter;
 
 import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.graphdb.metric.TxTrace;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.ParameterProvider;
 import com.gentics.mesh.rest.InternalEndpointRoute;
@@ -72,6 +73,8 @@ public class InternalEndpointRouteImpl implements InternalEndpointRoute {
 
 	private String ramlPath;
 
+	private final String basePath;
+
 	private final Set<String> consumes = new LinkedHashSet<>();
 	private final Set<String> produces = new LinkedHashSet<>();
 
@@ -83,7 +86,19 @@ public class InternalEndpointRouteImpl implements InternalEndpointRoute {
 	 * @param router
 	 */
 	public InternalEndpointRouteImpl(Router router) {
+		this(router, null);
+	}
+
+	/**
+	 * Create a new endpoint wrapper using the provided router to create the wrapped route instance.
+	 * 
+	 * @param router
+	 * @param basePath
+	 *            Base path of the router which is used to identify the endpoint in transaction traces
+	 */
+	public InternalEndpointRouteImpl(Router router, String basePath) {
 		this.route = router.route();
+		this.basePath = basePath;
 	}
 
 	@Override
@@ -139,7 +154,7 @@ public class InternalEndpointRouteImpl implements InternalEndpointRoute {
 	@Override
 	public InternalEndpointRoute handler(Handler<RoutingContext> requestHandler) {
 		validate();
-		route.handler(requestHandler);
+		route.handler(traced(requestHandler));
 		return this;
 	}
 
@@ -180,16 +195,34 @@ public class InternalEndpointRouteImpl implements InternalEndpointRoute {
 
 	@Override
 	public InternalEndpointRoute blockingHandler(Handler<RoutingContext> requestHandler) {
-		route.blockingHandler(requestHandler);
+		route.blockingHandler(traced(requestHandler));
 		return this;
 	}
 
 	@Override
 	public InternalEndpointRoute blockingHandler(Handler<RoutingContext> requestHandler, boolean ordered) {
-		route.blockingHandler(requestHandler, ordered);
+		route.blockingHandler(traced(requestHandler), ordered);
 		return this;
 	}
 
+	/**
+	 * Wrap the handler so that the transactions which are started by it are identified by this endpoint.
+	 * 
+	 * @param requestHandler
+	 * @return
+	 */
+	private Handler<RoutingContext> traced(Handler<RoutingContext> requestHandler) {
+		String path = ramlPath;
+		if (path == null) {
+			path = route.getPath() == null ? pathRegex : convertPath(route.getPath());
+		}
+		if (path == null) {
+			path = "";
+		}
+		String endpoint = (method == null ? "ANY" : method.name()) + " " + (basePath == null ? "" : "/" + basePath) + path;
+		return rc -> TxTrace.inEndpoint(endpoint, () -> requestHandler.handle(rc));
+	}
+
 	@Override
 	public InternalEndpointRoute failureHandler(Handler<RoutingContext> failureHandler) {
 		route.failureHandler(failureHandler);
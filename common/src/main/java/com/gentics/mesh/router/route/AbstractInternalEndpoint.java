@@ -89,7 +89,7 @@ public abstract class AbstractInternalEndpoint implements InternalEndpoint {
 
 	@Override
 	public InternalEndpointRoute createRoute() {
-		InternalEndpointRoute endpoint = new InternalEndpointRouteImpl(getRouter());
+		InternalEndpointRoute endpoint = new InternalEndpointRouteImpl(getRouter(), basePath);
 		endpointRoutes.add(endpoint);
 		return endpoint;
 	}
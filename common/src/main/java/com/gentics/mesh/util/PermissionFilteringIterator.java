@@ -0,0 +1,88 @@
+package com.gentics.mesh.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.tinkerpop.blueprints.Vertex;
+
+/**
+ * Iterator which only yields the vertices on which the user has the given permission. The permissions are checked in batches via
+ * {@link User#hasPermissionForIds(List, GraphPermission)} in order to avoid resolving the roles of the user for each vertex.
+ */
+public class PermissionFilteringIterator implements Iterator<Vertex> {
+
+	/**
+	 * Amount of vertices which will be checked at once.
+	 */
+	public static final int BATCH_SIZE = 50;
+
+	private final User user;
+
+	private final Iterator<? extends Vertex> source;
+
+	private final GraphPermission permission;
+
+	private final Deque<Vertex> permitted = new ArrayDeque<>(BATCH_SIZE);
+
+	public PermissionFilteringIterator(User user, Iterator<? extends Vertex> source, GraphPermission permission) {
+		this.user = user;
+		this.source = source;
+		this.permission = permission;
+	}
+
+	/**
+	 * Filter the given stream of vertices by the permission of the user.
+	 *
+	 * @param user
+	 * @param stream
+	 * @param permission
+	 * @return
+	 */
+	public static Stream<Vertex> filter(User user, Stream<? extends Vertex> stream, GraphPermission permission) {
+		Iterator<Vertex> it = new PermissionFilteringIterator(user, stream.iterator(), permission);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED), false);
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (permitted.isEmpty() && source.hasNext()) {
+			loadBatch();
+		}
+		return !permitted.isEmpty();
+	}
+
+	@Override
+	public Vertex next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return permitted.poll();
+	}
+
+	private void loadBatch() {
+		List<Vertex> batch = new ArrayList<>(BATCH_SIZE);
+		List<Object> ids = new ArrayList<>(BATCH_SIZE);
+		while (batch.size() < BATCH_SIZE && source.hasNext()) {
+			Vertex vertex = source.next();
+			batch.add(vertex);
+			ids.add(vertex.getId());
+		}
+		boolean[] granted = user.hasPermissionForIds(ids, permission);
+		for (int i = 0; i < granted.length; i++) {
+			if (granted[i]) {
+				permitted.add(batch.get(i));
+			}
+		}
+	}
+
+}
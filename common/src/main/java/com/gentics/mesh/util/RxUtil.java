@@ -4,16 +4,21 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
+import org.reactivestreams.Subscription;
+
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
+import io.reactivex.FlowableSubscriber;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.AsyncFile;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.reactivex.RxHelper;
 import io.vertx.reactivex.core.Vertx;
 
@@ -91,4 +96,69 @@ public final class RxUtil {
 			.doOnCancel(file::close);
 	}
 
+	/**
+	 * Write the buffers of the stream to the given write stream. The stream will only be requested to emit more buffers while the write queue of the
+	 * target is not full. At most the given amount of buffers will be requested in advance.
+	 * 
+	 * @param stream
+	 *            Source stream
+	 * @param target
+	 *            Target to which the buffers will be written. The target will not be ended.
+	 * @param readAhead
+	 *            Amount of buffers which will be requested in advance
+	 * @return Completable which completes once all buffers have been written. Disposing the completable will cancel the source stream.
+	 */
+	public static Completable pipe(Flowable<Buffer> stream, WriteStream<Buffer> target, int readAhead) {
+		return Completable.create(emitter -> {
+			stream.subscribe(new FlowableSubscriber<Buffer>() {
+
+				private volatile Subscription subscription;
+
+				/**
+				 * Amount of buffers which have been written but not yet replaced by a new request since the write queue was full.
+				 */
+				private final AtomicLong deferred = new AtomicLong();
+
+				@Override
+				public void onSubscribe(Subscription s) {
+					subscription = s;
+					emitter.setCancellable(s::cancel);
+					target.drainHandler(v -> requestDeferred());
+					s.request(readAhead);
+				}
+
+				@Override
+				public void onNext(Buffer buffer) {
+					target.write(buffer);
+					if (target.writeQueueFull()) {
+						deferred.incrementAndGet();
+						// The queue may have been drained before the buffer was deferred
+						if (!target.writeQueueFull()) {
+							requestDeferred();
+						}
+					} else {
+						subscription.request(1);
+					}
+				}
+
+				@Override
+				public void onError(Throwable t) {
+					emitter.onError(t);
+				}
+
+				@Override
+				public void onComplete() {
+					emitter.onComplete();
+				}
+
+				private void requestDeferred() {
+					long n = deferred.getAndSet(0);
+					if (n > 0) {
+						subscription.request(n);
+					}
+				}
+			});
+		});
+	}
+
 }
@@ -0,0 +1,102 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class PermissionStoreTest {
+
+	@After
+	public void cleanup() {
+		PermissionStore.invalidate(false);
+	}
+
+	@Test
+	public void testSharedRoleSet() {
+		RoleSet first = PermissionStore.storeRoleSet(1, new Object[] { "a", "b" }, new long[] { 10, 11 });
+		RoleSet second = PermissionStore.storeRoleSet(2, new Object[] { "b", "a" }, new long[] { 11, 10 });
+		assertSame("Users with the same roles should share the role set", first, second);
+		assertSame(first, PermissionStore.getRoleSet(1));
+		assertSame(first, PermissionStore.getRoleSet(2));
+	}
+
+	@Test
+	public void testGrantingAndDenyingResults() {
+		RoleSet roleSet = PermissionStore.storeRoleSet(1, new Object[] { "a" }, new long[] { 10 });
+		assertNull(PermissionStore.hasPermission(roleSet, READ_PERM, 42));
+		PermissionStore.store(roleSet, READ_PERM, 42, true);
+		PermissionStore.store(roleSet, UPDATE_PERM, 42, false);
+		assertTrue(PermissionStore.hasPermission(roleSet, READ_PERM, 42));
+		assertFalse(PermissionStore.hasPermission(roleSet, UPDATE_PERM, 42));
+		assertNull(PermissionStore.hasPermission(roleSet, READ_PERM, 43));
+	}
+
+	@Test
+	public void testInvalidateElement() {
+		RoleSet roleSet = PermissionStore.storeRoleSet(1, new Object[] { "a" }, new long[] { 10 });
+		PermissionStore.store(roleSet, READ_PERM, 42, true);
+		PermissionStore.store(roleSet, READ_PERM, 43, false);
+		PermissionStore.invalidateElement(42, false);
+		assertNull(PermissionStore.hasPermission(roleSet, READ_PERM, 42));
+		assertFalse(PermissionStore.hasPermission(roleSet, READ_PERM, 43));
+	}
+
+	@Test
+	public void testInvalidateRole() {
+		RoleSet affected = PermissionStore.storeRoleSet(1, new Object[] { "a", "b" }, new long[] { 10, 11 });
+		RoleSet unaffected = PermissionStore.storeRoleSet(2, new Object[] { "c" }, new long[] { 12 });
+		PermissionStore.store(affected, READ_PERM, 42, true);
+		PermissionStore.store(unaffected, READ_PERM, 42, true);
+		PermissionStore.invalidateRole(11, false);
+		assertNull(PermissionStore.hasPermission(affected, READ_PERM, 42));
+		assertNull("The roles of the user should be resolved again", PermissionStore.getRoleSet(1));
+		assertTrue(PermissionStore.hasPermission(unaffected, READ_PERM, 42));
+		assertSame(unaffected, PermissionStore.getRoleSet(2));
+	}
+
+	@Test
+	public void testInvalidateUsers() {
+		RoleSet roleSet = PermissionStore.storeRoleSet(1, new Object[] { "a" }, new long[] { 10 });
+		PermissionStore.storeRoleSet(2, new Object[] { "a" }, new long[] { 10 });
+		PermissionStore.store(roleSet, READ_PERM, 42, false);
+		PermissionStore.invalidateUsers(new long[] { 1 }, false);
+		assertNull("The roles of the user should be resolved again", PermissionStore.getRoleSet(1));
+		assertSame(roleSet, PermissionStore.getRoleSet(2));
+		assertFalse("The permissions of the role set should still be cached", PermissionStore.hasPermission(roleSet, READ_PERM, 42));
+	}
+
+	@Test
+	public void testTransientIds() {
+		RoleSet roleSet = PermissionStore.storeRoleSet(-1, new Object[] { "a" }, new long[] { 10 });
+		assertNull("Role sets of transient users must not be cached", PermissionStore.getRoleSet(-1));
+		PermissionStore.store(roleSet, READ_PERM, -1, true);
+		assertNull(PermissionStore.hasPermission(roleSet, READ_PERM, -1));
+	}
+
+	@Test
+	public void testBitmaskTable() {
+		PermissionBitmaskTable table = new PermissionBitmaskTable(10_000);
+		for (long i = 0; i < 5000; i++) {
+			table.merge(i << 20, (int) (i % 7) + 1);
+		}
+		assertEquals(5000, table.size());
+		for (long i = 0; i < 5000; i += 2) {
+			table.remove(i << 20);
+		}
+		assertEquals(2500, table.size());
+		for (long i = 0; i < 5000; i++) {
+			int expected = i % 2 == 0 ? PermissionBitmaskTable.ABSENT : (int) (i % 7) + 1;
+			assertEquals("Unexpected value for key " + i, expected, table.get(i << 20));
+		}
+		table.merge(1 << 20, 0x100);
+		assertEquals(0x102, table.get(1 << 20));
+	}
+
+}
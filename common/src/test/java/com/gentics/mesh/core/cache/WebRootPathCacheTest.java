@@ -0,0 +1,125 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.core.data.ContainerType.DRAFT;
+import static com.gentics.mesh.core.data.ContainerType.PUBLISHED;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.gentics.mesh.core.cache.WebRootPathCache.CachedETag;
+import com.gentics.mesh.core.cache.WebRootPathCache.CachedPath;
+
+public class WebRootPathCacheTest {
+
+	@After
+	public void cleanup() {
+		WebRootPathCache.invalidate();
+		PermissionStore.invalidate(false);
+	}
+
+	@Test
+	public void testPathKey() {
+		assertNotEquals(WebRootPathCache.pathKey("project", "branch", DRAFT, "/news"), WebRootPathCache.pathKey("project", "branch", PUBLISHED,
+			"/news"));
+	}
+
+	@Test
+	public void testStorePath() {
+		String key = WebRootPathCache.pathKey("project", "branch", DRAFT, "/news/2015");
+		CachedPath path = new CachedPath("/news/2015", Arrays.asList("2015", "news"));
+		path.addSegment(new WebRootPathCache.Segment("#1:1", "newsUuid", "slug", false, "en", "news"));
+		WebRootPathCache.putPath(key, path, WebRootPathCache.generation());
+		assertSame(path, WebRootPathCache.getPath(key));
+		assertEquals(Arrays.asList("2015", "news"), WebRootPathCache.getPath(key).getInitialStack());
+	}
+
+	@Test
+	public void testStaleGeneration() {
+		String key = WebRootPathCache.pathKey("project", "branch", DRAFT, "/news");
+		long generation = WebRootPathCache.generation();
+		WebRootPathCache.invalidateNode("other", Collections.emptySet());
+		WebRootPathCache.putPath(key, new CachedPath("/news", null), generation);
+		WebRootPathCache.putNodePath("node", "/news", Collections.singleton("newsUuid"), generation);
+		assertNull("Results which were resolved before an invalidation must not be stored", WebRootPathCache.getPath(key));
+		assertNull(WebRootPathCache.getNodePath("node"));
+	}
+
+	@Test
+	public void testInvalidateNode() {
+		String key = WebRootPathCache.pathKey("project", "branch", DRAFT, "/news/2015");
+		String otherKey = WebRootPathCache.pathKey("project", "branch", DRAFT, "/products");
+		long generation = WebRootPathCache.generation();
+		CachedPath path = new CachedPath("/news/2015", null);
+		path.addSegment(new WebRootPathCache.Segment("#1:1", "newsUuid", "slug", false, "en", "news"));
+		path.addSegment(new WebRootPathCache.Segment("#1:2", "2015Uuid", "slug", false, "en", "2015"));
+		WebRootPathCache.putPath(key, path, generation);
+		CachedPath otherPath = new CachedPath("/products", null);
+		otherPath.addSegment(new WebRootPathCache.Segment("#1:3", "productsUuid", "slug", false, "en", "products"));
+		WebRootPathCache.putPath(otherKey, otherPath, generation);
+		WebRootPathCache.putNodePath("node", "/news/2015", new HashSet<>(Arrays.asList("newsUuid", "2015Uuid")), generation);
+		WebRootPathCache.putNodePath("otherNode", "/products", Collections.singleton("productsUuid"), generation);
+
+		// Only the entries which contain a segment of the changed node are removed
+		WebRootPathCache.invalidateNode("newsUuid", Collections.emptySet());
+		assertNull(WebRootPathCache.getPath(key));
+		assertNull(WebRootPathCache.getNodePath("node"));
+		assertEquals("/products", WebRootPathCache.getPath(otherKey).getTargetPath());
+		assertEquals("/products", WebRootPathCache.getNodePath("otherNode"));
+	}
+
+	@Test
+	public void testETag() {
+		RoleSet roleSet = PermissionStore.storeRoleSet(1, new Object[] { "a" }, new long[] { 10 });
+		PermissionStore.store(roleSet, READ_PERM, 42, true);
+		String key = WebRootPathCache.etagKey(1, "/api/v1/dummy/webroot/news");
+		WebRootPathCache.putETag(key, new CachedETag("newsUuid", Collections.singleton("newsUuid"), "1234", true, "node", roleSet, READ_PERM, 42), WebRootPathCache.generation());
+		CachedETag cached = WebRootPathCache.getETag(key);
+		assertEquals("1234", cached.getETag());
+		assertTrue(cached.isValid(PermissionStore.getRoleSet(1)));
+
+		PermissionStore.invalidateElement(42, false);
+		assertFalse("The etag must not be used once the permission is no longer cached", cached.isValid(PermissionStore.getRoleSet(1)));
+		PermissionStore.store(roleSet, READ_PERM, 42, true);
+		PermissionStore.invalidateUsers(new long[] { 1 }, false);
+		assertFalse("The etag must not be used once the roles of the user changed", cached.isValid(PermissionStore.getRoleSet(1)));
+
+		// The etag also depends on the children of the node
+		WebRootPathCache.invalidateNode("childUuid", Collections.singleton("otherUuid"));
+		assertEquals("1234", WebRootPathCache.getETag(key).getETag());
+		WebRootPathCache.invalidateNode("childUuid", Collections.singleton("newsUuid"));
+		assertNull(WebRootPathCache.getETag(key));
+	}
+
+	@Test
+	public void testInvalidateETagOfAncestor() {
+		RoleSet roleSet = PermissionStore.storeRoleSet(1, new Object[] { "a" }, new long[] { 10 });
+		long generation = WebRootPathCache.generation();
+		String key = WebRootPathCache.etagKey(1, "/api/v1/dummy/webroot/news/2015");
+		String otherKey = WebRootPathCache.etagKey(1, "/api/v1/dummy/webroot/news");
+		WebRootPathCache.putETag(key, new CachedETag("2015Uuid", new HashSet<>(Arrays.asList("newsUuid", "2015Uuid")), "1234", true, "node", roleSet,
+			READ_PERM, 42), generation);
+		WebRootPathCache.putETag(otherKey, new CachedETag("newsUuid", Collections.singleton("newsUuid"), "5678", true, "node", roleSet, READ_PERM, 43),
+			generation);
+
+		// The etag of a parent only depends on its own children
+		WebRootPathCache.invalidateNode("otherChildUuid", Collections.singleton("newsUuid"));
+		assertEquals("1234", WebRootPathCache.getETag(key).getETag());
+		assertNull(WebRootPathCache.getETag(otherKey));
+
+		// Renaming or moving an ancestor invalidates the etags of the URIs which were resolved via the ancestor
+		WebRootPathCache.invalidateNode("newsUuid", Collections.singleton("rootUuid"));
+		assertNull(WebRootPathCache.getETag(key));
+	}
+
+}
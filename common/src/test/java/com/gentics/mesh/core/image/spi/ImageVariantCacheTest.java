@@ -0,0 +1,83 @@
+package com.gentics.mesh.core.image.spi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+
+import io.vertx.reactivex.core.Vertx;
+
+public class ImageVariantCacheTest {
+
+	private Vertx vertx;
+
+	private File cacheDir;
+
+	@Before
+	public void setup() {
+		vertx = Vertx.vertx();
+		cacheDir = new File("target", "image_cache_" + System.currentTimeMillis());
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		vertx.close();
+		FileUtils.deleteDirectory(cacheDir);
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEviction() throws Exception {
+		ImageVariantCache cache = new ImageVariantCache(vertx, new ImageManipulatorOptions().setImageCacheDirectory(cacheDir.getPath())
+			.setImageCacheMaxSize(250));
+		File first = write("a/image-1.jpg");
+		cache.put(first);
+		File second = write("a/image-2.jpg");
+		cache.put(second);
+		assertTrue(cache.lookup(first));
+
+		// The third image exceeds the limit and the least recently used image should be evicted
+		File third = write("b/image-3.jpg");
+		cache.put(third);
+		long start = System.currentTimeMillis();
+		while (cache.getSize() > 225 && System.currentTimeMillis() - start < 10_000) {
+			Thread.sleep(50);
+		}
+		assertEquals(200, cache.getSize());
+		assertFalse(second.exists());
+		assertTrue(first.exists());
+		assertTrue(third.exists());
+		assertFalse(cache.lookup(second));
+	}
+
+	@Test
+	public void testEvictFolder() throws Exception {
+		ImageVariantCache cache = new ImageVariantCache(vertx, new ImageManipulatorOptions().setImageCacheDirectory(cacheDir.getPath()));
+		File first = write("a/b/image-1.jpg");
+		cache.put(first);
+		File second = write("a/b/image-2.jpg");
+		cache.put(second);
+		File other = write("a/c/image-1.jpg");
+		cache.put(other);
+
+		cache.evictFolder(new File(cacheDir, "a/b"));
+		assertEquals(100, cache.getSize());
+		assertFalse(new File(cacheDir, "a/b").exists());
+		assertTrue(other.exists());
+	}
+
+	private File write(String path) throws IOException {
+		File file = new File(cacheDir, path);
+		FileUtils.writeByteArrayToFile(file, new byte[100]);
+		return file;
+	}
+
+}
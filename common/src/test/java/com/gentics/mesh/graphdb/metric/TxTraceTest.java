@@ -0,0 +1,78 @@
+package com.gentics.mesh.graphdb.metric;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.codahale.metrics.SharedMetricRegistries;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.syncleus.ferma.tx.TxAction0;
+
+import io.reactivex.Single;
+import io.reactivex.subjects.SingleSubject;
+
+public class TxTraceTest {
+
+	@After
+	public void cleanup() {
+		TxTrace.configure(null);
+		TxTrace.reset();
+	}
+
+	@Test
+	public void testTrace() {
+		TxTrace.configure(Collections.singletonMap(TxTrace.SAMPLE_RATE_PARAMETER_KEY, "1"));
+		TxAction0 handler = () -> {
+		};
+		TxTrace trace = TxTrace.start(handler);
+		assertEquals("The call site should be the class which declared the handler.", "TxTraceTest", trace.getCallSite());
+		assertNotNull("The stacktrace should have been captured since all transactions are sampled.", trace.getOrigin());
+
+		trace.done();
+		assertEquals(1, SharedMetricRegistries.getOrCreate("mesh").timer(TxTrace.PREFIX + "TxTraceTest").getCount());
+	}
+
+	@Test
+	public void testEndpointTrace() {
+		TxAction0 handler = () -> {
+		};
+		TxTrace.inEndpoint("GET /{project}/nodes/{nodeUuid}", () -> {
+			assertEquals("The call site should be the endpoint which started the transaction.", "GET /{project}/nodes/{nodeUuid}",
+				TxTrace.start(handler).getCallSite());
+		});
+		assertEquals("TxTraceTest", TxTrace.start(handler).getCallSite());
+	}
+
+	@Test
+	public void testAwaitResult() throws Exception {
+		TxTrace trace = TxTrace.start(this);
+		assertEquals("value", Database.awaitResult(Single.just("value"), trace));
+		assertNull(Database.awaitResult(null, trace));
+
+		SingleSubject<String> subject = SingleSubject.create();
+		new Thread(() -> {
+			sleep(100);
+			subject.onSuccess("later");
+		}).start();
+		assertEquals("The result should have been awaited.", "later", Database.awaitResult(subject, trace));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testAwaitError() throws Exception {
+		Database.awaitResult(Single.error(new IllegalStateException("failed")), TxTrace.start(this));
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
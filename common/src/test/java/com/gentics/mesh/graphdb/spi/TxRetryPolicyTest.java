@@ -0,0 +1,49 @@
+package com.gentics.mesh.graphdb.spi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class TxRetryPolicyTest {
+
+	@Test
+	public void testDelay() {
+		TxRetryPolicy policy = new TxRetryPolicy(100, 10, 1000, 20_000);
+		for (int i = 0; i < 100; i++) {
+			long first = policy.getDelay(0);
+			assertTrue("Unexpected delay {" + first + "}", first >= 5 && first <= 10);
+			long third = policy.getDelay(2);
+			assertTrue("Unexpected delay {" + third + "}", third >= 20 && third <= 40);
+			long capped = policy.getDelay(50);
+			assertTrue("The delay should be capped but was {" + capped + "}", capped >= 500 && capped <= 1000);
+		}
+	}
+
+	@Test
+	public void testLimits() {
+		TxRetryPolicy policy = new TxRetryPolicy(3, 10, 1000, 500);
+		long now = System.currentTimeMillis();
+		assertTrue(policy.canRetry(0, now, 10));
+		assertTrue(policy.canRetry(1, now, 10));
+		assertFalse("The retry limit should be reached", policy.canRetry(2, now, 10));
+		assertFalse("The time budget would be exceeded by the delay", policy.canRetry(0, now, 600));
+		assertFalse("The time budget is exceeded", policy.canRetry(0, now - 1000, 10));
+	}
+
+	@Test
+	public void testFromParameters() {
+		Map<String, String> parameters = new HashMap<>();
+		parameters.put(TxRetryPolicy.MAX_RETRY_PARAMETER_KEY, "5");
+		parameters.put(TxRetryPolicy.TIME_BUDGET_PARAMETER_KEY, "1000");
+		TxRetryPolicy policy = TxRetryPolicy.fromParameters(parameters);
+		assertEquals(5, policy.getMaxRetry());
+		assertEquals(1000, policy.getTimeBudget());
+		assertEquals(TxRetryPolicy.DEFAULT_MAX_RETRY, TxRetryPolicy.fromParameters(null).getMaxRetry());
+	}
+
+}
@@ -0,0 +1,52 @@
+package com.gentics.mesh.util;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.gentics.mesh.core.data.User;
+import com.tinkerpop.blueprints.Vertex;
+
+public class PermissionFilteringIteratorTest {
+
+	@Test
+	public void testFilter() {
+		User user = Mockito.mock(User.class);
+		// Only grant the permission on vertices with an even id
+		when(user.hasPermissionForIds(anyListOf(Object.class), eq(READ_PERM))).thenAnswer(invocation -> {
+			List<?> ids = (List<?>) invocation.getArguments()[0];
+			boolean[] granted = new boolean[ids.size()];
+			for (int i = 0; i < granted.length; i++) {
+				granted[i] = ((Integer) ids.get(i)) % 2 == 0;
+			}
+			return granted;
+		});
+
+		List<Vertex> vertices = new ArrayList<>();
+		int count = PermissionFilteringIterator.BATCH_SIZE * 2 + 1;
+		for (int i = 0; i < count; i++) {
+			Vertex vertex = Mockito.mock(Vertex.class);
+			when(vertex.getId()).thenReturn(i);
+			vertices.add(vertex);
+		}
+
+		List<Object> ids = PermissionFilteringIterator.filter(user, vertices.stream(), READ_PERM).map(Vertex::getId).collect(Collectors.toList());
+		assertEquals(PermissionFilteringIterator.BATCH_SIZE + 1, ids.size());
+		for (int i = 0; i < ids.size(); i++) {
+			assertEquals("The order of the vertices should be retained", i * 2, ids.get(i));
+		}
+		verify(user, times(3)).hasPermissionForIds(anyListOf(Object.class), eq(READ_PERM));
+	}
+
+}
@@ -0,0 +1,75 @@
+package com.gentics.mesh.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.reactivex.Flowable;
+import io.reactivex.observers.TestObserver;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+
+public class RxUtilTest {
+
+	@Test
+	public void testPipeBackpressure() {
+		QueueWriteStream target = new QueueWriteStream();
+		target.full = true;
+		TestObserver<Void> observer = RxUtil.pipe(Flowable.range(0, 100).map(i -> Buffer.buffer("data" + i)), target, 4).test();
+
+		// Only the read ahead buffers may be written while the queue is full
+		assertEquals(4, target.written.size());
+		observer.assertNotComplete();
+
+		target.full = false;
+		target.drainHandler.handle(null);
+		assertEquals(100, target.written.size());
+		observer.assertComplete();
+		assertEquals("data99", target.written.get(99).toString());
+	}
+
+	private static class QueueWriteStream implements WriteStream<Buffer> {
+
+		private final List<Buffer> written = new ArrayList<>();
+
+		private boolean full;
+
+		private Handler<Void> drainHandler;
+
+		@Override
+		public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+			return this;
+		}
+
+		@Override
+		public WriteStream<Buffer> write(Buffer data) {
+			written.add(data);
+			return this;
+		}
+
+		@Override
+		public void end() {
+		}
+
+		@Override
+		public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+			return this;
+		}
+
+		@Override
+		public boolean writeQueueFull() {
+			return full;
+		}
+
+		@Override
+		public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+			this.drainHandler = handler;
+			return this;
+		}
+	}
+
+}
@@ -39,6 +39,7 @@ import com.gentics.mesh.changelog.ChangelogSystem;
 import com.gentics.mesh.changelog.ReindexAction;
 import com.gentics.mesh.changelog.highlevel.HighLevelChangelogSystem;
 import com.gentics.mesh.core.cache.PermissionStore;
+import com.gentics.mesh.core.cache.WebRootPathCache;
 import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.Language;
 import com.gentics.mesh.core.data.MeshVertex;
@@ -82,6 +83,7 @@ import com.gentics.mesh.etc.config.ClusterOptions;
 import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphql.GraphQLSchemaCache;
 import com.gentics.mesh.plugin.PluginManager;
 import com.gentics.mesh.router.RouterStorage;
 import com.gentics.mesh.search.DevNullSearchProvider;
@@ -457,6 +459,8 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 	public void registerEventHandlers() {
 		RouterStorage.registerEventbus();
 		PermissionStore.registerEventHandler();
+		WebRootPathCache.registerEventHandler();
+		GraphQLSchemaCache.registerEventHandler();
 	}
 
 	@Override
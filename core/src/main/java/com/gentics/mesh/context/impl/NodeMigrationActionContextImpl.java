@@ -12,6 +12,7 @@ import java.util.Set;
 import com.gentics.mesh.context.AbstractInternalActionContext;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.RoleSet;
 import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.MeshVertex;
@@ -251,6 +252,18 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 				return true;
 			}
 
+			@Override
+			public boolean[] hasPermissionForIds(List<?> elementIds, GraphPermission permission) {
+				boolean[] granted = new boolean[elementIds.size()];
+				Arrays.fill(granted, true);
+				return granted;
+			}
+
+			@Override
+			public RoleSet getRoleSet() {
+				return null;
+			}
+
 			@Override
 			public boolean hasPermission(MeshVertex element, GraphPermission permission) {
 				return true;
@@ -1,12 +1,15 @@
 package com.gentics.mesh.core.binary;
 
+import java.util.function.Consumer;
+
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 
 import io.vertx.ext.web.FileUpload;
 
 /**
  * A binary data processor accepts a fileupload in order to extract specific information from the data. The found data can later be stored in the binary field
- * to be finally persisted along with the binary data.
+ * to be finally persisted along with the binary data. The upload will be processed outside of the graph transaction and only the found data will be
+ * applied to the field within the transaction.
  */
 public interface BinaryDataProcessor {
 
@@ -19,11 +22,11 @@ public interface BinaryDataProcessor {
 	boolean accepts(String contentType);
 
 	/**
-	 * Process the binary data and store the found meta data in the binary field.
+	 * Process the binary data and return a consumer which will store the found meta data in the binary field.
 	 * 
 	 * @param upload
-	 * @param field
+	 * @return Consumer which will be invoked within the transaction that updates the binary field
 	 */
-	void process(FileUpload upload, BinaryGraphField field);
+	Consumer<BinaryGraphField> process(FileUpload upload);
 
 }
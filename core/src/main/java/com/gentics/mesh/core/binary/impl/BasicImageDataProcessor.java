@@ -1,6 +1,7 @@
 package com.gentics.mesh.core.binary.impl;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -38,7 +39,7 @@ public class BasicImageDataProcessor extends AbstractBinaryProcessor {
 	}
 
 	@Override
-	public void process(FileUpload upload, BinaryGraphField field) {
+	public Consumer<BinaryGraphField> process(FileUpload upload) {
 		Optional<ImageInfo> infoOpt = imageManipulator.readImageInfo(upload.uploadedFileName()).map(Optional::of)
 			.onErrorResumeNext(e -> {
 				if (log.isDebugEnabled()) {
@@ -47,15 +48,15 @@ public class BasicImageDataProcessor extends AbstractBinaryProcessor {
 				return Single.just(Optional.empty());
 			}).blockingGet();
 
-		
-		if (infoOpt.isPresent()) {
-			ImageInfo info = infoOpt.get();
-			Binary binary = field.getBinary();
-			binary.setImageHeight(info.getHeight());
-			binary.setImageWidth(info.getWidth());
-			field.setImageDominantColor(info.getDominantColor());
-		}
-
+		return field -> {
+			if (infoOpt.isPresent()) {
+				ImageInfo info = infoOpt.get();
+				Binary binary = field.getBinary();
+				binary.setImageHeight(info.getHeight());
+				binary.setImageWidth(info.getWidth());
+				field.setImageDominantColor(info.getDominantColor());
+			}
+		};
 	}
 
 }
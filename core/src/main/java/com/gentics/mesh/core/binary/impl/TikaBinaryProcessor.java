@@ -2,8 +2,11 @@ package com.gentics.mesh.core.binary.impl;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -77,7 +80,9 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 	}
 
 	@Override
-	public void process(FileUpload upload, BinaryGraphField field) {
+	public Consumer<BinaryGraphField> process(FileUpload upload) {
+		Map<String, String> fieldMetadata = new HashMap<>();
+		Location loc = new Location();
 
 		File uploadFile = new File(upload.uploadedFileName());
 		try (FileInputStream inputstream = new FileInputStream(uploadFile)) {
@@ -96,7 +101,6 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 			}
 
 			String[] metadataNames = metadata.names();
-			Location loc = new Location();
 			for (String name : metadataNames) {
 				String value = metadata.get(name);
 				name = sanitizeName(name);
@@ -129,16 +133,20 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 				}
 
 				log.debug("Adding property {" + name + "}={" + value + "}");
-				field.setMetadata(name, value);
-			}
-
-			if (loc.isPresent()) {
-				field.setLocation(loc);
+				fieldMetadata.put(name, value);
 			}
 		} catch (Exception e) {
 			log.warn("Tika processing of upload failed", e);
 		}
 
+		return field -> {
+			for (Map.Entry<String, String> entry : fieldMetadata.entrySet()) {
+				field.setMetadata(entry.getKey(), entry.getValue());
+			}
+			if (loc.isPresent()) {
+				field.setLocation(loc);
+			}
+		};
 	}
 
 	/**
@@ -61,6 +61,10 @@ public class BinaryImpl extends MeshVertexImpl implements Binary {
 	public void remove() {
 		BinaryStorage storage = MeshInternal.get().binaryStorage();
 		storage.delete(getUuid()).blockingAwait();
+		String sha512sum = getSHA512Sum();
+		if (sha512sum != null) {
+			MeshInternal.get().imageManipulator().evictVariants(sha512sum);
+		}
 		super.remove();
 	}
 
@@ -11,8 +11,10 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.Arrays;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.BulkActionContext;
@@ -83,6 +85,8 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (Role role : getRoles()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
 		}
+		// The roles of the user are cached and need to be resolved again
+		invalidateUserRoles(Arrays.asList(user));
 	}
 
 	@Override
@@ -91,7 +95,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 
 		// The user does no longer belong to the group so lets update the shortcut edges
 		user.updateShortcutEdges();
-		PermissionStore.invalidate();
+		invalidateUserRoles(Arrays.asList(user));
 	}
 
 	@Override
@@ -107,7 +111,8 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (User user : getUsers()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
 		}
-
+		// The roles of the users are cached and need to be resolved again
+		invalidateUserRoles(getUsers());
 	}
 
 	@Override
@@ -118,7 +123,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (User user : getUsers()) {
 			user.updateShortcutEdges();
 		}
-		PermissionStore.invalidate();
+		invalidateUserRoles(getUsers());
 	}
 
 	@Override
@@ -188,7 +193,18 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 			bac.inc();
 		}
 		bac.process();
-		PermissionStore.invalidate();
+		invalidateUserRoles(affectedUsers);
+	}
+
+	/**
+	 * Invalidate the cached roles of the given users. Only the users of the group are affected by changes to the group.
+	 * 
+	 * @param users
+	 */
+	private void invalidateUserRoles(Iterable<? extends User> users) {
+		Database db = MeshInternal.get().database();
+		long[] userKeys = StreamSupport.stream(users.spliterator(), false).mapToLong(user -> db.getElementIdAsLong(user.id())).toArray();
+		PermissionStore.invalidateUsers(userKeys, true);
 	}
 
 	@Override
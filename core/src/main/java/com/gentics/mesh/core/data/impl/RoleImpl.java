@@ -105,11 +105,17 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 
 	@Override
 	public void grantPermissions(MeshVertex vertex, GraphPermission... permissions) {
+		boolean permissionGranted = false;
 		for (GraphPermission permission : permissions) {
 			if (!hasPermission(permission, vertex)) {
 				addFramedEdge(permission.label(), vertex);
+				permissionGranted = true;
 			}
 		}
+		// Denying results are cached as well and thus the store needs to be updated
+		if (permissionGranted) {
+			PermissionStore.invalidateElement(MeshInternal.get().database().getElementIdAsLong(vertex.id()), true);
+		}
 	}
 
 	@Override
@@ -147,7 +153,7 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 			key, indexKey).spliterator(), false)).peek(Edge::remove).count();
 
 		if (edgesRemoved > 0) {
-			PermissionStore.invalidate();
+			PermissionStore.invalidateElement(MeshInternal.get().database().getElementIdAsLong(vertex.id()), true);
 		}
 	}
 
@@ -177,9 +183,10 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 				}
 			}
 		}
+		long roleKey = MeshInternal.get().database().getElementIdAsLong(id());
 		getVertex().remove();
 		bac.process();
-		PermissionStore.invalidate();
+		PermissionStore.invalidateRole(roleKey, true);
 	}
 
 	@Override
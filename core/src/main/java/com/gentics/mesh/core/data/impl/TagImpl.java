@@ -154,6 +154,7 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 			String branchUuid = branch.getUuid();
 			for (Node node : getNodes(branch)) {
 				bac.batch().store(node, branchUuid);
+				node.bumpContentVersion();
 			}
 		}
 		getElement().remove();
@@ -215,6 +216,10 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 				setEditor(ac.getUser());
 				setLastEditedTimestamp();
 				setName(newTagName);
+				// The tag name is part of the responses of the tagged nodes
+				for (Node node : in(HAS_TAG).frameExplicit(NodeImpl.class)) {
+					node.bumpContentVersion();
+				}
 				batch.store(getTagFamily(), false);
 				batch.store(this, true);
 				return true;
@@ -19,8 +19,11 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.lang3.BooleanUtils;
@@ -29,6 +32,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.cache.PermissionStore;
+import com.gentics.mesh.core.cache.RoleSet;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.MeshVertex;
@@ -67,7 +71,6 @@ import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.traversals.VertexTraversal;
 import com.tinkerpop.blueprints.Direction;
 import com.tinkerpop.blueprints.Edge;
-import com.tinkerpop.blueprints.Vertex;
 
 import io.reactivex.Single;
 import io.vertx.core.logging.Logger;
@@ -280,37 +283,131 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	@Override
 	public boolean hasPermissionForId(Object elementId, GraphPermission permission) {
-		if (PermissionStore.hasPermission(getId(), permission, elementId)) {
-			return true;
-		} else {
-			FramedGraph graph = getGraph();
-			// Find all roles that are assigned to the user by checking the
-			// shortcut edge from the index
-			Iterable<Edge> roleEdges = graph.getEdges("e." + ASSIGNED_TO_ROLE + "_out", this.id());
-			for (Edge roleEdge : roleEdges) {
-				Vertex role = roleEdge.getVertex(Direction.IN);
-				// Find all permission edges between the found role and target
-				// vertex with the specified label
-				Iterable<Edge> edges = graph.getEdges("e." + permission.label() + "_inout",
-					MeshInternal.get().database().createComposedIndexKey(elementId, role.getId()));
-				boolean foundPermEdge = edges.iterator().hasNext();
-				if (foundPermEdge) {
-					// We only store granting permissions in the store in order
-					// reduce the invalidation calls.
-					// This way we do not need to invalidate the cache if a role
-					// is removed from a group or a role is deleted.
-					PermissionStore.store(getId(), permission, elementId);
-					return true;
+		Database db = MeshInternal.get().database();
+		return hasPermissionForId(db, getGraph(), getRoleSet(db), elementId, permission);
+	}
+
+	@Override
+	public boolean[] hasPermissionForIds(List<?> elementIds, GraphPermission permission) {
+		Database db = MeshInternal.get().database();
+		RoleSet roleSet = getRoleSet(db);
+		boolean[] granted = new boolean[elementIds.size()];
+		List<Object> uncachedIds = new ArrayList<>();
+		for (int i = 0; i < granted.length; i++) {
+			Object elementId = elementIds.get(i);
+			Boolean cachedPerm = PermissionStore.hasPermission(roleSet, permission, db.getElementIdAsLong(elementId));
+			if (cachedPerm == null) {
+				uncachedIds.add(elementId);
+			} else {
+				granted[i] = cachedPerm;
+			}
+		}
+		if (uncachedIds.isEmpty()) {
+			return granted;
+		}
+
+		// The permissions of the remaining elements are loaded by a single index read
+		Set<Object> grantedIds = loadGrantedIds(db, roleSet, uncachedIds, permission);
+		for (int i = 0; i < granted.length; i++) {
+			if (grantedIds.contains(elementIds.get(i))) {
+				granted[i] = true;
+			}
+		}
+		return granted;
+	}
+
+	/**
+	 * Load the permission edges between the roles and the given elements via a single batched index lookup. The results are stored in the permission
+	 * store.
+	 * 
+	 * @param db
+	 * @param roleSet
+	 * @param elementIds
+	 * @param permission
+	 * @return Ids of the elements for which the permission is granted
+	 */
+	private Set<Object> loadGrantedIds(Database db, RoleSet roleSet, List<Object> elementIds, GraphPermission permission) {
+		Map<Object, Object> elementIdsByKey = new HashMap<>();
+		for (Object elementId : elementIds) {
+			for (Object roleId : roleSet.getRoleIds()) {
+				elementIdsByKey.put(db.createComposedIndexKey(elementId, roleId), elementId);
+			}
+		}
+		Set<Object> grantedIds = new HashSet<>();
+		for (Object key : db.edgeKeyLookup(permission.label(), "inout", elementIdsByKey.keySet())) {
+			grantedIds.add(elementIdsByKey.get(key));
+		}
+
+		// Fall back to read and check whether the user has read perm. Read permission also includes read published.
+		if (permission == READ_PUBLISHED_PERM) {
+			List<Object> deniedIds = new ArrayList<>();
+			for (Object elementId : elementIds) {
+				if (!grantedIds.contains(elementId)) {
+					deniedIds.add(elementId);
 				}
 			}
-			// Fall back to read and check whether the user has read perm. Read permission also includes read published.
-			if (permission == READ_PUBLISHED_PERM) {
-				return hasPermissionForId(elementId, READ_PERM);
-			} else {
-				return false;
+			if (!deniedIds.isEmpty()) {
+				grantedIds.addAll(loadGrantedIds(db, roleSet, deniedIds, READ_PERM));
+			}
+		}
+		for (Object elementId : elementIds) {
+			PermissionStore.store(roleSet, permission, db.getElementIdAsLong(elementId), grantedIds.contains(elementId));
+		}
+		return grantedIds;
+	}
+
+	private boolean hasPermissionForId(Database db, FramedGraph graph, RoleSet roleSet, Object elementId, GraphPermission permission) {
+		long elementKey = db.getElementIdAsLong(elementId);
+		Boolean cachedPerm = PermissionStore.hasPermission(roleSet, permission, elementKey);
+		if (cachedPerm != null) {
+			return cachedPerm;
+		}
+
+		boolean granted = false;
+		for (Object roleId : roleSet.getRoleIds()) {
+			// Find all permission edges between the role and target vertex with the specified label
+			Iterable<Edge> edges = graph.getEdges("e." + permission.label() + "_inout", db.createComposedIndexKey(elementId, roleId));
+			if (edges.iterator().hasNext()) {
+				granted = true;
+				break;
 			}
 		}
+		// Fall back to read and check whether the user has read perm. Read permission also includes read published.
+		if (!granted && permission == READ_PUBLISHED_PERM) {
+			granted = hasPermissionForId(db, graph, roleSet, elementId, READ_PERM);
+		}
+		// Granting and denying results are cached. The store will be invalidated whenever the permissions of the element or the roles change.
+		PermissionStore.store(roleSet, permission, elementKey, granted);
+		return granted;
+	}
 
+	@Override
+	public RoleSet getRoleSet() {
+		return getRoleSet(MeshInternal.get().database());
+	}
+
+	/**
+	 * Return the set of roles which are assigned to the user. The set will be loaded via the shortcut edges from the index if it has not yet been cached.
+	 * 
+	 * @param db
+	 * @return
+	 */
+	private RoleSet getRoleSet(Database db) {
+		long userKey = db.getElementIdAsLong(id());
+		RoleSet roleSet = PermissionStore.getRoleSet(userKey);
+		if (roleSet != null) {
+			return roleSet;
+		}
+		List<Object> roleIds = new ArrayList<>();
+		// Find all roles that are assigned to the user by checking the shortcut edge from the index
+		for (Edge roleEdge : getGraph().getEdges("e." + ASSIGNED_TO_ROLE + "_out", this.id())) {
+			roleIds.add(roleEdge.getVertex(Direction.IN).getId());
+		}
+		long[] roleKeys = new long[roleIds.size()];
+		for (int i = 0; i < roleKeys.length; i++) {
+			roleKeys[i] = db.getElementIdAsLong(roleIds.get(i));
+		}
+		return PermissionStore.storeRoleSet(userKey, roleIds.toArray(), roleKeys);
 	}
 
 	@Override
@@ -483,9 +580,10 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 		// }
 		// outE(HAS_USER).removeAll();
 		bac.batch().delete(this, false);
+		long userKey = MeshInternal.get().database().getElementIdAsLong(id());
 		getElement().remove();
 		bac.process();
-		PermissionStore.invalidate();
+		PermissionStore.invalidateUsers(new long[] { userKey }, true);
 	}
 
 	/**
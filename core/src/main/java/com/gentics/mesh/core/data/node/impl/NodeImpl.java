@@ -49,6 +49,9 @@ import org.apache.commons.lang3.NotImplementedException;
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.PermissionStore;
+import com.gentics.mesh.core.cache.RoleSet;
+import com.gentics.mesh.core.cache.WebRootPathCache;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.GraphFieldContainer;
@@ -102,6 +105,7 @@ import com.gentics.mesh.core.rest.user.NodeReference;
 import com.gentics.mesh.core.webroot.PathPrefixUtil;
 import com.gentics.mesh.dagger.DB;
 import com.gentics.mesh.dagger.MeshInternal;
+import com.gentics.mesh.graphdb.spi.CommitHooks;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.graphdb.spi.FieldMap;
 import com.gentics.mesh.handler.ActionContext;
@@ -122,6 +126,7 @@ import com.gentics.mesh.path.Path;
 import com.gentics.mesh.path.PathSegment;
 import com.gentics.mesh.util.DateUtils;
 import com.gentics.mesh.util.ETag;
+import com.gentics.mesh.util.PermissionFilteringIterator;
 import com.gentics.mesh.util.URIUtils;
 import com.gentics.mesh.util.VersionNumber;
 import com.syncleus.ferma.EdgeFrame;
@@ -134,6 +139,7 @@ import com.tinkerpop.blueprints.Vertex;
 
 import io.reactivex.Observable;
 import io.reactivex.Single;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -145,6 +151,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	private static final Logger log = LoggerFactory.getLogger(NodeImpl.class);
 
+	public static final String CONTENT_VERSION_PROPERTY_KEY = "contentVersion";
+
 	public static void init(Database database) {
 		database.addVertexType(NodeImpl.class, MeshVertexImpl.class);
 		database.addEdgeIndex(HAS_PARENT_NODE);
@@ -191,6 +199,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		NodeGraphFieldContainer container = getGraphFieldContainer(languageTag, branchUuid, type);
 		if (container != null) {
 			container.postfixSegmentFieldValue();
+			bumpContentVersion();
 		}
 	}
 
@@ -200,67 +209,92 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		// Thus utilise the action context data map to retrieve already handled paths.
 		String cacheKey = getUuid() + branchUuid + type.getCode() + Arrays.toString(languageTag);
 		return (String) ac.data().computeIfAbsent(cacheKey, key -> {
+			// Paths which were rendered by previous requests are stored in the webroot path cache
+			String cachedPath = WebRootPathCache.getNodePath(key);
+			if (cachedPath != null) {
+				return cachedPath;
+			}
+			long generation = WebRootPathCache.generation();
+			Set<String> nodeUuids = new HashSet<>();
+			String path = buildPath(branchUuid, type, nodeUuids, languageTag);
+			if (path != null) {
+				WebRootPathCache.putNodePath(key, path, nodeUuids, generation);
+			}
+			return path;
+		});
+	}
+
+	/**
+	 * Build the webroot path of the node by traversing the parent nodes.
+	 * 
+	 * @param branchUuid
+	 * @param type
+	 * @param nodeUuids
+	 *            Set which will be populated with the uuids of the nodes which provided a path segment
+	 * @param languageTag
+	 * @return Path or null if one of the path segments could not be resolved
+	 */
+	private String buildPath(String branchUuid, ContainerType type, Set<String> nodeUuids, String... languageTag) {
+		List<String> segments = new ArrayList<>();
+		String segment = getPathSegment(branchUuid, type, languageTag);
+		if (segment == null) {
+			return null;
+		}
+		segments.add(segment);
+		nodeUuids.add(getUuid());
+
+		// For the path segments of the container, we add all (additional)
+		// project languages to the list of languages for the fallback.
+		List<String> langList = new ArrayList<>();
+		langList.addAll(Arrays.asList(languageTag));
 
-			List<String> segments = new ArrayList<>();
-			String segment = getPathSegment(branchUuid, type, languageTag);
+		// TODO maybe we only want to get the project languages?
+		langList.addAll(MeshInternal.get().boot().getAllLanguageTags());
+		String[] projectLanguages = langList.toArray(new String[langList.size()]);
+		Node current = this;
+		while (current != null) {
+			current = current.getParentNode(branchUuid);
+			if (current == null || current.getParentNode(branchUuid) == null) {
+				break;
+			}
+			// For the path segments of the container, we allow ANY language (of the project)
+			segment = current.getPathSegment(branchUuid, type, projectLanguages);
+
+			// Abort early if one of the path segments could not be resolved. We
+			// need to return a 404 in those cases.
 			if (segment == null) {
 				return null;
 			}
 			segments.add(segment);
+			nodeUuids.add(current.getUuid());
+		}
 
-			// For the path segments of the container, we add all (additional)
-			// project languages to the list of languages for the fallback.
-			List<String> langList = new ArrayList<>();
-			langList.addAll(Arrays.asList(languageTag));
-
-			// TODO maybe we only want to get the project languages?
-			langList.addAll(MeshInternal.get().boot().getAllLanguageTags());
-			String[] projectLanguages = langList.toArray(new String[langList.size()]);
-			Node current = this;
-			while (current != null) {
-				current = current.getParentNode(branchUuid);
-				if (current == null || current.getParentNode(branchUuid) == null) {
-					break;
-				}
-				// For the path segments of the container, we allow ANY language (of the project)
-				segment = current.getPathSegment(branchUuid, type, projectLanguages);
+		Collections.reverse(segments);
 
-				// Abort early if one of the path segments could not be resolved. We
-				// need to return a 404 in those cases.
-				if (segment == null) {
-					return null;
-				}
-				segments.add(segment);
-			}
+		// Finally construct the path from all segments
+		StringBuilder builder = new StringBuilder();
 
-			Collections.reverse(segments);
-
-			// Finally construct the path from all segments
-			StringBuilder builder = new StringBuilder();
-
-			// Append the prefix first
-			Branch branch = getProject().getBranchRoot().findByUuid(branchUuid);
-			if (branch != null) {
-				String prefix = PathPrefixUtil.sanitize(branch.getPathPrefix());
-				if (!prefix.isEmpty()) {
-					String[] prefixSegments = prefix.split("/");
-					for (String prefixSegment : prefixSegments) {
-						if (prefixSegment.isEmpty()) {
-							continue;
-						}
-						builder.append("/").append(URIUtils.encodeSegment(prefixSegment));
+		// Append the prefix first
+		Branch branch = getProject().getBranchRoot().findByUuid(branchUuid);
+		if (branch != null) {
+			String prefix = PathPrefixUtil.sanitize(branch.getPathPrefix());
+			if (!prefix.isEmpty()) {
+				String[] prefixSegments = prefix.split("/");
+				for (String prefixSegment : prefixSegments) {
+					if (prefixSegment.isEmpty()) {
+						continue;
 					}
+					builder.append("/").append(URIUtils.encodeSegment(prefixSegment));
 				}
 			}
+		}
 
-			Iterator<String> it = segments.iterator();
-			while (it.hasNext()) {
-				String currentSegment = it.next();
-				builder.append("/").append(URIUtils.encodeSegment(currentSegment));
-			}
-			return builder.toString();
-		});
-
+		Iterator<String> it = segments.iterator();
+		while (it.hasNext()) {
+			String currentSegment = it.next();
+			builder.append("/").append(URIUtils.encodeSegment(currentSegment));
+		}
+		return builder.toString();
 	}
 
 	@Override
@@ -438,6 +472,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			initialEdge.setBranchUuid(branchUuid);
 			initialEdge.setType(INITIAL);
 		}
+		bumpContentVersion();
 
 		return newContainer;
 	}
@@ -471,16 +506,19 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		removeTag(tag, branch);
 		TagEdge edge = addFramedEdge(HAS_TAG, tag, TagEdgeImpl.class);
 		edge.setBranchUuid(branch.getUuid());
+		bumpContentVersion();
 	}
 
 	@Override
 	public void removeTag(Tag tag, Branch branch) {
 		outE(HAS_TAG).has(TagEdgeImpl.BRANCH_UUID_KEY, branch.getUuid()).mark().inV().retain(tag).back().removeAll();
+		bumpContentVersion();
 	}
 
 	@Override
 	public void removeAllTags(Branch branch) {
 		outE(HAS_TAG).has(TagEdgeImpl.BRANCH_UUID_KEY, branch.getUuid()).removeAll();
+		bumpContentVersion();
 	}
 
 	@Override
@@ -525,12 +563,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		Iterator<Edge> it = edges.iterator();
 		Iterable<Edge> iterable = () -> it;
 		Stream<Edge> stream = StreamSupport.stream(iterable.spliterator(), false);
-		return stream
-			.map(edge -> edge.getVertex(OUT))
-			.filter(vertex -> {
-				Object id = vertex.getId();
-				return user.hasPermissionForId(id, READ_PERM) || user.hasPermissionForId(id, READ_PUBLISHED_PERM);
-			})
+		// The read published permission check includes the read permission
+		return PermissionFilteringIterator.filter(user, stream.map(edge -> edge.getVertex(OUT)), READ_PUBLISHED_PERM)
 			.map(vertex -> graph.frameElementExplicit(vertex, NodeImpl.class));
 	}
 
@@ -550,8 +584,21 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public void setParentNode(String branchUuid, Node parent) {
+		// The parent nodes are not modified. Their etags cover the children via the cached children digest.
 		outE(HAS_PARENT_NODE).has(BRANCH_UUID_KEY, branchUuid).removeAll();
 		addFramedEdge(HAS_PARENT_NODE, parent).setProperty(BRANCH_UUID_KEY, branchUuid);
+		bumpContentVersion();
+	}
+
+	@Override
+	public long getContentVersion() {
+		Long version = property(CONTENT_VERSION_PROPERTY_KEY);
+		return version == null ? 0 : version;
+	}
+
+	@Override
+	public void bumpContentVersion() {
+		property(CONTENT_VERSION_PROPERTY_KEY, getContentVersion() + 1);
 	}
 
 	@Override
@@ -1175,6 +1222,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		// Remove the published edge for each found container
 		TraversalResult<? extends NodeGraphFieldContainer> publishedContainers = getGraphFieldContainers(branchUuid, PUBLISHED);
 		getGraphFieldContainerEdges(branchUuid, PUBLISHED).stream().forEach(EdgeFrame::remove);
+		bumpContentVersion();
 
 		assertPublishConsistency(ac, branch);
 
@@ -1257,6 +1305,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		}
 		// 2. Remove the "published" edge
 		getGraphFieldContainerEdge(languageTag, branchUuid, PUBLISHED).remove();
+		bumpContentVersion();
 		assertPublishConsistency(ac, branch);
 
 		// 3. Invoke a delete on the document since it must be removed from the published index
@@ -1284,6 +1333,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		edge.setBranchUuid(branchUuid);
 		edge.setType(PUBLISHED);
 		container.updateWebrootPathInfo(branchUuid, "node_conflicting_segmentfield_publish");
+		bumpContentVersion();
 	}
 
 	@Override
@@ -1515,6 +1565,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			}
 		}
 		super.applyPermissions(batch, role, recursive, permissionsToGrant, permissionsToRevoke);
+		// The permissions of the node affect the role permissions
+		bumpContentVersion();
 	}
 
 	@Override
@@ -1770,6 +1822,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			throw error(NOT_FOUND, "node_no_language_found", language.getLanguageTag());
 		}
 		container.deleteFromBranch(branch, context);
+		bumpContentVersion();
 		// No need to delete the published variant because if the container was published the take offline call handled it
 
 		// starting with the old draft, delete all GFC that have no next and are not draft (for other branches)
@@ -1882,13 +1935,13 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	/**
 	 * Generate the etag for nodes. The etag consists of:
 	 * <ul>
-	 * <li>uuid of the node</li>
-	 * <li>parent node uuid (which is branch specific)</li>
+	 * <li>uuid of the node and the permissions of the user on the node</li>
+	 * <li>branch uuid and content version of the node (covers fields, languages, publish state, tags and the parent node)</li>
 	 * <li>version and language specific etag of the field container</li>
-	 * <li>availableLanguages</li>
-	 * <li>breadcrumb</li>
-	 * <li>webroot path &amp; language paths</li>
-	 * <li>permissions</li>
+	 * <li>content versions of the parent nodes (covers breadcrumb, webroot path &amp; language paths)</li>
+	 * <li>requested version, languages, expansion and link resolving</li>
+	 * <li>digest of the children which the user is allowed to read</li>
+	 * <li>permissions of the role which was specified via the roleUuid query parameter</li>
 	 * </ul>
 	 */
 	@Override
@@ -1897,125 +1950,78 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		// Parameters
 		Branch branch = ac.getBranch(getProject());
-		VersioningParameters versioiningParameters = ac.getVersioningParameters();
-		ContainerType type = forVersion(versioiningParameters.getVersion());
-
-		Node parentNode = getParentNode(branch.getUuid());
-		NodeGraphFieldContainer container = findVersion(ac.getNodeParameters().getLanguageList(), branch.getUuid(), ac.getVersioningParameters()
-			.getVersion());
+		String branchUuid = branch.getUuid();
+		NodeParameters nodeParameters = ac.getNodeParameters();
 
 		StringBuilder keyBuilder = new StringBuilder();
 		keyBuilder.append(superkey);
 
 		/**
-		 * branch uuid
+		 * branch uuid & content version
+		 * 
+		 * The content version is incremented by all mutations which affect the response of the node (fields, publish state, tags, parent,
+		 * permissions). Thus we don't need to traverse those elements to compute the etag.
 		 */
-		keyBuilder.append(branch.getUuid());
+		keyBuilder.append(branchUuid);
 		keyBuilder.append("-");
-
-		// TODO version, language list
+		keyBuilder.append(getContentVersion());
 
 		// We can omit further etag keys since this would return a 404 anyhow
 		// since the requested container could not be found.
+		NodeGraphFieldContainer container = findVersion(nodeParameters.getLanguageList(), branchUuid, ac.getVersioningParameters().getVersion());
 		if (container == null) {
 			keyBuilder.append("404-no-container");
 			return keyBuilder.toString();
 		}
 
 		/**
-		 * Parent node
+		 * fields version
 		 * 
-		 * The node can be moved and this would also affect the response. The etag must also be changed when the node is moved.
+		 * The container etag covers the referenced nodes. Those may be deleted without changing the content version of this node.
 		 */
-		if (parentNode != null) {
-			keyBuilder.append("-");
-			keyBuilder.append(parentNode.getUuid());
-		}
+		keyBuilder.append("-");
+		keyBuilder.append(container.getETag(ac));
 
-		// fields version
-		if (container != null) {
+		/**
+		 * Breadcrumb, webroot path & language paths
+		 * 
+		 * The display names and path segments of the parent nodes are part of the response. The content versions of the parent nodes are included instead
+		 * of the rendered names and paths.
+		 */
+		Node current = getParentNode(branchUuid);
+		while (current != null) {
 			keyBuilder.append("-");
-			keyBuilder.append(container.getETag(ac));
+			keyBuilder.append(current.getContentVersion());
+			current = current.getParentNode(branchUuid);
 		}
 
 		/**
-		 * Expansion (all)
+		 * Request parameters
 		 * 
-		 * The expandAll parameter changes the json response and thus must be included in the etag computation.
+		 * The requested version, languages, expansion and link resolving change the json response and thus must be included in the etag computation.
 		 */
-		if (ac.getNodeParameters().getExpandAll()) {
+		keyBuilder.append("-version:");
+		keyBuilder.append(ac.getVersioningParameters().getVersion());
+		keyBuilder.append("-lang:");
+		keyBuilder.append(nodeParameters.getLanguageList());
+		if (nodeParameters.getExpandAll()) {
 			keyBuilder.append("-");
 			keyBuilder.append("expand:true");
 		}
-
-		// expansion (selective)
-		String expandedFields = Arrays.toString(ac.getNodeParameters().getExpandedFieldNames());
-		keyBuilder.append("-");
-		keyBuilder.append("expandFields:");
-		keyBuilder.append(expandedFields);
-
-		// branch specific tags
-		for (Tag tag : getTags(branch)) {
-			// Tags can't be moved across branches thus we don't need to add the
-			// tag family etag
-			keyBuilder.append(tag.getETag(ac));
-		}
-
-		// branch specific children
-		for (Node child : getChildren(branch.getUuid())) {
-			if (ac.getUser().hasPermission(child, READ_PERM)) {
-				keyBuilder.append("-");
-				keyBuilder.append(child.getSchemaContainer().getName());
-			}
-		}
-
-		// Publish state & availableLanguages
-		for (NodeGraphFieldContainer c : getGraphFieldContainers(branch, PUBLISHED)) {
-			keyBuilder.append(c.getLanguage().getLanguageTag() + "published");
-		}
-		for (NodeGraphFieldContainer c : getGraphFieldContainers(branch, DRAFT)) {
-			keyBuilder.append(c.getLanguage().getLanguageTag() + "draft");
-		}
-
-		// breadcrumb
-		keyBuilder.append("-");
-		Node current = getParentNode(branch.getUuid());
-		if (current != null) {
-			while (current != null) {
-
-				String key = current.getUuid() + current.getDisplayName(ac);
-				keyBuilder.append(key);
-				if (LinkType.OFF != ac.getNodeParameters().getResolveLinks()) {
-					WebRootLinkReplacer linkReplacer = MeshInternal.get().webRootLinkReplacer();
-					String url = linkReplacer.resolve(ac, branch.getUuid(), type, current.getUuid(), ac.getNodeParameters().getResolveLinks(),
-						getProject().getName(), container.getLanguage().getLanguageTag());
-					keyBuilder.append(url);
-				}
-				current = current.getParentNode(branch.getUuid());
-
-			}
-		}
+		keyBuilder.append("-expandFields:");
+		keyBuilder.append(Arrays.toString(nodeParameters.getExpandedFieldNames()));
+		keyBuilder.append("-links:");
+		keyBuilder.append(nodeParameters.getResolveLinks());
 
 		/**
-		 * webroot path & language paths
+		 * Children info
 		 * 
-		 * The webroot and language paths must be included in the etag computation in order to invalidate the etag once a node language gets updated or once the
-		 * display name of any parent node changes.
+		 * The children info only counts the children which the user is allowed to read. Changes to the children don't modify this node in order to
+		 * avoid conflicts between concurrent child operations. The digest of the readable children is cached per role set instead.
 		 */
-		if (ac.getNodeParameters().getResolveLinks() != LinkType.OFF) {
-
-			WebRootLinkReplacer linkReplacer = MeshInternal.get().webRootLinkReplacer();
-			String path = linkReplacer.resolve(ac, branch.getUuid(), type, getUuid(), ac.getNodeParameters().getResolveLinks(), getProject()
-				.getName(), container.getLanguage().getLanguageTag());
-			keyBuilder.append(path);
-
-			// languagePaths
-			for (GraphFieldContainer currentFieldContainer : getGraphFieldContainers(branch, forVersion(versioiningParameters.getVersion()))) {
-				Language currLanguage = currentFieldContainer.getLanguage();
-				keyBuilder.append(currLanguage.getLanguageTag() + "=" + linkReplacer.resolve(ac, branch.getUuid(), type, this, ac.getNodeParameters()
-					.getResolveLinks(), currLanguage.getLanguageTag()));
-			}
-
+		if (ac.getGenericParameters().getFields().has("children")) {
+			keyBuilder.append("-children:");
+			keyBuilder.append(getReadableChildrenDigest(ac.getUser(), branchUuid));
 		}
 
 		/**
@@ -2044,6 +2050,36 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		return ETag.hash(keyBuilder.toString());
 	}
 
+	/**
+	 * Return the digest of the children which are readable by the user. The digest is cached per role set and will be invalidated by the node events of
+	 * the children and by permission changes.
+	 * 
+	 * @param user
+	 * @param branchUuid
+	 * @return
+	 */
+	private String getReadableChildrenDigest(MeshAuthUser user, String branchUuid) {
+		long generation = PermissionStore.childrenGeneration();
+		RoleSet roleSet = user.getRoleSet();
+		if (roleSet != null) {
+			String digest = PermissionStore.getChildrenDigest(roleSet, getUuid(), branchUuid);
+			if (digest != null) {
+				return digest;
+			}
+		}
+		StringBuilder builder = new StringBuilder();
+		Stream<Vertex> children = getChildren(branchUuid).stream().map(Node::getVertex);
+		PermissionFilteringIterator.filter(user, children, READ_PERM).forEach(child -> {
+			builder.append(child.getId());
+			builder.append(",");
+		});
+		String digest = ETag.hash(builder.toString());
+		if (roleSet != null) {
+			PermissionStore.storeChildrenDigest(roleSet, getUuid(), branchUuid, digest, generation);
+		}
+		return digest;
+	}
+
 	@Override
 	public String getAPIPath(InternalActionContext ac) {
 		return "/api/v1/" + encodeSegment(getProject().getName()) + "/nodes/" + getUuid();
@@ -2054,6 +2090,23 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		return out(HAS_CREATOR).nextOrDefault(UserImpl.class, null);
 	}
 
+	@Override
+	public void onCreated() {
+		String address = getTypeInfo().getOnCreatedAddress();
+		if (address != null) {
+			JsonObject json = new JsonObject();
+			json.put("origin", Mesh.mesh().getOptions().getNodeName());
+			json.put("uuid", getUuid());
+			json.put(WebRootPathCache.PARENT_NODE_UUIDS_KEY, getParentNodeUuids());
+			CommitHooks.afterCommit(() -> {
+				Mesh.vertx().eventBus().publish(address, json);
+				if (log.isDebugEnabled()) {
+					log.debug("Created event sent {" + address + "}");
+				}
+			});
+		}
+	}
+
 	@Override
 	public void onUpdated() {
 		String address = getTypeInfo().getOnUpdatedAddress();
@@ -2065,11 +2118,30 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			json.put("schemaName", getSchemaContainer().getName());
 			json.put("schemaUuid", getSchemaContainer().getUuid());
 			json.put("uuid", getUuid());
-			Mesh.vertx().eventBus().publish(address, json);
-			if (log.isDebugEnabled()) {
-				log.debug("Updated event sent {" + address + "}");
+			json.put(WebRootPathCache.PARENT_NODE_UUIDS_KEY, getParentNodeUuids());
+			CommitHooks.afterCommit(() -> {
+				Mesh.vertx().eventBus().publish(address, json);
+				if (log.isDebugEnabled()) {
+					log.debug("Updated event sent {" + address + "}");
+				}
+			});
+		}
+	}
+
+	/**
+	 * Return the uuids of the parent nodes of all branches. The parents are added to the node events since the etag of a node depends on its children.
+	 * 
+	 * @return
+	 */
+	private JsonArray getParentNodeUuids() {
+		Set<String> uuids = new HashSet<>();
+		for (Branch branch : getProject().getBranchRoot().findAll()) {
+			Node parent = getParentNode(branch.getUuid());
+			if (parent != null) {
+				uuids.add(parent.getUuid());
 			}
 		}
+		return new JsonArray(new ArrayList<>(uuids));
 	}
 
 	@Override
@@ -2091,10 +2163,12 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			json.put("schemaName", schema.getName());
 			json.put("schemaUuid", schema.getUuid());
 			json.put("uuid", uuid);
-			Mesh.vertx().eventBus().publish(address, json);
-			if (log.isDebugEnabled()) {
-				log.debug("Deleted event sent {" + address + "}");
-			}
+			CommitHooks.afterCommit(() -> {
+				Mesh.vertx().eventBus().publish(address, json);
+				if (log.isDebugEnabled()) {
+					log.debug("Deleted event sent {" + address + "}");
+				}
+			});
 		}
 	}
 
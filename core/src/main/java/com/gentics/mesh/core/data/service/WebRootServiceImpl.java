@@ -6,23 +6,33 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Stack;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.WebRootPathCache;
+import com.gentics.mesh.core.cache.WebRootPathCache.CachedPath;
+import com.gentics.mesh.core.cache.WebRootPathCache.Segment;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.GraphFieldContainerEdge;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.impl.GraphFieldContainerEdgeImpl;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.core.data.node.field.GraphField;
+import com.gentics.mesh.core.data.node.field.StringGraphField;
 import com.gentics.mesh.core.webroot.PathPrefixUtil;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.path.Path;
 import com.gentics.mesh.path.PathSegment;
+import com.syncleus.ferma.FramedGraph;
+import com.syncleus.ferma.tx.Tx;
 
 @Singleton
 public class WebRootServiceImpl implements WebRootService {
@@ -52,6 +62,30 @@ public class WebRootServiceImpl implements WebRootService {
 		}
 
 		path = PathPrefixUtil.strip(branch, path);
+
+		// Check whether the path was already resolved by a previous request
+		String cacheKey = WebRootPathCache.pathKey(project.getUuid(), branch.getUuid(), type, path);
+		CachedPath cachedPath = WebRootPathCache.getPath(cacheKey);
+		if (cachedPath != null) {
+			Path nodePath = loadCachedPath(cachedPath, project, branch.getUuid(), type, path);
+			if (nodePath != null) {
+				return nodePath;
+			}
+		}
+		long generation = WebRootPathCache.generation();
+		Path nodePath = resolvePath(ac, project, branch, type, path);
+		// The path to the project root is cheap to resolve and is thus not cached
+		boolean isRoot = "/".equals(path) || path.isEmpty();
+		if (!isRoot && !nodePath.getSegments().isEmpty() && nodePath.isFullyResolved()) {
+			CachedPath toCache = toCachedPath(nodePath);
+			if (toCache != null) {
+				WebRootPathCache.putPath(cacheKey, toCache, generation);
+			}
+		}
+		return nodePath;
+	}
+
+	private Path resolvePath(InternalActionContext ac, Project project, Branch branch, ContainerType type, String path) {
 		NodeGraphFieldContainer containerByWebUrlPath = findByUrlFieldPath(branch.getUuid(), path, type);
 		if (containerByWebUrlPath != null) {
 			return containerByWebUrlPath.getPath(ac);
@@ -88,7 +122,90 @@ public class WebRootServiceImpl implements WebRootService {
 		}
 
 		// Traverse the graph and buildup the result path while doing so
-		return baseNode.resolvePath(ac.getBranch().getUuid(), ContainerType.forVersion(ac.getVersioningParameters().getVersion()), nodePath, stack);
+		return baseNode.resolvePath(branch.getUuid(), type, nodePath, stack);
+	}
+
+	/**
+	 * Create the cache entry for the resolved path.
+	 * 
+	 * @param nodePath
+	 * @return Cache entry or null if the path contains elements which have not yet been persisted
+	 */
+	private CachedPath toCachedPath(Path nodePath) {
+		CachedPath cachedPath = new CachedPath(nodePath.getTargetPath(), nodePath.getInitialStack());
+		for (PathSegment segment : nodePath.getSegments()) {
+			Object id = segment.getContainer().id();
+			if (database.getElementIdAsLong(id) == -1) {
+				return null;
+			}
+			GraphField field = segment.getPathField();
+			String fieldKey = field == null ? null : field.getFieldKey();
+			String nodeUuid = segment.getContainer().getParentNode().getUuid();
+			cachedPath.addSegment(new Segment(id, nodeUuid, fieldKey, field instanceof BinaryGraphField, segment.getLanguageTag(), segment.getSegment()));
+		}
+		return cachedPath;
+	}
+
+	/**
+	 * Load the containers of the cached path. The containers are validated to still provide the cached segments for the branch and type. The nodes of the
+	 * segments must still form a chain of children which starts at the base node of the project.
+	 * 
+	 * @param cachedPath
+	 * @param project
+	 * @param branchUuid
+	 * @param type
+	 * @param path
+	 *            Requested path without the branch path prefix
+	 * @return Loaded path or null if the cached information is no longer valid
+	 */
+	private Path loadCachedPath(CachedPath cachedPath, Project project, String branchUuid, ContainerType type, String path) {
+		FramedGraph graph = Tx.getActive().getGraph();
+		Path nodePath = new Path();
+		nodePath.setTargetPath(cachedPath.getTargetPath());
+		if (cachedPath.getInitialStack() != null) {
+			Stack<String> stack = new Stack<>();
+			stack.addAll(cachedPath.getInitialStack());
+			nodePath.setInitialStack(stack);
+		}
+		List<Segment> segments = cachedPath.getSegments();
+		// A node which got a matching url field in the meantime takes precedence over the segment path
+		if (!segments.isEmpty() && segments.get(0).getFieldKey() != null && findByUrlFieldPath(branchUuid, path, type) != null) {
+			return null;
+		}
+		Object parentId = project.getBaseNode().id();
+		for (Segment cachedSegment : segments) {
+			NodeGraphFieldContainer container = graph.getFramedVertexExplicit(NodeGraphFieldContainerImpl.class, cachedSegment.getContainerId());
+			if (container == null || !container.isType(type, branchUuid)) {
+				return null;
+			}
+			GraphField field = null;
+			String fieldKey = cachedSegment.getFieldKey();
+			// Segments without a field key are provided by the url field of the container
+			if (fieldKey != null) {
+				// The node might have been moved
+				Node node = container.getParentNode();
+				Node parent = node.getParentNode(branchUuid);
+				if (parent == null || !parent.id().equals(parentId)) {
+					return null;
+				}
+				parentId = node.id();
+				String value;
+				if (cachedSegment.isBinary()) {
+					BinaryGraphField binaryField = container.getBinary(fieldKey);
+					value = binaryField == null ? null : binaryField.getFileName();
+					field = binaryField;
+				} else {
+					StringGraphField stringField = container.getString(fieldKey);
+					value = stringField == null ? null : stringField.getString();
+					field = stringField;
+				}
+				if (!Objects.equals(value, cachedSegment.getSegment())) {
+					return null;
+				}
+			}
+			nodePath.addSegment(new PathSegment(container, field, cachedSegment.getLanguageTag(), cachedSegment.getSegment()));
+		}
+		return nodePath;
 	}
 
 	@Override
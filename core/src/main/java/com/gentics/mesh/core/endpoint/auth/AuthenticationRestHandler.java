@@ -1,6 +1,7 @@
 package com.gentics.mesh.core.endpoint.auth;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.netty.handler.codec.http.HttpResponseStatus.UNAUTHORIZED;
@@ -50,7 +51,7 @@ public class AuthenticationRestHandler extends AbstractHandler {
 	public void handleLogout(InternalActionContext ac) {
 		ac.logout();
 		GenericMessageResponse message = new GenericMessageResponse("OK");
-		ac.send(message.toJson(), OK);
+		ac.send(JsonUtil.toJsonBuffer(message, false), OK, APPLICATION_JSON_UTF8);
 	}
 
 	/**
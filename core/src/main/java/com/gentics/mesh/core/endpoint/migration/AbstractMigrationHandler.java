@@ -4,11 +4,8 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Set;
 
-import javax.script.ScriptEngine;
-
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.GraphFieldContainer;
-import com.gentics.mesh.core.data.node.handler.TypeConverter;
 import com.gentics.mesh.core.data.schema.GraphFieldSchemaContainerVersion;
 import com.gentics.mesh.core.data.schema.RemoveFieldChange;
 import com.gentics.mesh.core.data.schema.SchemaChange;
@@ -18,25 +15,18 @@ import com.gentics.mesh.core.endpoint.handler.AbstractHandler;
 import com.gentics.mesh.core.endpoint.node.BinaryFieldHandler;
 import com.gentics.mesh.core.rest.common.FieldContainer;
 import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.core.rest.schema.FieldSchemaContainer;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.util.Tuple;
 
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
-import jdk.nashorn.api.scripting.ClassFilter;
-import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
 
-@SuppressWarnings("restriction")
 public abstract class AbstractMigrationHandler extends AbstractHandler implements MigrationHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(AbstractMigrationHandler.class);
 
-	/**
-	 * Script engine factory.
-	 */
-	protected NashornScriptEngineFactory factory = new NashornScriptEngineFactory();
-
 	protected Database db;
 
 	protected SearchQueue searchQueue;
@@ -65,6 +55,10 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 		SchemaChange<?> change = fromVersion.getNextChange();
 		while (change != null) {
 			String migrationScript = change.getMigrationScript();
+			// Removing a field does not need the automatic script since touched fields are removed directly from the graph
+			if (change instanceof RemoveFieldChange && migrationScript != null && migrationScript.equals(change.getAutoMigrationScript())) {
+				migrationScript = null;
+			}
 			if (migrationScript != null) {
 				migrationScript = migrationScript + "\nnode = JSON.stringify(migrate(JSON.parse(node), fieldname, convert));";
 				migrationScripts.add(Tuple.tuple(migrationScript, change.getMigrationScriptContext()));
@@ -85,12 +79,16 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 	/**
 	 * Migrate the given container. This will also set the new version to the container.
 	 * 
+	 * The container must already contain the cloned fields of the old version. Touched fields are removed from the container. If no migration script
+	 * needs to be run, the migration is applied directly to the graph and the REST model is not needed. Otherwise the REST model is passed through the
+	 * scripts and the resulting fields are written to the container.
+	 * 
 	 * @param ac
 	 *            context
 	 * @param container
 	 *            container to migrate
 	 * @param restModel
-	 *            rest model of the container
+	 *            rest model of the container. May be null if no migration scripts need to be run.
 	 * @param newVersion
 	 *            new schema version
 	 * @param touchedFields
@@ -107,47 +105,35 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 		// Remove all touched fields (if necessary, they will be readded later)
 		container.getFields().stream().filter(f -> touchedFields.contains(f.getFieldKey())).forEach(f -> f.removeField(container));
 
+		if (migrationScripts.isEmpty()) {
+			// All other fields have already been cloned and remain unchanged
+			container.setSchemaContainerVersion(newVersion);
+			return;
+		}
+
 		String nodeJson = restModel.toJson();
 
 		for (Tuple<String, List<Tuple<String, Object>>> scriptEntry : migrationScripts) {
-			String script = scriptEntry.v1();
-			List<Tuple<String, Object>> context = scriptEntry.v2();
-			ScriptEngine engine = factory.getScriptEngine(new Sandbox());
-
-			engine.put("node", nodeJson);
-			engine.put("convert", new TypeConverter());
-			if (context != null) {
-				for (Tuple<String, Object> ctxEntry : context) {
-					engine.put(ctxEntry.v1(), ctxEntry.v2());
-				}
-			}
-			engine.eval(script);
-
-			Object transformedNodeModel = engine.get("node");
-
-			if (transformedNodeModel == null) {
+			nodeJson = MigrationScriptPool.run(scriptEntry.v1(), scriptEntry.v2(), nodeJson);
+			if (nodeJson == null) {
 				throw new Exception("Transformed node model not found after handling migration scripts");
 			}
-
-			nodeJson = transformedNodeModel.toString();
 		}
 
 		// Transform the result back to the Rest Model
 		T transformedRestModel = JsonUtil.readValue(nodeJson, clazz);
 
+		// Drop the removed fields for which no script was run
+		FieldSchemaContainer newSchema = newVersion.getSchema();
+		for (String fieldName : touchedFields) {
+			if (newSchema.getField(fieldName) == null) {
+				transformedRestModel.getFields().remove(fieldName);
+			}
+		}
+
 		container.setSchemaContainerVersion(newVersion);
 		container.updateFieldsFromRest(ac, transformedRestModel.getFields());
 
 	}
 
-	/**
-	 * Sandbox classfilter that filters all classes
-	 */
-	protected static class Sandbox implements ClassFilter {
-		@Override
-		public boolean exposeToScripts(String className) {
-			return false;
-		}
-	}
-
 }
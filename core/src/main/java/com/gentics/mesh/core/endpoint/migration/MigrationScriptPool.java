@@ -0,0 +1,107 @@
+package com.gentics.mesh.core.endpoint.migration;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+
+import com.gentics.mesh.core.data.node.handler.TypeConverter;
+import com.gentics.mesh.util.Tuple;
+
+import jdk.nashorn.api.scripting.ClassFilter;
+import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
+
+/**
+ * Pool of script engines and compiled migration scripts.
+ *
+ * Creating a script engine and compiling a script is far more expensive than running the script for a single container. Each thread thus uses its own
+ * sandboxed engine and compiles each migration script only once. The compiled script is evaluated with fresh bindings for every container so that the
+ * scripts can't share state between containers.
+ */
+@SuppressWarnings("restriction")
+public final class MigrationScriptPool {
+
+	/**
+	 * Maximum amount of compiled scripts which will be kept per thread.
+	 */
+	private static final int MAX_SCRIPTS_PER_THREAD = 50;
+
+	private static final NashornScriptEngineFactory factory = new NashornScriptEngineFactory();
+
+	private static final ThreadLocal<EngineHolder> ENGINES = ThreadLocal.withInitial(EngineHolder::new);
+
+	private MigrationScriptPool() {
+	}
+
+	/**
+	 * Run the migration script for the given node JSON.
+	 *
+	 * @param script
+	 *            Migration script
+	 * @param context
+	 *            Additional variables for the script or null
+	 * @param nodeJson
+	 *            JSON of the container which will be passed to the script
+	 * @return Transformed JSON or null if the script did not provide a result
+	 * @throws ScriptException
+	 */
+	public static String run(String script, List<Tuple<String, Object>> context, String nodeJson) throws ScriptException {
+		EngineHolder holder = ENGINES.get();
+		CompiledScript compiled = holder.compile(script);
+
+		Bindings bindings = holder.engine.createBindings();
+		bindings.put("node", nodeJson);
+		bindings.put("convert", new TypeConverter());
+		if (context != null) {
+			for (Tuple<String, Object> ctxEntry : context) {
+				bindings.put(ctxEntry.v1(), ctxEntry.v2());
+			}
+		}
+		compiled.eval(bindings);
+
+		Object transformedNodeModel = bindings.get("node");
+		return transformedNodeModel == null ? null : transformedNodeModel.toString();
+	}
+
+	/**
+	 * Engine of a single thread together with the scripts that were compiled by the engine.
+	 */
+	private static class EngineHolder {
+
+		private final ScriptEngine engine = factory.getScriptEngine(new Sandbox());
+
+		private final Map<String, CompiledScript> scripts = new LinkedHashMap<String, CompiledScript>(16, 0.75f, true) {
+			private static final long serialVersionUID = 2217461698543094052L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CompiledScript> eldest) {
+				return size() > MAX_SCRIPTS_PER_THREAD;
+			}
+		};
+
+		private CompiledScript compile(String script) throws ScriptException {
+			CompiledScript compiled = scripts.get(script);
+			if (compiled == null) {
+				compiled = ((Compilable) engine).compile(script);
+				scripts.put(script, compiled);
+			}
+			return compiled;
+		}
+	}
+
+	/**
+	 * Sandbox classfilter that filters all classes
+	 */
+	private static class Sandbox implements ClassFilter {
+		@Override
+		public boolean exposeToScripts(String className) {
+			return false;
+		}
+	}
+
+}
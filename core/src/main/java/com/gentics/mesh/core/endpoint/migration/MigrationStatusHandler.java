@@ -55,4 +55,11 @@ public interface MigrationStatusHandler {
 
 	void incCompleted();
 
+	/**
+	 * Increment the completion count by the given amount.
+	 * 
+	 * @param count
+	 */
+	void incCompleted(long count);
+
 }
@@ -45,6 +45,8 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 		this.vertx = vertx;
 		this.job = job;
 		status = job.getStatus();
+		// Continue with the count of a previously interrupted run of the job
+		completionCount = job.getCompletionCount();
 	}
 
 	@Override
@@ -139,4 +141,9 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 		completionCount++;
 	}
 
+	@Override
+	public void incCompleted(long count) {
+		completionCount += count;
+	}
+
 }
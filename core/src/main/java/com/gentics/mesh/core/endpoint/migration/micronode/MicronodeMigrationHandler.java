@@ -296,8 +296,8 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 			// clone the field (this will clone the micronode)
 			field = container.createMicronode(field.getFieldKey(), fromVersion);
 			Micronode micronode = field.getMicronode();
-			// transform to rest and migrate
-			MicronodeResponse restModel = micronode.transformToRestSync(ac, 0);
+			// transform to rest (only needed by the migration scripts) and migrate
+			MicronodeResponse restModel = migrationScripts.isEmpty() ? null : micronode.transformToRestSync(ac, 0);
 			migrate(ac, micronode, restModel, toVersion, touchedFields, migrationScripts, MicronodeResponse.class);
 		}
 
@@ -317,8 +317,8 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 
 				// migrate the micronode, if it uses the fromVersion
 				if (newMicronode.getSchemaContainerVersion().equals(fromVersion)) {
-					// transform to rest and migrate
-					MicronodeResponse restModel = newMicronode.transformToRestSync(ac, 0);
+					// transform to rest (only needed by the migration scripts) and migrate
+					MicronodeResponse restModel = migrationScripts.isEmpty() ? null : newMicronode.transformToRestSync(ac, 0);
 					migrate(ac, newMicronode, restModel, toVersion, touchedFields, migrationScripts, MicronodeResponse.class);
 				}
 			}
@@ -10,10 +10,12 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
@@ -25,16 +27,20 @@ import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.endpoint.migration.AbstractMigrationHandler;
 import com.gentics.mesh.core.endpoint.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.endpoint.node.BinaryFieldHandler;
+import com.gentics.mesh.core.rest.job.warning.ConflictWarning;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
+import com.gentics.mesh.etc.config.MigrationOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.util.Tuple;
 import com.gentics.mesh.util.VersionNumber;
 import com.syncleus.ferma.tx.Tx;
 
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.exceptions.CompositeException;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -92,42 +98,42 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 			status.commit();
 		}
 
-		// Iterate over all containers and invoke a migration for each one
-		long count = 0;
+		MigrationOptions options = Mesh.mesh().getOptions().getMigrationOptions();
+		int batchSize = Math.max(1, options.getBatchSize());
+		int workers = Math.max(1, options.getWorkers());
+
+		// Migrate the batches in parallel. Each batch is migrated within a dedicated transaction by one of the workers. The results are handled by the
+		// calling thread which also persists the progress of the job. Only the batches for the next round of the workers are read from the graph.
+		AtomicLong count = new AtomicLong();
 		List<Exception> errorsDetected = new ArrayList<>();
-		SearchQueueBatch sqb = null;
+		Set<Object> handledNodes = new HashSet<>();
 		while (fieldContainers.hasNext()) {
-			NodeGraphFieldContainer container = fieldContainers.next();
-			// Create a new SQB to handle the ES update
-			if (sqb == null) {
-				sqb = searchQueue.create();
-			}
-			migrateContainer(ac, sqb, container, toVersion, migrationScripts, branch, newSchema, errorsDetected, touchedFields);
-
-			if (status != null) {
-				status.incCompleted();
-			}
-			if (count % 50 == 0) {
-				log.info("Migrated containers: " + count);
-				if (status != null) {
-					status.commit();
+			List<List<NodeGraphFieldContainer>> batches = new ArrayList<>(workers);
+			while (batches.size() < workers && fieldContainers.hasNext()) {
+				List<NodeGraphFieldContainer> batch = nextBatch(fieldContainers, fromVersion, branch, batchSize, handledNodes);
+				if (!batch.isEmpty()) {
+					batches.add(batch);
 				}
 			}
-			count++;
-			if (count % 500 == 0) {
-				// Process the batch and reset it
-				log.info("Syncing batch with size: " + sqb.size());
-				sqb.processSync();
-				sqb = null;
-			}
-		}
-		if (sqb != null) {
-			log.info("Syncing last batch with size: " + sqb.size());
-			sqb.processSync();
-			sqb = null;
+			Flowable.fromIterable(batches)
+				.parallel(workers)
+				.runOn(Schedulers.io())
+				.map(batch -> migrateBatch(project, branch, batch, toVersion, migrationScripts, newSchema, touchedFields))
+				.sequential()
+				.blockingForEach(result -> {
+					errorsDetected.addAll(result.errors);
+					ac.getConflicts().addAll(result.conflicts);
+					long total = count.addAndGet(result.size);
+					log.info("Migrated containers: " + total);
+					if (status != null) {
+						// The committed count acts as checkpoint. Restarted jobs will only find the containers which have not yet been migrated.
+						status.incCompleted(result.size);
+						status.commit();
+					}
+				});
 		}
 
-		log.info("Migration of " + count + " containers done..");
+		log.info("Migration of " + count.get() + " containers done..");
 		log.info("Encountered {" + errorsDetected.size() + "} errors during node migration.");
 		// TODO prepare errors. They should be easy to understand and to grasp
 		Completable result = Completable.complete();
@@ -143,7 +149,95 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	}
 
 	/**
-	 * Migrates the given container.
+	 * Read the next batch of containers. All draft containers of the same node are placed into the same batch since they would otherwise cause conflicts
+	 * when being migrated in parallel.
+	 * 
+	 * @param containers
+	 *            Iterator of the containers which need to be migrated
+	 * @param fromVersion
+	 * @param branch
+	 * @param batchSize
+	 * @param handledNodes
+	 *            Ids of the nodes which have already been added to a batch
+	 * @return Containers of the batch
+	 */
+	private List<NodeGraphFieldContainer> nextBatch(Iterator<? extends NodeGraphFieldContainer> containers, SchemaContainerVersion fromVersion,
+		Branch branch, int batchSize, Set<Object> handledNodes) {
+		List<NodeGraphFieldContainer> batch = new ArrayList<>();
+		while (batch.size() < batchSize && containers.hasNext()) {
+			Node node = containers.next().getParentNode();
+			if (!handledNodes.add(node.id())) {
+				continue;
+			}
+			for (NodeGraphFieldContainer container : node.getGraphFieldContainers(branch, DRAFT)) {
+				if (container.getSchemaContainerVersion().id().equals(fromVersion.id())) {
+					batch.add(container);
+				}
+			}
+		}
+		return batch;
+	}
+
+	/**
+	 * Migrate the given batch of containers. The batch is migrated within a single transaction which will be retried on conflicts. If the batch fails
+	 * the containers will be migrated using one transaction per container so that a single failing container does not prevent the migration of the
+	 * other containers.
+	 * 
+	 * @param project
+	 * @param branch
+	 * @param batch
+	 *            Containers to be migrated
+	 * @param toVersion
+	 * @param migrationScripts
+	 * @param newSchema
+	 * @param touchedFields
+	 * @return Result of the batch
+	 */
+	private BatchResult migrateBatch(Project project, Branch branch, List<NodeGraphFieldContainer> batch, SchemaContainerVersion toVersion,
+		List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, SchemaModel newSchema, Set<String> touchedFields) {
+
+		// The context is not thread safe and thus each batch uses its own context
+		NodeMigrationActionContextImpl ac = new NodeMigrationActionContextImpl();
+		ac.setProject(project);
+		ac.setBranch(branch);
+		BatchResult result = new BatchResult(batch.size(), ac.getConflicts());
+
+		SearchQueueBatch sqb;
+		try {
+			// The search queue batch is created within the transaction so that retried attempts don't leave stale entries
+			sqb = db.tx((tx) -> {
+				SearchQueueBatch txBatch = searchQueue.create();
+				for (NodeGraphFieldContainer container : batch) {
+					migrateContainer(ac, txBatch, container, toVersion, migrationScripts, branch, newSchema, touchedFields);
+				}
+				return txBatch;
+			});
+		} catch (Exception e) {
+			log.warn("Migration of batch with {" + batch.size() + "} containers failed. Migrating the containers separately.", e);
+			for (NodeGraphFieldContainer container : batch) {
+				try {
+					SearchQueueBatch sqb = db.tx((tx) -> {
+						SearchQueueBatch txBatch = searchQueue.create();
+						migrateContainer(ac, txBatch, container, toVersion, migrationScripts, branch, newSchema, touchedFields);
+						return txBatch;
+					});
+					sqb.processSync();
+				} catch (Exception e1) {
+					db.tx((tx) -> {
+						log.error("Error while handling container {" + container.getUuid() + "} of node {" + container.getParentNode().getUuid()
+							+ "} during schema migration.", e1);
+					});
+					result.errors.add(e1);
+				}
+			}
+			return result;
+		}
+		sqb.processSync();
+		return result;
+	}
+
+	/**
+	 * Migrates the given container. Needs to be called within a transaction.
 	 * 
 	 * @param ac
 	 * @param batch
@@ -153,52 +247,41 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	 * @param migrationScripts
 	 * @param branch
 	 * @param newSchema
-	 * @param errorsDetected
 	 * @param touchedFields
-	 * @return
+	 * @throws Exception
 	 */
-	private void migrateContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch batch, NodeGraphFieldContainer container, SchemaContainerVersion toVersion,
-		List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, Branch branch, SchemaModel newSchema, List<Exception> errorsDetected,
-		Set<String> touchedFields) {
+	private void migrateContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch batch, NodeGraphFieldContainer container,
+		SchemaContainerVersion toVersion, List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, Branch branch, SchemaModel newSchema,
+		Set<String> touchedFields) throws Exception {
 
 		if (log.isDebugEnabled()) {
 			log.debug("Migrating container {" + container.getUuid() + "}");
 		}
-		try {
-			// Run the actual migration in a dedicated transaction
-			db.tx((tx) -> {
-
-				Node node = container.getParentNode();
-				String languageTag = container.getLanguage().getLanguageTag();
-				ac.getNodeParameters().setLanguages(languageTag);
-				ac.getVersioningParameters().setVersion("draft");
-
-				VersionNumber nextDraftVersion = null;
-				NodeGraphFieldContainer oldPublished = node.getGraphFieldContainer(languageTag, branch.getUuid(), PUBLISHED);
-				// 1. Check whether there is any other published container which we need to handle separately
-				if (oldPublished != null && !oldPublished.equals(container)) {
-					// We only need to migrate the container if the container's schema version is also "old"
-					boolean hasSameOldSchemaVersion = container != null
-						&& container.getSchemaContainerVersion().id().equals(container.getSchemaContainerVersion().id());
-					if (hasSameOldSchemaVersion) {
-						nextDraftVersion = migratePublishedContainer(ac, batch, branch, node, oldPublished, toVersion, touchedFields,
-							migrationScripts,
-							newSchema);
-						nextDraftVersion = nextDraftVersion.nextDraft();
-					}
 
-				}
+		Node node = container.getParentNode();
+		String languageTag = container.getLanguage().getLanguageTag();
+		ac.getNodeParameters().setLanguages(languageTag);
+		ac.getVersioningParameters().setVersion("draft");
+
+		VersionNumber nextDraftVersion = null;
+		NodeGraphFieldContainer oldPublished = node.getGraphFieldContainer(languageTag, branch.getUuid(), PUBLISHED);
+		// 1. Check whether there is any other published container which we need to handle separately
+		if (oldPublished != null && !oldPublished.equals(container)) {
+			// We only need to migrate the container if the container's schema version is also "old"
+			boolean hasSameOldSchemaVersion = container != null
+				&& container.getSchemaContainerVersion().id().equals(container.getSchemaContainerVersion().id());
+			if (hasSameOldSchemaVersion) {
+				nextDraftVersion = migratePublishedContainer(ac, batch, branch, node, oldPublished, toVersion, touchedFields,
+					migrationScripts,
+					newSchema);
+				nextDraftVersion = nextDraftVersion.nextDraft();
+			}
 
-				// 2. Migrate the draft container. This will also update the draft edge.
-				migrateDraftContainer(ac, batch, branch, node, container, toVersion, touchedFields, migrationScripts, newSchema,
-					nextDraftVersion);
-			});
-		} catch (Exception e1) {
-			log.error("Error while handling container {" + container.getUuid() + "} of node {" + container.getParentNode().getUuid()
-				+ "} during schema migration.", e1);
-			errorsDetected.add(e1);
 		}
 
+		// 2. Migrate the draft container. This will also update the draft edge.
+		migrateDraftContainer(ac, batch, branch, node, container, toVersion, touchedFields, migrationScripts, newSchema,
+			nextDraftVersion);
 	}
 
 	/**
@@ -236,10 +319,13 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 		boolean publish = container.isPublished(branchUuid);
 
 		ac.getVersioningParameters().setVersion(container.getVersion().getFullVersion());
-		NodeResponse restModel = node.transformToRestSync(ac, 0, languageTag);
-
-		// Update the schema version. Otherwise deserialisation of the JSON will fail later on.
-		restModel.getSchema().setVersion(newSchema.getVersion());
+		NodeResponse restModel = null;
+		// The REST model is only needed by the migration scripts
+		if (!migrationScripts.isEmpty()) {
+			restModel = node.transformToRestSync(ac, 0, languageTag);
+			// Update the schema version. Otherwise deserialisation of the JSON will fail later on.
+			restModel.getSchema().setVersion(newSchema.getVersion());
+		}
 
 		// Actual migration - Create the new version
 		NodeGraphFieldContainer migrated = node.createGraphFieldContainer(container.getLanguage(), branch, container.getEditor(), container, true);
@@ -291,8 +377,11 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 		String branchUuid = branch.getUuid();
 
 		ac.getVersioningParameters().setVersion("published");
-		NodeResponse restModel = node.transformToRestSync(ac, 0, languageTag);
-		restModel.getSchema().setVersion(newSchema.getVersion());
+		NodeResponse restModel = null;
+		if (!migrationScripts.isEmpty()) {
+			restModel = node.transformToRestSync(ac, 0, languageTag);
+			restModel.getSchema().setVersion(newSchema.getVersion());
+		}
 
 		NodeGraphFieldContainer migrated = node.createGraphFieldContainer(container.getLanguage(), branch, container.getEditor(), container, true);
 
@@ -304,4 +393,21 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 		return migrated.getVersion();
 	}
 
+	/**
+	 * Result of the migration of a single batch.
+	 */
+	private static class BatchResult {
+
+		private final int size;
+
+		private final Set<ConflictWarning> conflicts;
+
+		private final List<Exception> errors = new ArrayList<>();
+
+		BatchResult(int size, Set<ConflictWarning> conflicts) {
+			this.size = size;
+			this.conflicts = conflicts;
+		}
+	}
+
 }
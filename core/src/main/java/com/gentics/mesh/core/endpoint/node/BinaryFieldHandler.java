@@ -11,9 +11,13 @@ import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -42,13 +46,13 @@ import com.gentics.mesh.core.image.spi.ImageInfo;
 import com.gentics.mesh.core.image.spi.ImageManipulator;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.core.rest.error.NodeVersionConflictException;
+import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.field.BinaryFieldTransformRequest;
 import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
 import com.gentics.mesh.core.rest.schema.BinaryFieldSchema;
 import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.etc.config.MeshUploadOptions;
 import com.gentics.mesh.graphdb.spi.Database;
-import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.image.CropMode;
@@ -57,6 +61,7 @@ import com.gentics.mesh.storage.BinaryStorage;
 import com.gentics.mesh.util.FileUtils;
 import com.gentics.mesh.util.NodeUtil;
 import com.gentics.mesh.util.RxUtil;
+import com.gentics.mesh.util.UUIDUtil;
 
 import dagger.Lazy;
 import io.reactivex.Flowable;
@@ -197,7 +202,56 @@ public class BinaryFieldHandler extends AbstractHandler {
 		// (if the transaction failed and has to be repeated).
 		ac.put("sourceFile", ul.uploadedFileName());
 
+		// Fail early if the node can't be updated to avoid storing the data
 		db.tx(() -> {
+			ac.getProject().getNodeRoot().loadObjectByUuid(ac, nodeUuid, UPDATE_PERM);
+		});
+
+		// Store the data and extract the meta data before the transaction is started. The data is hashed while it is being stored. The transaction only
+		// needs to link the binary and to apply the extracted meta data.
+		String uploadBinaryUuid = UUIDUtil.randomUUID();
+		String hash = storeUpload(ul, uploadBinaryUuid);
+		List<Consumer<BinaryGraphField>> fieldUpdates = processUpload(ul);
+		AtomicBoolean uploadBinaryUsed = new AtomicBoolean();
+
+		Single<NodeResponse> result;
+		try {
+			result = updateField(ac, nodeUuid, fieldName, languageTag, nodeVersion, ul, hash, uploadBinaryUuid, uploadBinaryUsed, fieldUpdates);
+		} catch (RuntimeException e) {
+			binaryStorage.delete(uploadBinaryUuid).blockingAwait();
+			throw e;
+		}
+		// The data has already been stored by a previous upload
+		if (!uploadBinaryUsed.get()) {
+			binaryStorage.delete(uploadBinaryUuid).blockingAwait();
+		}
+		result.subscribe(model -> ac.send(model, CREATED), ac::fail);
+	}
+
+	/**
+	 * Create the new node version which references the stored binary.
+	 * 
+	 * @param ac
+	 * @param nodeUuid
+	 * @param fieldName
+	 * @param languageTag
+	 * @param nodeVersion
+	 * @param ul
+	 *            Processed upload
+	 * @param hash
+	 *            SHA 512 checksum of the upload
+	 * @param uploadBinaryUuid
+	 *            Uuid under which the upload was stored
+	 * @param uploadBinaryUsed
+	 *            Will be set to true when a new binary has been created for the stored upload
+	 * @param fieldUpdates
+	 *            Meta data which was extracted from the upload
+	 * @return
+	 */
+	private Single<NodeResponse> updateField(InternalActionContext ac, String nodeUuid, String fieldName, String languageTag, String nodeVersion,
+		FileUpload ul, String hash, String uploadBinaryUuid, AtomicBoolean uploadBinaryUsed, List<Consumer<BinaryGraphField>> fieldUpdates) {
+		return db.tx(() -> {
+			uploadBinaryUsed.set(false);
 			Project project = ac.getProject();
 			Branch branch = ac.getBranch();
 			Node node = project.getNodeRoot().loadObjectByUuid(ac, nodeUuid, UPDATE_PERM);
@@ -262,13 +316,12 @@ public class BinaryFieldHandler extends AbstractHandler {
 
 			// Check whether the binary with the given hashsum was already stored
 			BinaryRoot binaryRoot = boot.get().meshRoot().getBinaryRoot();
-			String hash = FileUtils.hash(ul.uploadedFileName());
 			Binary binary = binaryRoot.findByHash(hash);
 
-			// Create a new binary if the data was not already stored
-			boolean storeBinary = binary == null;
-			if (storeBinary) {
-				binary = binaryRoot.create(hash, ul.size());
+			// Create a new binary for the stored upload if the data was not already stored
+			if (binary == null) {
+				binary = binaryRoot.create(uploadBinaryUuid, hash, ul.size());
+				uploadBinaryUsed.set(true);
 			}
 
 			// Get the potential existing field
@@ -287,8 +340,10 @@ public class BinaryFieldHandler extends AbstractHandler {
 				}
 			}
 
-			// Process the upload which will update the binary field
-			processUpload(ac, ul, field, storeBinary);
+			// Apply the information which was extracted from the upload
+			for (Consumer<BinaryGraphField> update : fieldUpdates) {
+				update.accept(field);
+			}
 
 			// Now get rid of the old field
 			if (oldField != null) {
@@ -298,45 +353,53 @@ public class BinaryFieldHandler extends AbstractHandler {
 			if (field.getFieldKey().equals(newDraftVersion.getSchemaContainerVersion().getSchema().getSegmentField())) {
 				newDraftVersion.updateWebrootPathInfo(branch.getUuid(), "node_conflicting_segmentfield_upload");
 			}
+			node.onUpdated();
 
 			return batch.store(node, branch.getUuid(), DRAFT, false).processAsync().andThen(node.transformToRest(ac, 0));
-		}).subscribe(model -> ac.send(model, CREATED), ac::fail);
+		});
 	}
 
 	/**
-	 * Processes the upload and set the binary information (e.g.: image dimensions) within the provided field. The binary data will be stored in the
-	 * {@link BinaryStorage} if desired.
+	 * Store the uploaded data in the {@link BinaryStorage} and compute the SHA 512 checksum of the data while it is being stored. This way the upload
+	 * only needs to be read once.
 	 * 
-	 * @param ac
 	 * @param ul
-	 *            Upload to process
-	 * @param field
-	 *            Field which will be updated with the extracted information
-	 * @param storeBinary
-	 *            Whether to store the data in the binary store
+	 *            Upload to store
+	 * @param binaryUuid
+	 *            Uuid which will be used to store the data
+	 * @return Hex encoded SHA 512 checksum
 	 */
-	private void processUpload(ActionContext ac, FileUpload ul, BinaryGraphField field, boolean storeBinary) {
+	private String storeUpload(FileUpload ul, String binaryUuid) {
+		try {
+			MessageDigest md = MessageDigest.getInstance("SHA-512");
+			AsyncFile asyncFile = Mesh.vertx().fileSystem().openBlocking(ul.uploadedFileName(), new OpenOptions());
+			Flowable<Buffer> stream = RxUtil.toBufferFlow(asyncFile).doOnNext(buffer -> md.update(buffer.getByteBuf().nioBuffer()));
+			binaryStorage.store(stream, binaryUuid).blockingAwait();
+			return FileUtils.bytesToHex(md.digest());
+		} catch (Exception e) {
+			log.error("Error while storing upload {" + ul.fileName() + "/" + ul.uploadedFileName() + "}", e);
+			throw error(INTERNAL_SERVER_ERROR, "node_error_upload_failed", e);
+		}
+	}
 
-		// Process the upload and extract needed information
+	/**
+	 * Processes the upload and extract the binary information (e.g.: image dimensions).
+	 * 
+	 * @param ul
+	 *            Upload to process
+	 * @return Updates which will set the extracted information within the binary field
+	 */
+	private List<Consumer<BinaryGraphField>> processUpload(FileUpload ul) {
+		List<Consumer<BinaryGraphField>> updates = new ArrayList<>();
 		String contentType = ul.contentType();
 		for (BinaryDataProcessor p : binaryProcessorRegistry.getProcessors(contentType)) {
 			try {
-				p.process(ul, field);
+				updates.add(p.process(ul));
 			} catch (Exception e) {
 				log.warn("Processing of upload {" + ul.fileName() + "/" + ul.uploadedFileName() + "} in handler {" + p.getClass() + "}", e);
 			}
 		}
-
-		// Store the data
-		if (storeBinary) {
-			Binary binary = field.getBinary();
-			String binaryUuid = binary.getUuid();
-			String uploadFile = ul.uploadedFileName();
-			AsyncFile asyncFile = Mesh.vertx().fileSystem().openBlocking(uploadFile, new OpenOptions());
-			Flowable<Buffer> stream = RxUtil.toBufferFlow(asyncFile);
-			binaryStorage.store(stream, binaryUuid).andThen(Single.just(ul.size())).blockingGet();
-		}
-
+		return updates;
 	}
 
 	/**
@@ -23,11 +23,13 @@ import com.gentics.mesh.util.ETag;
 import com.gentics.mesh.util.RxUtil;
 
 import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.impl.MimeMapping;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.reactivex.RxHelper;
 
 /**
  * Handler which will accept {@link BinaryGraphField} elements and return the binary data using the given context.
@@ -35,6 +37,11 @@ import io.vertx.ext.web.RoutingContext;
 @Singleton
 public class BinaryFieldResponseHandler {
 
+	/**
+	 * Amount of buffers which will be read in advance from binary storages which don't provide a local file.
+	 */
+	private static final int REMOTE_READ_AHEAD = 16;
+
 	private ImageManipulator imageManipulator;
 
 	private BinaryStorage storage;
@@ -118,7 +125,9 @@ public class BinaryFieldResponseHandler {
 			}
 			response.putHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate");
 			response.putHeader(HttpHeaders.CONTENT_LENGTH, contentLength);
-			binary.getStream().subscribe(response::write, rc::fail, response::end);
+			Disposable transfer = RxUtil.pipe(binary.getStream(), response, REMOTE_READ_AHEAD).subscribe(response::end, rc::fail);
+			// Stop reading from the storage when the client goes away
+			response.closeHandler(v -> transfer.dispose());
 		}
 
 	}
@@ -137,11 +146,10 @@ public class BinaryFieldResponseHandler {
 		}
 		// Resize the image if needed
 		Flowable<Buffer> data = binary.getStream();
-		Flowable<Buffer> resizedData = imageManipulator.handleResize(data, sha512sum, imageParams)
-			.toFlowable()
-			.map(fileWithProps -> {
-				response.putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(fileWithProps.getProps().size()));
-				response.putHeader(HttpHeaders.CONTENT_TYPE, "image/jpeg");
+		imageManipulator.handleResizeToFile(data, sha512sum, imageParams)
+			// Send the file from the request context instead of the resize worker
+			.observeOn(RxHelper.scheduler(rc.vertx().getOrCreateContext()))
+			.subscribe(cacheFile -> {
 				response.putHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate");
 				response.putHeader(MeshHeaders.WEBROOT_RESPONSE_TYPE, "binary");
 				// Set to IDENTITY to avoid gzip compression
@@ -149,10 +157,9 @@ public class BinaryFieldResponseHandler {
 
 				// TODO encode filename?
 				response.putHeader("content-disposition", "inline; filename=" + fileName);
-				return fileWithProps.getFile();
-			}).flatMap(RxUtil::toBufferFlow);
-		resizedData.subscribe(response::write, rc::fail, response::end);
-
+				RangeRequestHandler handler = new RangeRequestHandlerImpl();
+				handler.handle(rc, cacheFile, "image/jpeg");
+			}, rc::fail);
 	}
 
 }
@@ -155,12 +155,18 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 			NodeRoot nodeRoot = project.getNodeRoot();
 			Node sourceNode = nodeRoot.loadObjectByUuid(ac, uuid, UPDATE_PERM);
 			Node targetNode = nodeRoot.loadObjectByUuid(ac, toUuid, UPDATE_PERM);
+			// The children of the previous parent node change as well
+			Node previousParent = sourceNode.getParentNode(ac.getBranch().getUuid());
 
 			db.tx(() -> {
 				SearchQueueBatch batch = searchQueue.create();
 				sourceNode.moveTo(ac, targetNode, batch);
 				return batch;
 			}).processSync();
+			sourceNode.onUpdated();
+			if (previousParent != null) {
+				previousParent.onUpdated();
+			}
 			return null;
 		}, m -> ac.send(NO_CONTENT));
 
@@ -350,6 +356,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 				node.publish(ac, bac);
 				return bac.batch();
 			});
+			node.onUpdated();
 			return sqb.processAsync().andThen(Single.just(node.transformToPublishStatus(ac)));
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
 	}
@@ -369,6 +376,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 			Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, PUBLISH_PERM);
 			BulkActionContext bac = searchQueue.createBulkContext();
 			node.takeOffline(ac, bac);
+			node.onUpdated();
 			return bac.batch().processAsync().andThen(Single.just(Optional.empty()));
 		}).subscribe(model -> ac.send(NO_CONTENT), ac::fail);
 	}
@@ -412,6 +420,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 				node.publish(ac, bac, languageTag);
 				return bac.batch();
 			});
+			node.onUpdated();
 			return sqb.processAsync().andThen(Single.just(node.transformToPublishStatus(ac, languageTag)));
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
 	}
@@ -431,12 +440,14 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 
 		db.asyncTx(() -> {
 			Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, PUBLISH_PERM);
-			return db.tx(() -> {
+			SearchQueueBatch sqb = db.tx(() -> {
 				BulkActionContext bac = searchQueue.createBulkContext();
 				Branch branch = ac.getBranch(ac.getProject());
 				node.takeOffline(ac, bac, branch, languageTag);
 				return bac.batch();
-			}).processAsync().andThen(Single.just(Optional.empty()));
+			});
+			node.onUpdated();
+			return sqb.processAsync().andThen(Single.just(Optional.empty()));
 		}).subscribe(model -> ac.send(NO_CONTENT), ac::fail);
 	}
 
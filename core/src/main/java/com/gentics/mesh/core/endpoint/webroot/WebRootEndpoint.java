@@ -5,6 +5,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.CONFLICT;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.vertx.core.http.HttpMethod.GET;
+import static io.vertx.core.http.HttpMethod.HEAD;
 import static io.vertx.core.http.HttpMethod.POST;
 
 import javax.inject.Inject;
@@ -41,6 +42,7 @@ public class WebRootEndpoint extends AbstractProjectEndpoint {
 
 		addErrorHandlers();
 		addPathReadHandler();
+		addPathHeadHandler();
 		addPathUpdateCreateHandler();
 	}
 
@@ -59,6 +61,21 @@ public class WebRootEndpoint extends AbstractProjectEndpoint {
 		});
 	}
 
+	private void addPathHeadHandler() {
+		InternalEndpointRoute endpoint = createRoute();
+		endpoint.pathRegex("\\/(.*)");
+		endpoint.setRAMLPath("/{path}");
+		endpoint.method(HEAD);
+		endpoint.addUriParameter("path", "Path to the node", "/News/2015/Images/flower.jpg");
+		endpoint.exampleResponse(OK, "Headers of the webroot response for the given path.", MeshHeaders.WEBROOT_RESPONSE_TYPE, "node",
+			"Header value which identifies the type of the webroot response. The response can either be a node or binary response.");
+		endpoint.description("Check whether the node for the given path exists. The request will be answered using the cached etag if possible.");
+		endpoint.addQueryParameters(ImageManipulationParametersImpl.class);
+		endpoint.handler(rc -> {
+			handler.handleGetPath(rc);
+		});
+	}
+
 	private void addPathUpdateCreateHandler() {
 		InternalEndpointRoute endpoint = createRoute();
 		endpoint.pathRegex("\\/(.*)");
@@ -1,12 +1,17 @@
 package com.gentics.mesh.core.endpoint.webroot;
 
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -15,12 +20,16 @@ import org.apache.commons.lang3.math.NumberUtils;
 
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
+import com.gentics.mesh.core.cache.PermissionStore;
+import com.gentics.mesh.core.cache.WebRootPathCache;
+import com.gentics.mesh.core.cache.WebRootPathCache.CachedETag;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.core.data.node.field.GraphField;
 import com.gentics.mesh.core.data.node.impl.NodeImpl;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.service.WebRootServiceImpl;
 import com.gentics.mesh.core.endpoint.node.BinaryFieldResponseHandler;
 import com.gentics.mesh.core.endpoint.node.NodeCrudHandler;
@@ -35,6 +44,7 @@ import com.gentics.mesh.util.ETag;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.reactivex.Single;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -74,6 +84,12 @@ public class WebRootHandler {
 		String path = ac.getParameter("param0");
 		final String decodedPath = "/" + path;
 		MeshAuthUser requestUser = ac.getUser();
+		long userKey = db.getElementIdAsLong(requestUser.id());
+		String etagCacheKey = WebRootPathCache.etagKey(userKey, rc.request().uri());
+		if (handleCachedETag(rc, ac, etagCacheKey, userKey)) {
+			return;
+		}
+		long generation = WebRootPathCache.generation();
 		// List<String> languageTags = ac.getSelectedLanguageTags();
 		db.asyncTx(() -> {
 
@@ -95,6 +111,7 @@ public class WebRootHandler {
 			}
 
 			requestUser.failOnNoReadPermission(container, branchUuid, ac.getVersioningParameters().getVersion());
+			Node node = container.getParentNode();
 
 			GraphField field = lastSegment.getPathField();
 			if (field instanceof BinaryGraphField) {
@@ -107,6 +124,7 @@ public class WebRootHandler {
 					etagKey += ac.getImageParameters().getQueryParameters();
 				}
 				String etag = ETag.hash(etagKey);
+				cacheETag(rc, requestUser, node, nodePath, etagCacheKey, userKey, etag, false, "binary", generation);
 				ac.setEtag(etag, false);
 				if (ac.matches(etag, false)) {
 					return Single.error(new NotModifiedException());
@@ -115,8 +133,8 @@ public class WebRootHandler {
 					return Single.just(Optional.empty());
 				}
 			} else {
-				Node node = container.getParentNode();
 				String etag = node.getETag(ac);
+				cacheETag(rc, requestUser, node, nodePath, etagCacheKey, userKey, etag, true, "node", generation);
 				ac.setEtag(etag, true);
 				if (ac.matches(etag, true)) {
 					return Single.error(new NotModifiedException());
@@ -132,13 +150,70 @@ public class WebRootHandler {
 
 		}).subscribe(result -> {
 			if (result.isPresent()) {
-				ac.send(JsonUtil.toJson(result.get()),
-					HttpResponseStatus.valueOf(NumberUtils.toInt(rc.data().getOrDefault("statuscode", "").toString(), OK.code())));
+				ac.send(JsonUtil.toJsonBuffer(result.get(), false),
+					HttpResponseStatus.valueOf(NumberUtils.toInt(rc.data().getOrDefault("statuscode", "").toString(), OK.code())), APPLICATION_JSON_UTF8);
 			}
 		}, ac::fail);
 
 	}
 
+	/**
+	 * Try to answer a HEAD or conditional GET request using the cached etag of the requested URI. No transaction is needed for this since the permission of
+	 * the user is validated against the {@link PermissionStore}.
+	 * 
+	 * @param rc
+	 * @param ac
+	 * @param etagCacheKey
+	 * @param userKey
+	 * @return true if the request was handled, otherwise false
+	 */
+	private boolean handleCachedETag(RoutingContext rc, InternalActionContext ac, String etagCacheKey, long userKey) {
+		boolean head = rc.request().method() == HttpMethod.HEAD;
+		if (!head && rc.request().getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+			return false;
+		}
+		CachedETag cached = WebRootPathCache.getETag(etagCacheKey);
+		if (cached == null || !cached.isValid(PermissionStore.getRoleSet(userKey))) {
+			return false;
+		}
+		if (ac.matches(cached.getETag(), cached.isWeak())) {
+			ac.setEtag(cached.getETag(), cached.isWeak());
+			ac.fail(new NotModifiedException());
+			return true;
+		}
+		if (head) {
+			ac.setEtag(cached.getETag(), cached.isWeak());
+			ac.setWebrootResponseType(cached.getResponseType());
+			rc.response().setStatusCode(OK.code()).end();
+			return true;
+		}
+		// The client has an outdated version. The full response is needed.
+		return false;
+	}
+
+	/**
+	 * Store the etag of the resolved webroot response so that following HEAD and conditional GET requests can be answered from the cache.
+	 */
+	private void cacheETag(RoutingContext rc, MeshAuthUser requestUser, Node node, Path nodePath, String etagCacheKey, long userKey,
+		String etag, boolean weak, String responseType, long generation) {
+		// Custom status codes (e.g. the 404 error page) must always be resolved
+		if (rc.data().containsKey("statuscode")) {
+			return;
+		}
+		// Use the permission which granted access. Both results are cached in the permission store by the preceding read permission check.
+		GraphPermission permission = requestUser.hasPermission(node, READ_PERM) ? READ_PERM : READ_PUBLISHED_PERM;
+		// The URI no longer resolves to the node once one of the segment nodes was renamed or moved
+		Set<String> pathNodeUuids = new HashSet<>();
+		for (PathSegment segment : nodePath.getSegments()) {
+			if (segment.getContainer() != null) {
+				pathNodeUuids.add(segment.getContainer().getParentNode().getUuid());
+			}
+		}
+		CachedETag cached = new CachedETag(node.getUuid(), pathNodeUuids, etag, weak, responseType, PermissionStore.getRoleSet(userKey), permission,
+			db.getElementIdAsLong(node.id()));
+		WebRootPathCache.putETag(etagCacheKey, cached, generation);
+	}
+
 	public void handleUpdateCreatePath(InternalActionContext ac, HttpMethod method) {
 		String path = ac.getParameter("param0");
 		final String decodedPath = "/" + path;
@@ -0,0 +1,32 @@
+package com.gentics.mesh.core.endpoint.migration;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.gentics.mesh.util.Tuple;
+
+import io.vertx.core.json.JsonObject;
+
+public class MigrationScriptPoolTest {
+
+	private static final String SCRIPT = "function migrate(node, fieldname, convert) {\n" +
+		"	node.fields[fieldname] = convert.toString(node.fields[fieldname]) + (typeof counter === 'undefined' ? 0 : counter);\n" +
+		"	counter = 1;\n" +
+		"	return node;\n" +
+		"}\n" +
+		"node = JSON.stringify(migrate(JSON.parse(node), fieldname, convert));";
+
+	@Test
+	public void testRun() throws Exception {
+		String nodeJson = new JsonObject().put("fields", new JsonObject().put("title", 42)).encode();
+		for (String fieldValue : Arrays.asList("420", "420")) {
+			// The compiled script is reused but must not share global state between the runs
+			String result = MigrationScriptPool.run(SCRIPT, Arrays.asList(Tuple.tuple("fieldname", "title")), nodeJson);
+			assertEquals(fieldValue, new JsonObject(result).getJsonObject("fields").getString("title"));
+		}
+	}
+
+}
@@ -5,15 +5,34 @@ import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 
 import org.json.JSONException;
 import org.junit.Test;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.field.list.NodeGraphFieldList;
 import com.gentics.mesh.core.data.schema.MicroschemaContainer;
 import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
 import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.core.rest.schema.ListFieldSchema;
+import com.gentics.mesh.core.rest.schema.SchemaModel;
+import com.gentics.mesh.core.rest.schema.impl.ListFieldSchemaImpl;
+import com.gentics.mesh.core.rest.schema.impl.SchemaCreateRequest;
+import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
+import com.gentics.mesh.etc.config.GraphQLOptions;
+import com.gentics.mesh.graphql.GraphQLHandler;
+import com.gentics.mesh.graphql.GraphQLSchemaCache;
+import com.gentics.mesh.graphql.PersistedQueryStore;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
 import com.gentics.mesh.test.TestSize;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
@@ -70,6 +89,131 @@ public class GraphQLEndpointBasicTest extends AbstractMeshTest {
 		assertThat(uuid).isNotEmpty();
 	}
 
+	@Test
+	public void testPersistedQuery() throws Throwable {
+		String query = "{me{firstname}}";
+		JsonObject extensions = new JsonObject().put("persistedQuery", new JsonObject().put("version", 1).put("sha256Hash", PersistedQueryStore
+			.hash(query)));
+
+		GraphQLRequest request = new GraphQLRequest().setExtensions(extensions);
+		GraphQLResponse response = call(() -> client().graphql(PROJECT_NAME, request));
+		assertEquals(PersistedQueryStore.PERSISTED_QUERY_NOT_FOUND, response.getErrors().get(0).getMessage());
+
+		// Register the query
+		request.setQuery(query);
+		response = call(() -> client().graphql(PROJECT_NAME, request));
+		MeshJSONAssert.assertEquals("{'me':{'firstname':'Joe'}}", response.getData());
+
+		// Only send the hash
+		request.setQuery(null);
+		response = call(() -> client().graphql(PROJECT_NAME, request));
+		MeshJSONAssert.assertEquals("{'me':{'firstname':'Joe'}}", response.getData());
+
+		request.setQuery("{me{lastname}}");
+		response = call(() -> client().graphql(PROJECT_NAME, request));
+		assertEquals(PersistedQueryStore.PERSISTED_QUERY_HASH_MISMATCH, response.getErrors().get(0).getMessage());
+	}
+
+	@Test
+	public void testQueryCost() throws Throwable {
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, "{me{firstname}}"));
+		assertEquals(2, response.getExtensions().getJsonObject("cost").getInteger("depth").intValue());
+		assertEquals(1, response.getExtensions().getJsonObject("cost").getLong("estimatedVisits").longValue());
+
+		// Exceed the depth limit
+		StringBuilder query = new StringBuilder("{node(path:\"/\"){");
+		for (int i = 0; i < GraphQLOptions.DEFAULT_MAX_DEPTH; i++) {
+			query.append("parent{");
+		}
+		query.append("uuid");
+		for (int i = 0; i <= GraphQLOptions.DEFAULT_MAX_DEPTH; i++) {
+			query.append("}");
+		}
+		query.append("}");
+		response = call(() -> client().graphqlQuery(PROJECT_NAME, query.toString()));
+		assertEquals(GraphQLHandler.QUERY_TOO_DEEP, response.getErrors().get(0).getType());
+		assertNull(response.getData());
+
+		// Exceed the estimated element visits
+		response = call(() -> client().graphqlQuery(PROJECT_NAME,
+			"{nodes{elements{children{elements{children{elements{children{elements{uuid}}}}}}}}}"));
+		assertEquals(GraphQLHandler.QUERY_TOO_EXPENSIVE, response.getErrors().get(0).getType());
+		assertNull(response.getData());
+
+		// Explicit page sizes reduce the estimation
+		response = call(() -> client().graphqlQuery(PROJECT_NAME,
+			"{nodes(perPage: 5){elements{children(perPage: 5){elements{children(perPage: 5){elements{children(perPage: 5){elements{uuid}}}}}}}}}"));
+		assertNull(response.getErrors());
+
+		// Typical nested queries without page sizes are accepted
+		response = call(() -> client().graphqlQuery(PROJECT_NAME, "{nodes{elements{tags{elements{name}}}}}"));
+		assertNull(response.getErrors());
+		response = call(() -> client().graphqlQuery(PROJECT_NAME, "{rootNode{children{elements{children{elements{uuid}}}}}}"));
+		assertNull(response.getErrors());
+
+		// A configured default page size is used by the estimation
+		GraphQLOptions options = Mesh.mesh().getOptions().getGraphQLOptions();
+		options.setDefaultPageSize(10_000);
+		try {
+			response = call(() -> client().graphqlQuery(PROJECT_NAME, "{nodes{elements{tags{elements{name}}}}}"));
+			assertEquals(GraphQLHandler.QUERY_TOO_EXPENSIVE, response.getErrors().get(0).getType());
+		} finally {
+			options.setDefaultPageSize(GraphQLOptions.DEFAULT_DEFAULT_PAGE_SIZE);
+		}
+	}
+
+	@Test
+	public void testNodeListBatchLoading() throws Throwable {
+		List<Node> items;
+		String uuid;
+		try (Tx tx = tx()) {
+			SchemaModel schema = schemaContainer("folder").getLatestVersion().getSchema();
+			ListFieldSchema nodeListSchema = new ListFieldSchemaImpl();
+			nodeListSchema.setListType("node");
+			nodeListSchema.setName("nodeList");
+			schema.addField(nodeListSchema);
+			schemaContainer("folder").getLatestVersion().setSchema(schema);
+
+			items = Arrays.asList(folder("news"), folder("2014"), folder("products"), folder("deals"));
+			NodeGraphFieldList nodeList = folder("2015").getGraphFieldContainer("en").createNodeList("nodeList");
+			for (int i = 0; i < items.size(); i++) {
+				nodeList.createNode(String.valueOf(i), items.get(i));
+			}
+			uuid = folder("2015").getUuid();
+			tx.success();
+		}
+		GraphQLSchemaCache.invalidate();
+
+		MetricRegistry registry = SharedMetricRegistries.getOrCreate("mesh");
+		long batches = registry.counter(NodeDataLoader.BATCHES).getCount();
+		long keys = registry.counter(NodeDataLoader.KEYS).getCount();
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME,
+			"{node(uuid: \"" + uuid + "\"){fields{... on folder {nodeList{uuid}}}}}"));
+		assertNull(response.getErrors());
+		assertEquals(items.size(), response.getData().getJsonObject("node").getJsonObject("fields").getJsonArray("nodeList").size());
+
+		// One batch for the node itself and one batch for all items of the list
+		assertEquals(2, registry.counter(NodeDataLoader.BATCHES).getCount() - batches);
+		assertEquals(1 + items.size(), registry.counter(NodeDataLoader.KEYS).getCount() - keys);
+	}
+
+	@Test
+	public void testSchemaCache() throws Throwable {
+		String query = "{nodes{elements{fields{... on cacheTest {content}}}}}";
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, query));
+		assertEquals(1, response.getErrors().stream().filter(error -> error.getType().equals("ValidationError")).count());
+
+		// The newly assigned schema must be part of the cached GraphQL schema
+		SchemaCreateRequest request = new SchemaCreateRequest();
+		request.setName("cacheTest");
+		request.addField(FieldUtil.createStringFieldSchema("content"));
+		SchemaResponse schema = call(() -> client().createSchema(request));
+		call(() -> client().assignSchemaToProject(PROJECT_NAME, schema.getUuid()));
+
+		response = call(() -> client().graphqlQuery(PROJECT_NAME, query));
+		assertNull(response.getErrors());
+	}
+
 	@Test
 	public void testConcurrentQuery() {
 		Flowable<Completable> calls = Single.fromCallable(() ->
@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.graphql;
 
+import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
 import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
 import com.gentics.mesh.test.TestSize;
 import com.gentics.mesh.test.context.AbstractMeshTest;
@@ -27,4 +28,21 @@ public class GraphQLEndpointFilterTest extends AbstractMeshTest {
 			assertThat(nodeObj.getBoolean("isContainer")).isTrue();
 		});
 	}
+
+	@Test
+	public void testUuidFilter() {
+		String uuid = tx(() -> folder("2015").getUuid());
+		GraphQLRequest request = new GraphQLRequest();
+		request.setQuery("query test($uuid: String, $name: String) { nodes(filter: {uuid: {equals: $uuid}, schema: {is: folder}, fields: {folder: {name: {equals: $name}}}}) { elements { uuid } } }");
+		request.setVariables(new JsonObject().put("uuid", uuid).put("name", "2015"));
+		GraphQLResponse response = call(() -> client().graphql(PROJECT_NAME, request));
+		JsonArray nodes = response.getData().getJsonObject("nodes").getJsonArray("elements");
+		assertThat(nodes.size()).isEqualTo(1);
+		assertThat(nodes.getJsonObject(0).getString("uuid")).isEqualTo(uuid);
+
+		// The remaining conditions must still be applied to the loaded node
+		request.setVariables(new JsonObject().put("uuid", uuid).put("name", "2014"));
+		response = call(() -> client().graphql(PROJECT_NAME, request));
+		assertThat(response.getData().getJsonObject("nodes").getJsonArray("elements").size()).isEqualTo(0);
+	}
 }
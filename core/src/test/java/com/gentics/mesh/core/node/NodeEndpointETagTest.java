@@ -140,6 +140,31 @@ public class NodeEndpointETagTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testChildrenInfo() {
+		String uuid = tx(() -> folder("2015").getUuid());
+		long contentVersion = tx(() -> folder("2015").getContentVersion());
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 304);
+
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setLanguage("en");
+		request.setParentNode(new NodeReference().setUuid(uuid));
+		request.setSchema(new SchemaReferenceImpl().setName("content"));
+		request.getFields().put("teaser", FieldUtil.createStringField("someTeaser"));
+		request.getFields().put("slug", FieldUtil.createStringField("someSlug"));
+		NodeResponse createdNode = call(() -> client().createNode(PROJECT_NAME, request));
+
+		// The parent node is not modified by the child creation but the children info changed
+		assertEquals(contentVersion, (long) tx(() -> folder("2015").getContentVersion()));
+		String newETag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 200);
+		assertNotEquals(etag, newETag);
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), newETag, true, 304);
+
+		call(() -> client().deleteNode(PROJECT_NAME, createdNode.getUuid()));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), newETag, true, 200);
+	}
+
 	@Test
 	public void testReadOne() {
 		Node node = content();
@@ -617,6 +617,60 @@ public class NodeEndpointTest extends AbstractMeshTest implements BasicRestTestc
 
 	}
 
+	@Test
+	public void testReadMultipleWithCursor() {
+		NodeListResponse all = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, 1000L), new VersioningParametersImpl()
+			.draft()));
+		List<String> expectedUuids = all.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toList());
+
+		List<String> uuids = new ArrayList<>();
+		String cursor = null;
+		do {
+			PagingParametersImpl paging = new PagingParametersImpl(1, 4L);
+			paging.setCursor(cursor).setSkipCount(true);
+			NodeListResponse page = call(() -> client().findNodes(PROJECT_NAME, paging, new VersioningParametersImpl().draft()));
+			assertEquals("The count should not have been computed", -1, page.getMetainfo().getTotalCount());
+			assertEquals(-1, page.getMetainfo().getPageCount());
+			page.getData().forEach(node -> uuids.add(node.getUuid()));
+			cursor = page.getMetainfo().getNextCursor();
+		} while (cursor != null);
+
+		assertEquals("Iterating via the cursor should return all nodes in the same order", expectedUuids, uuids);
+	}
+
+	@Test
+	public void testReadMultipleWithCursorAndCount() {
+		NodeListResponse all = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, 1000L), new VersioningParametersImpl()
+			.draft()));
+		List<String> expectedUuids = all.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toList());
+
+		NodeListResponse firstPage = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, 4L), new VersioningParametersImpl()
+			.draft()));
+		PagingParametersImpl paging = new PagingParametersImpl(1, 4L);
+		paging.setCursor(firstPage.getMetainfo().getNextCursor());
+		NodeListResponse secondPage = call(() -> client().findNodes(PROJECT_NAME, paging, new VersioningParametersImpl().draft()));
+		assertEquals("The total count should also contain the elements before the cursor", all.getMetainfo().getTotalCount(), secondPage
+			.getMetainfo().getTotalCount());
+		assertEquals(all.getMetainfo().getPageCount(), secondPage.getMetainfo().getPageCount());
+		assertEquals(expectedUuids.subList(4, 8), secondPage.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testReadMultipleWithDeletedCursor() {
+		NodeListResponse firstPage = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, 4L), new VersioningParametersImpl()
+			.draft()));
+		String cursor = firstPage.getMetainfo().getNextCursor();
+		String cursorUuid = firstPage.getData().get(3).getUuid();
+		call(() -> client().deleteNode(PROJECT_NAME, cursorUuid, new DeleteParametersImpl().setRecursive(true)));
+
+		for (boolean skipCount : new boolean[] { true, false }) {
+			PagingParametersImpl paging = new PagingParametersImpl(1, 4L);
+			paging.setCursor(cursor).setSkipCount(skipCount);
+			call(() -> client().findNodes(PROJECT_NAME, paging, new VersioningParametersImpl().draft()), BAD_REQUEST,
+				"error_paging_cursor_not_found", cursor);
+		}
+	}
+
 	@Test
 	public void testReadNodeWithFieldLimit() {
 		NodeResponse response = call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid(), new GenericParametersImpl().setFields("uuid")));
@@ -17,6 +17,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -25,6 +26,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
 import com.gentics.mesh.core.data.Branch;
@@ -48,6 +50,7 @@ import com.gentics.mesh.core.data.schema.impl.SchemaContainerImpl;
 import com.gentics.mesh.core.data.schema.impl.SchemaContainerVersionImpl;
 import com.gentics.mesh.core.data.schema.impl.UpdateFieldChangeImpl;
 import com.gentics.mesh.core.rest.job.JobListResponse;
+import com.gentics.mesh.core.rest.job.JobResponse;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaModelImpl;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaUpdateRequest;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
@@ -67,6 +70,7 @@ import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
 import com.gentics.mesh.core.rest.schema.impl.SchemaUpdateRequest;
 import com.gentics.mesh.dagger.MeshInternal;
+import com.gentics.mesh.etc.config.MigrationOptions;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.impl.PublishParametersImpl;
 import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
@@ -344,6 +348,56 @@ public class NodeMigrationEndpointTest extends AbstractMeshTest {
 		assertThat(status).listsAll(COMPLETED).hasInfos(1).containsJobs(jobUuid);
 	}
 
+	@Test
+	public void testBatchedSchemaMigration() throws Throwable {
+		MigrationOptions options = Mesh.mesh().getOptions().getMigrationOptions();
+		options.setBatchSize(2).setWorkers(3);
+		try {
+			SchemaContainer container;
+			List<Node> nodes = new ArrayList<>();
+			String fieldName = "changedfield";
+			String jobUuid;
+
+			try (Tx tx = tx()) {
+				container = createDummySchemaWithChanges(fieldName, false);
+				SchemaContainerVersion versionB = container.getLatestVersion();
+				SchemaContainerVersion versionA = versionB.getPreviousVersion();
+
+				User user = user();
+				project().getLatestBranch().assignSchemaVersion(user, versionA);
+
+				// create nodes based on the old schema
+				Node parentNode = folder("2015");
+				for (int i = 0; i < 5; i++) {
+					Node node = parentNode.create(user, versionA, project());
+					NodeGraphFieldContainer englishContainer = node.createGraphFieldContainer(english(), node.getProject().getLatestBranch(), user);
+					englishContainer.createString(fieldName).setString("content " + i);
+					nodes.add(node);
+				}
+
+				jobUuid = project().getLatestBranch().assignSchemaVersion(user, versionB).getUuid();
+				tx.success();
+			}
+
+			triggerAndWaitForJob(jobUuid);
+
+			try (Tx tx = tx()) {
+				for (int i = 0; i < nodes.size(); i++) {
+					Node node = nodes.get(i);
+					assertThat(node.getGraphFieldContainer("en")).as("Migrated field container").isOf(container.getLatestVersion()).hasVersion("0.2");
+					assertThat(node.getGraphFieldContainer("en").getString(fieldName).getString()).as("Migrated field value").isEqualTo(
+						"modified content " + i);
+				}
+			}
+
+			JobResponse job = call(() -> client().findJobByUuid(jobUuid));
+			assertEquals(COMPLETED, job.getStatus());
+			assertEquals(nodes.size(), job.getCompletionCount());
+		} finally {
+			options.setBatchSize(MigrationOptions.DEFAULT_BATCH_SIZE).setWorkers(MigrationOptions.DEFAULT_WORKERS);
+		}
+	}
+
 	@Test
 	public void testMigrateAddRawField() throws Throwable {
 
@@ -5,6 +5,7 @@ import static com.gentics.mesh.core.data.relationship.GraphPermission.CREATE_PER
 import static com.gentics.mesh.core.data.relationship.GraphPermission.DELETE_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.PUBLISH_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
 import static com.gentics.mesh.core.rest.common.Permission.CREATE;
 import static com.gentics.mesh.core.rest.common.Permission.DELETE;
@@ -19,12 +20,16 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Test;
 
 import com.syncleus.ferma.tx.Tx;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
+import com.gentics.mesh.core.cache.PermissionStore;
 import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.Role;
@@ -259,6 +264,33 @@ public class UserTest extends AbstractMeshTest implements BasicObjectTestcases {
 		}
 	}
 
+	@Test
+	public void testHasPermissionForIds() {
+		try (Tx tx = tx()) {
+			Node granted = content();
+			Node denied = folder("2015");
+			Node publishedOnly = folder("news");
+			role().revokePermissions(denied, READ_PERM, READ_PUBLISHED_PERM);
+			role().revokePermissions(publishedOnly, READ_PERM);
+			role().grantPermissions(publishedOnly, READ_PUBLISHED_PERM);
+			PermissionStore.invalidate(false);
+
+			List<Object> ids = Arrays.asList(granted.id(), denied.id(), publishedOnly.id());
+			boolean[] read = user().hasPermissionForIds(ids, READ_PERM);
+			assertTrue(Arrays.equals(new boolean[] { true, false, false }, read));
+			boolean[] readPublished = user().hasPermissionForIds(ids, READ_PUBLISHED_PERM);
+			assertTrue(Arrays.equals(new boolean[] { true, false, true }, readPublished));
+
+			// The batched results must match the single checks
+			PermissionStore.invalidate(false);
+			assertTrue(user().hasPermission(granted, READ_PERM));
+			assertFalse(user().hasPermission(denied, READ_PUBLISHED_PERM));
+			assertTrue(user().hasPermission(publishedOnly, READ_PUBLISHED_PERM));
+			assertTrue("The results should be served from the permission store",
+				Arrays.equals(new boolean[] { true, false, true }, user().hasPermissionForIds(ids, READ_PUBLISHED_PERM)));
+		}
+	}
+
 	@Test
 	@Override
 	public void testCRUDPermissions() {
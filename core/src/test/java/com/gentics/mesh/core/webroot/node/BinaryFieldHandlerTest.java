@@ -132,6 +132,27 @@ public class BinaryFieldHandlerTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testDuplicateUpload() throws IOException {
+		try (Tx tx = tx()) {
+			prepareSchema(content(), null, "binaryField");
+			CaseInsensitiveHeaders attributes = new CaseInsensitiveHeaders();
+			attributes.add("language", "en");
+			attributes.add("version", "1.0");
+			handler.handleUpdateField(mockContext(mockUpload("blub123")), contentUuid(), "binaryField", attributes);
+			String firstUuid = content().getLatestDraftFieldContainer(english()).getBinary("binaryField").getBinary().getUuid();
+
+			// Upload the same data again
+			attributes.set("version", "1.1");
+			handler.handleUpdateField(mockContext(mockUpload("blub123")), contentUuid(), "binaryField", attributes);
+			BinaryGraphField field = content().getLatestDraftFieldContainer(english()).getBinary("binaryField");
+			assertEquals("The existing binary should have been reused.", firstUuid, field.getBinary().getUuid());
+
+			// The data of the second upload must not remain in the storage
+			assertEquals("Only the data of the first upload should be stored.", 1, FileUtils.listFiles(getUploadFolder(), null, true).size());
+		}
+	}
+
 	@Test(expected = GenericRestException.class)
 	public void testFileUploadWithNoUploadFile() throws Throwable {
 		try (Tx tx = tx()) {
@@ -144,6 +144,19 @@ public class TxTest extends AbstractMeshTest {
 		assertEquals("OK", result);
 	}
 
+	@Test
+	public void testAsyncTxDelayedResult() throws Throwable {
+		Object nodeId = db().tx(() -> content().getId());
+		String nodeUuid = db().tx(() -> content().getUuid());
+		String result = db().asyncTx(tx -> {
+			// The result is emitted later on another thread and still reads the graph
+			return Single.timer(500, TimeUnit.MILLISECONDS).map(ignore -> {
+				return tx.getGraph().getFramedVertexExplicit(NodeImpl.class, nodeId).getUuid();
+			});
+		}).blockingGet();
+		assertEquals(nodeUuid, result);
+	}
+
 	@Test
 	@Ignore
 	public void testUpdateMultithreaded() throws InterruptedException, BrokenBarrierException, TimeoutException {
@@ -13,7 +13,10 @@ import com.tinkerpop.blueprints.Element;
 import com.tinkerpop.gremlin.Tokens;
 
 /**
- * This type resolver will use the Java class stored in the 'java_class' on the element.
+ * This type resolver will use the Java class stored in the 'ferma_type' on the element.
+ *
+ * The resolution of the requested kind is pre-computed per kind and stored in a table which is indexed by the id of the type. Resolving an element thus only
+ * requires a lookup of the type id and an array access.
  */
 public class MeshTypeResolver implements TypeResolver {
 	public final static String TYPE_RESOLUTION_KEY = "ferma_type";
@@ -21,6 +24,20 @@ public class MeshTypeResolver implements TypeResolver {
 	private final SimpleReflectionCache reflectionCache;
 	private final String typeResolutionKey;
 
+	/**
+	 * Table of resolved classes per requested kind. The array is indexed by the type id.
+	 */
+	private final ClassValue<Class<?>[]> resolvedKinds = new ClassValue<Class<?>[]>() {
+		@Override
+		protected Class<?>[] computeValue(Class<?> kind) {
+			Class<?>[] resolved = new Class<?>[reflectionCache.getTypeCount()];
+			for (int i = 0; i < resolved.length; i++) {
+				resolved[i] = resolveKind(reflectionCache.forTypeId(i), kind);
+			}
+			return resolved;
+		}
+	};
+
 	public MeshTypeResolver(String... basePaths) {
 		this.reflectionCache = new SimpleReflectionCache(basePaths);
 		this.typeResolutionKey = TYPE_RESOLUTION_KEY;
@@ -33,10 +50,14 @@ public class MeshTypeResolver implements TypeResolver {
 			return kind;
 		}
 
-		final Class<T> nodeKind = (Class<T>) this.reflectionCache.forName(nodeClazz);
-		if (nodeKind == null) {
+		final int typeId = this.reflectionCache.getTypeId(nodeClazz);
+		if (typeId == -1) {
 			throw new RuntimeException("Did not find class in cache {" + nodeClazz + "}");
 		}
+		return (Class<? extends T>) resolvedKinds.get(kind)[typeId];
+	}
+
+	private static Class<?> resolveKind(Class<?> nodeKind, Class<?> kind) {
 		if (kind.isAssignableFrom(nodeKind) || kind.equals(VertexFrame.class) || kind.equals(EdgeFrame.class)
 			|| kind.equals(AbstractVertexFrame.class) || kind.equals(AbstractEdgeFrame.class) || kind.equals(Object.class)) {
 			return nodeKind;
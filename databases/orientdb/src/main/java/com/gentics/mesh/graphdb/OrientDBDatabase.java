@@ -22,10 +22,13 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 
 import org.apache.commons.io.FileUtils;
@@ -41,10 +44,14 @@ import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.etc.config.ClusterOptions;
 import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.metric.TxConflictMetric;
+import com.gentics.mesh.graphdb.metric.TxTrace;
 import com.gentics.mesh.graphdb.model.MeshElement;
 import com.gentics.mesh.graphdb.spi.AbstractDatabase;
+import com.gentics.mesh.graphdb.spi.CommitHooks;
 import com.gentics.mesh.graphdb.spi.FieldMap;
 import com.gentics.mesh.graphdb.spi.FieldType;
+import com.gentics.mesh.graphdb.spi.TxRetryPolicy;
 import com.gentics.mesh.util.DateUtils;
 import com.gentics.mesh.util.ETag;
 import com.hazelcast.core.HazelcastInstance;
@@ -56,7 +63,9 @@ import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.db.tool.ODatabaseExport;
 import com.orientechnologies.orient.core.db.tool.ODatabaseImport;
+import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
 import com.orientechnologies.orient.core.exception.OSchemaException;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.index.OCompositeKey;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexCursor;
@@ -132,7 +141,10 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	private DateFormat formatter = new SimpleDateFormat("dd-MM-yyyy_HH-mm-ss-SSS");
 
-	private int maxRetry = 100;
+	/**
+	 * Cache for the names of the vertex classes per cluster. Used to attribute transaction conflicts to the vertex class.
+	 */
+	private final Map<Integer, String> clusterClassNames = new ConcurrentHashMap<>();
 
 	@Override
 	public void stop() {
@@ -195,9 +207,9 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 		// resolver = new OrientDBTypeResolver(basePaths);
 		resolver = new MeshTypeResolver(basePaths);
-		if (options != null && storageOptions.getParameters() != null && storageOptions.getParameters().get("maxTransactionRetry") != null) {
-			this.maxRetry = Integer.valueOf(storageOptions.getParameters().get("maxTransactionRetry"));
-			log.info("Using {" + this.maxRetry + "} transaction retries before failing");
+		if (options != null) {
+			this.retryPolicy = TxRetryPolicy.fromParameters(storageOptions.getParameters());
+			TxTrace.configure(storageOptions.getParameters());
 		}
 	}
 
@@ -626,6 +638,34 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return ids;
 	}
 
+	@Override
+	public Set<Object> edgeKeyLookup(String edgeLabel, String indexPostfix, Collection<?> keys) {
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		Set<Object> foundKeys = new HashSet<>();
+		if (keys.isEmpty()) {
+			return foundKeys;
+		}
+
+		// Load the edge type in order to access the indices of the edge
+		OrientEdgeType edgeType = orientBaseGraph.getEdgeType(edgeLabel);
+		if (edgeType != null) {
+			// Fetch the required index
+			OIndex<?> index = edgeType.getClassIndex("e." + edgeLabel.toLowerCase() + "_" + indexPostfix);
+			if (index != null) {
+				// Resolve all keys within a single iteration over the sb-tree index entries
+				OIndexCursor cursor = index.iterateEntries(keys, true);
+				while (cursor.hasNext()) {
+					Entry<Object, OIdentifiable> entry = cursor.nextEntry();
+					if (entry == null) {
+						break;
+					}
+					foundKeys.add(entry.getKey());
+				}
+			}
+		}
+		return foundKeys;
+	}
+
 	@Override
 	public Iterator<Vertex> getVertices(Class<?> classOfVertex, String[] fieldNames, Object[] fieldValues) {
 		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
@@ -921,59 +961,96 @@ public class OrientDBDatabase extends AbstractDatabase {
 	public <T> T tx(TxAction<T> txHandler) {
 		/**
 		 * OrientDB uses the MVCC pattern which requires a retry of the code that manipulates the graph in cases where for example an
-		 * {@link OConcurrentModificationException} is thrown.
+		 * {@link OConcurrentModificationException} is thrown. The retries are handled by the {@link TxRetryPolicy}.
 		 */
 		T handlerResult = null;
 		boolean handlerFinished = false;
-		for (int retry = 0; retry < maxRetry; retry++) {
-
-			try (Tx tx = tx()) {
-				handlerResult = txHandler.handle(tx);
-				handlerFinished = true;
-				tx.success();
-			} catch (OSchemaException e) {
-				log.error("OrientDB schema exception detected.");
-				// TODO maybe we should invoke a metadata getschema reload?
-				// factory.getTx().getRawGraph().getMetadata().getSchema().reload();
-				// Database.getThreadLocalGraph().getMetadata().getSchema().reload();
-			} catch (ONeedRetryException e) {
-				if (log.isTraceEnabled()) {
-					log.trace("Error while handling transaction. Retrying " + retry, e);
-				}
-				try {
-					// Increase the delay for each retry by 25ms to give the other transaction a chance to finish
-					Thread.sleep(50 + (retry * 25));
-				} catch (InterruptedException e1) {
-					e1.printStackTrace();
-				}
-				// Reset previous result
-				handlerFinished = false;
-				handlerResult = null;
-			} catch (ORecordDuplicatedException e) {
-				log.error(e);
-				throw error(INTERNAL_SERVER_ERROR, "error_internal");
-			} catch (GenericRestException e) {
-				// Don't log. Just throw it along so that others can handle it
-				throw e;
-			} catch (RuntimeException e) {
-				if (log.isDebugEnabled()) {
-					log.debug("Error handling transaction", e);
-				}
-				throw e;
-			} catch (Exception e) {
-				if (log.isDebugEnabled()) {
-					log.debug("Error handling transaction", e);
+		long start = System.currentTimeMillis();
+		for (int retry = 0;; retry++) {
+
+			List<Runnable> commitActions;
+			CommitHooks.begin();
+			try {
+				try (Tx tx = tx()) {
+					handlerResult = txHandler.handle(tx);
+					handlerFinished = true;
+					tx.success();
+				} catch (OSchemaException e) {
+					log.error("OrientDB schema exception detected.");
+					// TODO maybe we should invoke a metadata getschema reload?
+					// factory.getTx().getRawGraph().getMetadata().getSchema().reload();
+					// Database.getThreadLocalGraph().getMetadata().getSchema().reload();
+					if (retry + 1 >= retryPolicy.getMaxRetry()) {
+						throw new RuntimeException("Retry limit {" + retryPolicy.getMaxRetry() + "} for trx exceeded", e);
+					}
+				} catch (ONeedRetryException e) {
+					if (log.isTraceEnabled()) {
+						log.trace("Error while handling transaction. Retrying " + retry, e);
+					}
+					TxConflictMetric.conflict(getConflictType(e));
+					long delay = retryPolicy.getDelay(retry);
+					if (!retryPolicy.canRetry(retry, start, delay)) {
+						TxConflictMetric.exhausted();
+						throw new RuntimeException("Retry limit {" + retryPolicy.getMaxRetry() + "} or time budget {" + retryPolicy.getTimeBudget()
+							+ "} ms for trx exceeded after {" + (retry + 1) + "} attempts", e);
+					}
+					TxConflictMetric.retried();
+					retryPolicy.await(delay);
+					// Reset previous result
+					handlerFinished = false;
+					handlerResult = null;
+				} catch (ORecordDuplicatedException e) {
+					log.error(e);
+					throw error(INTERNAL_SERVER_ERROR, "error_internal");
+				} catch (GenericRestException e) {
+					// Don't log. Just throw it along so that others can handle it
+					throw e;
+				} catch (RuntimeException e) {
+					if (log.isDebugEnabled()) {
+						log.debug("Error handling transaction", e);
+					}
+					throw e;
+				} catch (Exception e) {
+					if (log.isDebugEnabled()) {
+						log.debug("Error handling transaction", e);
+					}
+					throw new RuntimeException("Transaction error", e);
 				}
-				throw new RuntimeException("Transaction error", e);
+			} finally {
+				commitActions = CommitHooks.end();
 			}
 			if (!handlerFinished && log.isDebugEnabled()) {
 				log.debug("Retrying .. {" + retry + "}");
 			}
 			if (handlerFinished) {
+				CommitHooks.committed(commitActions);
 				return handlerResult;
 			}
 		}
-		throw new RuntimeException("Retry limit {" + maxRetry + "} for trx exceeded");
+	}
+
+	/**
+	 * Determine the vertex class of the element which caused the conflict.
+	 * 
+	 * @param e
+	 * @return Name of the vertex class or null if the class could not be determined
+	 */
+	private String getConflictType(ONeedRetryException e) {
+		if (e instanceof OConcurrentModificationException) {
+			ORID rid = ((OConcurrentModificationException) e).getRid();
+			if (rid != null && factory != null) {
+				return clusterClassNames.computeIfAbsent(rid.getClusterId(), clusterId -> {
+					ODatabaseDocumentTx db = factory.getDatabase();
+					try {
+						OClass clazz = db.getMetadata().getSchema().getClassByClusterId(clusterId);
+						return clazz == null ? null : clazz.getName();
+					} finally {
+						db.close();
+					}
+				});
+			}
+		}
+		return null;
 	}
 
 	@Override
@@ -1068,6 +1145,19 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return new OCompositeKey(keys);
 	}
 
+	@Override
+	public long getElementIdAsLong(Object id) {
+		if (!(id instanceof ORID)) {
+			return -1;
+		}
+		ORID rid = (ORID) id;
+		if (!rid.isPersistent()) {
+			return -1;
+		}
+		// Cluster ids are limited to 15 bits. The remaining bits are sufficient for the position within the cluster.
+		return ((long) rid.getClusterId() << 48) | rid.getClusterPosition();
+	}
+
 	@Override
 	public void setVertexType(Element element, Class<?> classOfVertex) {
 		if (element instanceof WrappedVertex) {
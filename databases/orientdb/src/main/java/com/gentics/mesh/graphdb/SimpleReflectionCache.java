@@ -2,34 +2,66 @@ package com.gentics.mesh.graphdb;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.reflections.Reflections;
 
 import com.syncleus.ferma.annotations.GraphElement;
 
+/**
+ * Reflection cache which is used by the {@link MeshTypeResolver}.
+ *
+ * The graph element classes are scanned once when the cache gets created. Each class is registered in a type table which assigns a dense id to the class
+ * name. The table is not modified afterwards and can thus be read concurrently without locking.
+ */
 public class SimpleReflectionCache extends Reflections {
 
 	private final Map<String, Set<String>> hierarchy;
-	private final Map<Method, Map<Class<Annotation>, Annotation>> annotationCache = new HashMap<>();
-	private final Map<String, Class> classStringCache = new HashMap<>();
+	private final Map<Method, Annotation[]> annotationCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Type table which maps the simple class name to the id of the type.
+	 */
+	private final Map<String, Integer> typeIds;
+
+	/**
+	 * Type table which maps the id of the type to the class.
+	 */
+	private final Class<?>[] types;
 
 	public SimpleReflectionCache() {
 		super();
 		this.hierarchy = new HashMap<>();
+		this.typeIds = Collections.emptyMap();
+		this.types = new Class<?>[0];
 	}
 
 	public SimpleReflectionCache(String... basePaths) {
-		this();
+		super();
+		this.hierarchy = new HashMap<>();
+		Map<String, Integer> ids = new HashMap<>();
+		List<Class<?>> classes = new ArrayList<>();
 		for (String basePath : basePaths) {
 			Set<Class<?>> graphTypeClasses = new Reflections(basePath).getTypesAnnotatedWith(GraphElement.class);
 			for (Class<?> clazz : graphTypeClasses) {
-				classStringCache.put(clazz.getSimpleName(), clazz);
+				Integer id = ids.get(clazz.getSimpleName());
+				if (id == null) {
+					ids.put(clazz.getSimpleName(), classes.size());
+					classes.add(clazz);
+				} else {
+					// Last one wins
+					classes.set(id, clazz);
+				}
 			}
 		}
+		this.typeIds = Collections.unmodifiableMap(ids);
+		this.types = classes.toArray(new Class<?>[classes.size()]);
 	}
 
 	public Set<? extends String> getSubTypeNames(final Class<?> type) {
@@ -47,22 +79,51 @@ public class SimpleReflectionCache extends Reflections {
 	}
 
 	public <E extends Annotation> E getAnnotation(final Method method, final Class<E> annotationType) {
-		Map<Class<Annotation>, Annotation> annotationsPresent = annotationCache.get(method);
-		if (annotationsPresent == null) {
-			annotationsPresent = new HashMap<>();
-			annotationCache.put(method, annotationsPresent);
+		Annotation[] annotations = annotationCache.get(method);
+		if (annotations == null) {
+			annotations = annotationCache.computeIfAbsent(method, Method::getAnnotations);
 		}
-
-		E annotation = (E) annotationsPresent.get(annotationType);
-		if (annotation == null) {
-			annotation = method.getAnnotation(annotationType);
-			annotationsPresent.put((Class<Annotation>) annotationType, annotation);
+		for (Annotation annotation : annotations) {
+			if (annotationType.isInstance(annotation)) {
+				return annotationType.cast(annotation);
+			}
 		}
-		return annotation;
+		return null;
+	}
+
+	/**
+	 * Return the id of the type with the given simple class name.
+	 *
+	 * @param className
+	 * @return Id of the type or -1 if the type is unknown
+	 */
+	public int getTypeId(final String className) {
+		Integer id = this.typeIds.get(className);
+		return id == null ? -1 : id;
+	}
+
+	/**
+	 * Return the class for the given type id.
+	 *
+	 * @param typeId
+	 * @return
+	 */
+	public Class<?> forTypeId(final int typeId) {
+		return this.types[typeId];
+	}
+
+	/**
+	 * Return the amount of registered types. The type ids range from 0 to the returned count (exclusive).
+	 *
+	 * @return
+	 */
+	public int getTypeCount() {
+		return this.types.length;
 	}
 
 	public Class<?> forName(final String className) {
-		return this.classStringCache.get(className);
+		int id = getTypeId(className);
+		return id == -1 ? null : this.types[id];
 	}
 
 }
@@ -0,0 +1,39 @@
+package com.gentics.mesh.graphdb.orientdb;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.gentics.mesh.graphdb.MeshTypeResolver;
+import com.gentics.mesh.graphdb.orientdb.graph.Group;
+import com.gentics.mesh.graphdb.orientdb.graph.Person;
+import com.syncleus.ferma.VertexFrame;
+import com.tinkerpop.blueprints.Vertex;
+import com.tinkerpop.blueprints.impls.tg.TinkerGraph;
+
+public class MeshTypeResolverTest {
+
+	@Test
+	public void testResolve() {
+		MeshTypeResolver resolver = new MeshTypeResolver("com.gentics.mesh.graphdb.orientdb.graph");
+		TinkerGraph graph = new TinkerGraph();
+		Vertex vertex = graph.addVertex(null);
+		assertEquals("Elements without type information should be resolved to the requested kind", Person.class, resolver.resolve(vertex,
+			Person.class));
+
+		resolver.init(vertex, Person.class);
+		assertEquals(Person.class, resolver.resolve(vertex));
+		assertEquals(Person.class, resolver.resolve(vertex, VertexFrame.class));
+		assertEquals(Person.class, resolver.resolve(vertex, Person.class));
+		assertEquals("The requested kind should be used if it is not assignable", Group.class, resolver.resolve(vertex, Group.class));
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void testUnknownType() {
+		MeshTypeResolver resolver = new MeshTypeResolver("com.gentics.mesh.graphdb.orientdb.graph");
+		Vertex vertex = new TinkerGraph().addVertex(null);
+		vertex.setProperty(MeshTypeResolver.TYPE_RESOLUTION_KEY, "Unknown");
+		resolver.resolve(vertex, VertexFrame.class);
+	}
+
+}
@@ -1,6 +1,5 @@
 package com.gentics.mesh.distributed;
 
-import static com.gentics.mesh.Events.EVENT_CLEAR_PERMISSION_STORE;
 import static com.gentics.mesh.Events.EVENT_CLUSTER_DATABASE_CHANGE_STATUS;
 import static com.gentics.mesh.Events.EVENT_CLUSTER_NODE_JOINED;
 import static com.gentics.mesh.Events.EVENT_CLUSTER_NODE_LEFT;
@@ -60,12 +59,6 @@ public class DistributedEventManager {
 			handleClusterTopologyUpdate(handler);
 		});
 
-		// Register for events which are send whenever the permission store must be invalidated.
-		eb.consumer(EVENT_CLEAR_PERMISSION_STORE, handler -> {
-			log.debug("Received permissionstore clear event");
-			PermissionStore.invalidate(false);
-		});
-
 		// React on project creates
 		eb.consumer(Project.TYPE_INFO.getOnCreatedAddress(), (Message<JsonObject> handler) -> {
 			log.info("Received project create event");
@@ -1,6 +1,7 @@
 package com.gentics.mesh.search.index;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
 import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.mapError;
 import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.mapToMeshError;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
@@ -35,6 +36,7 @@ import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.error.InvalidArgumentException;
 import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.json.MeshJsonException;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.search.DevNullSearchProvider;
@@ -271,7 +273,7 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 		}).collect(() -> listResponse.getData(), (x, y) -> {
 			x.add(y);
 		}).subscribe(list -> {
-			ac.send(listResponse.toJson(), OK);
+			ac.send(JsonUtil.toJsonBuffer(listResponse, false), OK, APPLICATION_JSON_UTF8);
 		}, error -> {
 			log.error("Error while processing search response items", error);
 			ac.fail(error);
@@ -6,10 +6,17 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.search.SearchProvider.DEFAULT_TYPE;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import com.gentics.elasticsearch.client.HttpErrorException;
@@ -20,6 +27,7 @@ import com.gentics.mesh.core.data.search.CreateIndexEntry;
 import com.gentics.mesh.core.data.search.IndexHandler;
 import com.gentics.mesh.core.data.search.SearchQueue;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
+import com.gentics.mesh.core.data.search.SearchQueueEntryAction;
 import com.gentics.mesh.core.data.search.UpdateDocumentEntry;
 import com.gentics.mesh.core.data.search.bulk.DeleteBulkEntry;
 import com.gentics.mesh.core.data.search.bulk.IndexBulkEntry;
@@ -33,7 +41,7 @@ import com.gentics.mesh.search.impl.SearchClient;
 import com.gentics.mesh.search.index.MappingProvider;
 import com.gentics.mesh.search.index.Transformer;
 import com.gentics.mesh.search.index.metric.SyncMetric;
-import com.google.common.collect.MapDifference;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Maps;
 import com.syncleus.ferma.tx.Tx;
 
@@ -174,94 +182,163 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 	}
 
 	/**
-	 * Diff the source (graph) with the sink (ES index) and create {@link SearchQueueBatch} objects add, delete or update entries.
+	 * Diff the source (graph) with the sink (ES index) and process the needed insertions, removals and updates.
 	 * 
 	 * @param indexName
 	 * @param projectUuid
 	 * @param metric
 	 * @return
-	 * @throws HttpErrorException
 	 */
-	protected Completable diffAndSync(String indexName, String projectUuid, SyncMetric metric) throws HttpErrorException {
-
-		log.info("Handling index sync on handler {" + getClass().getName() + "}");
-
-		try (Tx tx = db.tx()) {
-
-			// 1. Load versions from the local graph (source of truth)
-			Map<String, String> sourceVersions = loadVersionsFromGraph();
-
-			// 2. Load the version from the elasticsearch index (sink)
-			Map<String, String> sinkVersions = loadVersionsFromIndex(indexName);
-
-			// 3. Diff the maps
-			MapDifference<String, String> diff = Maps.difference(sourceVersions, sinkVersions);
-			if (diff.areEqual()) {
-				log.info("No diff detected. Index {" + indexName + "} is in sync.");
-				return Completable.complete();
+	protected Completable diffAndSync(String indexName, String projectUuid, SyncMetric metric) {
+		return Completable.fromAction(() -> {
+			log.info("Handling index sync on handler {" + getClass().getName() + "}");
+			try (Tx tx = db.tx()) {
+				Iterator<Map.Entry<String, String>> sourceVersions = Iterators.transform(getRootVertex().findAll().iterator(), element -> Maps
+					.immutableEntry(element.getUuid(), generateVersion(element)));
+				diffAndSync(indexName, sourceVersions, uuid -> getRootVertex().findByUuid(uuid) != null, (uuid, action) -> {
+					GenericEntryContext context = new GenericEntryContextImpl();
+					context.setProjectUuid(projectUuid);
+					return new UpdateDocumentEntryImpl(this, uuid, context, action);
+				}, metric);
 			}
+		});
+	}
 
-			Set<String> needInsertionInES = diff.entriesOnlyOnLeft().keySet();
-			Set<String> needRemovalInES = diff.entriesOnlyOnRight().keySet();
-			Set<String> needUpdate = diff.entriesDiffering().keySet();
-
-			log.info("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
-			log.info("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
-			log.info("Pending updates on {" + indexName + "}:" + needUpdate.size());
-
-			metric.incInsert(needInsertionInES.size());
-			metric.incDelete(needRemovalInES.size());
-			metric.incUpdate(needUpdate.size());
-
-			// 4. Create the SQB's
-			SearchQueueBatch storeBatch = searchQueue.create();
-			for (String uuid : needInsertionInES) {
-				GenericEntryContext context = new GenericEntryContextImpl();
-				context.setProjectUuid(projectUuid);
-				UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(this, uuid, context, STORE_ACTION);
-				entry.setOnProcessAction(metric::decInsert);
-				storeBatch.addEntry(entry);
-			}
+	/**
+	 * Diff the source (graph) with the sink (ES index) and process the needed insertions, removals and updates.
+	 * 
+	 * The diff is done in chunks of {@link #ES_SYNC_FETCH_BATCH_SIZE} documents. Each chunk of the index is checked against the graph and each chunk of the
+	 * graph versions is checked against the index. The resulting {@link SearchQueueBatch} is processed before the next chunk is loaded. The memory footprint of
+	 * the sync is thus independent of the size of the index.
+	 * 
+	 * @param indexName
+	 *            Name of the index
+	 * @param sourceVersions
+	 *            Iterator which yields the document id and version for each document which should be present in the index
+	 * @param sourceCheck
+	 *            Predicate which checks whether the document with the given id should be present in the index
+	 * @param entryFactory
+	 *            Factory for the search queue entries of the given document id and action
+	 * @param metric
+	 * @throws HttpErrorException
+	 */
+	protected void diffAndSync(String indexName, Iterator<Map.Entry<String, String>> sourceVersions, Predicate<String> sourceCheck,
+		BiFunction<String, SearchQueueEntryAction, UpdateDocumentEntry> entryFactory, SyncMetric metric) throws HttpErrorException {
+
+		// 1. Remove the documents which are no longer present in the graph
+		AtomicLong removals = new AtomicLong();
+		scrollIndex(indexName, hits -> {
 			SearchQueueBatch removalBatch = searchQueue.create();
-			for (String uuid : needRemovalInES) {
-				GenericEntryContext context = new GenericEntryContextImpl();
-				context.setProjectUuid(projectUuid);
-				UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(this, uuid, context, DELETE_ACTION);
-				entry.setOnProcessAction(metric::decDelete);
-				removalBatch.addEntry(entry);
+			for (int i = 0; i < hits.size(); i++) {
+				String documentId = hits.getJsonObject(i).getString("_id");
+				if (!sourceCheck.test(documentId)) {
+					UpdateDocumentEntry entry = entryFactory.apply(documentId, DELETE_ACTION);
+					entry.setOnProcessAction(metric::decDelete);
+					removalBatch.addEntry(entry);
+				}
 			}
-			SearchQueueBatch updateBatch = searchQueue.create();
-			for (String uuid : needUpdate) {
-				GenericEntryContext context = new GenericEntryContextImpl();
-				context.setProjectUuid(projectUuid);
-				UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(this, uuid, context, STORE_ACTION);
-				entry.setOnProcessAction(metric::decUpdate);
-				updateBatch.addEntry(entry);
+			if (removalBatch.size() != 0) {
+				metric.incDelete(removalBatch.size());
+				removals.addAndGet(removalBatch.size());
+				removalBatch.processSync();
 			}
+		});
 
-			// 5. Process the SQB's
-			return Completable.mergeArray(removalBatch.processAsync(), storeBatch.processAsync(), updateBatch.processAsync());
+		// 2. Insert or update the documents which are missing or outdated in the index
+		long insertions = 0;
+		long updates = 0;
+		Map<String, String> chunk = new HashMap<>();
+		while (sourceVersions.hasNext()) {
+			Map.Entry<String, String> sourceVersion = sourceVersions.next();
+			chunk.put(sourceVersion.getKey(), sourceVersion.getValue());
+			if (chunk.size() >= ES_SYNC_FETCH_BATCH_SIZE || !sourceVersions.hasNext()) {
+				Map<String, String> sinkVersions = loadVersionsFromIndex(indexName, chunk.keySet());
+				SearchQueueBatch storeBatch = searchQueue.create();
+				SearchQueueBatch updateBatch = searchQueue.create();
+				for (Map.Entry<String, String> entry : chunk.entrySet()) {
+					String documentId = entry.getKey();
+					String sinkVersion = sinkVersions.get(documentId);
+					if (sinkVersion == null) {
+						UpdateDocumentEntry storeEntry = entryFactory.apply(documentId, STORE_ACTION);
+						storeEntry.setOnProcessAction(metric::decInsert);
+						storeBatch.addEntry(storeEntry);
+					} else if (!sinkVersion.equals(entry.getValue())) {
+						UpdateDocumentEntry updateEntry = entryFactory.apply(documentId, STORE_ACTION);
+						updateEntry.setOnProcessAction(metric::decUpdate);
+						updateBatch.addEntry(updateEntry);
+					}
+				}
+				metric.incInsert(storeBatch.size());
+				metric.incUpdate(updateBatch.size());
+				insertions += storeBatch.size();
+				updates += updateBatch.size();
+				if (storeBatch.size() != 0) {
+					storeBatch.processSync();
+				}
+				if (updateBatch.size() != 0) {
+					updateBatch.processSync();
+				}
+				chunk.clear();
+			}
+		}
 
+		if (removals.get() == 0 && insertions == 0 && updates == 0) {
+			log.info("No diff detected. Index {" + indexName + "} is in sync.");
+		} else {
+			log.info("Processed insertions on {" + indexName + "}:" + insertions);
+			log.info("Processed removals on {" + indexName + "}:" + removals.get());
+			log.info("Processed updates on {" + indexName + "}:" + updates);
 		}
 	}
 
-	private Map<String, String> loadVersionsFromGraph() {
+	/**
+	 * Load the versions of the documents with the given ids from the index.
+	 * 
+	 * @param indexName
+	 * @param documentIds
+	 * @return Map of document ids and versions. Documents which could not be found in the index are omitted.
+	 * @throws HttpErrorException
+	 */
+	protected Map<String, String> loadVersionsFromIndex(String indexName, Collection<String> documentIds) throws HttpErrorException {
+		String fullIndexName = searchProvider.installationPrefix() + indexName;
 		Map<String, String> versions = new HashMap<>();
-		for (T element : getRootVertex().findAll()) {
-			String v = generateVersion(element);
-			versions.put(element.getUuid(), v);
+		SearchClient client = searchProvider.getClient();
+		JsonObject query = new JsonObject();
+		query.put("size", documentIds.size());
+		query.put("_source", new JsonArray().add("version"));
+		query.put("query", new JsonObject().put("ids", new JsonObject().put("values", new JsonArray(new ArrayList<>(documentIds)))));
+
+		JsonObject queryOption = new JsonObject();
+		queryOption.put("index", fullIndexName);
+		JsonObject response = client.multiSearch(queryOption, query).sync();
+		JsonObject result = response.getJsonArray("responses").getJsonObject(0);
+		JsonObject errorInfo = result.getJsonObject("error");
+		if (errorInfo != null) {
+			log.error("Error while loading version information from index {" + indexName + "}: " + errorInfo.encode());
+			throw error(INTERNAL_SERVER_ERROR, "search_error_query");
+		}
+		JsonArray hits = result.getJsonObject("hits").getJsonArray("hits");
+		for (int i = 0; i < hits.size(); i++) {
+			JsonObject hit = hits.getJsonObject(i);
+			versions.put(hit.getString("_id"), hit.getJsonObject("_source").getString("version"));
 		}
 		return versions;
 	}
 
-	public Map<String, String> loadVersionsFromIndex(String indexName) throws HttpErrorException {
+	/**
+	 * Scroll over all documents of the index and pass the hits of each scroll page to the given handler. Only the document ids will be fetched.
+	 * 
+	 * @param indexName
+	 * @param handler
+	 * @throws HttpErrorException
+	 */
+	protected void scrollIndex(String indexName, Consumer<JsonArray> handler) throws HttpErrorException {
 		String fullIndexName = searchProvider.installationPrefix() + indexName;
-		Map<String, String> versions = new HashMap<>();
 		log.debug("Loading document info from index {" + fullIndexName + "}");
 		SearchClient client = searchProvider.getClient();
 		JsonObject query = new JsonObject();
 		query.put("size", ES_SYNC_FETCH_BATCH_SIZE);
-		query.put("_source", new JsonArray().add("uuid").add("version"));
+		query.put("_source", false);
 		query.put("query", new JsonObject().put("match_all", new JsonObject()));
 		query.put("sort", new JsonArray().add("_doc"));
 
@@ -273,12 +350,12 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 				log.trace("Got response {" + result.encodePrettily() + "}");
 			}
 			JsonArray hits = result.getJsonObject("hits").getJsonArray("hits");
-			processHits(hits, versions);
 
 			// Check whether we need to process more scrolls
 			if (hits.size() != 0) {
 				String nextScrollId = result.getString("_scroll_id");
 				try {
+					handler.accept(hits);
 					while (true) {
 						final String currentScroll = nextScrollId;
 						log.debug("Fetching scroll result using scrollId {" + currentScroll + "}");
@@ -288,7 +365,7 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 							log.trace("Got response {" + scrollHits.encodePrettily() + "}");
 						}
 						if (scrollHits.size() != 0) {
-							processHits(scrollHits, versions);
+							handler.accept(scrollHits);
 							// Update the scrollId for the next fetch
 							nextScrollId = scrollResult.getString("_scroll_id");
 							if (log.isDebugEnabled()) {
@@ -309,18 +386,6 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 			log.error(e);
 			throw e;
 		}
-
-		return versions;
-	}
-
-	protected void processHits(JsonArray hits, Map<String, String> versions) {
-		for (int i = 0; i < hits.size(); i++) {
-			JsonObject hit = hits.getJsonObject(i);
-			JsonObject source = hit.getJsonObject("_source");
-			String uuid = source.getString("uuid");
-			String version = source.getString("version");
-			versions.put(uuid, version);
-		}
 	}
 
 	@Override
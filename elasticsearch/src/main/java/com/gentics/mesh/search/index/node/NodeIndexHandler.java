@@ -2,8 +2,6 @@ package com.gentics.mesh.search.index.node;
 
 import static com.gentics.mesh.core.data.ContainerType.DRAFT;
 import static com.gentics.mesh.core.data.ContainerType.PUBLISHED;
-import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.DELETE_ACTION;
-import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.STORE_ACTION;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.search.SearchProvider.DEFAULT_TYPE;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
@@ -12,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -20,7 +19,6 @@ import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import com.gentics.elasticsearch.client.HttpErrorException;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Branch;
@@ -29,11 +27,11 @@ import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.core.data.root.NodeRoot;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.data.search.MoveDocumentEntry;
 import com.gentics.mesh.core.data.search.SearchQueue;
-import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.data.search.UpdateDocumentEntry;
 import com.gentics.mesh.core.data.search.bulk.BulkEntry;
 import com.gentics.mesh.core.data.search.bulk.DeleteBulkEntry;
@@ -50,14 +48,12 @@ import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.entry.AbstractIndexHandler;
 import com.gentics.mesh.search.index.entry.UpdateDocumentEntryImpl;
 import com.gentics.mesh.search.index.metric.SyncMetric;
-import com.google.common.collect.MapDifference;
 import com.google.common.collect.Maps;
 import com.syncleus.ferma.tx.Tx;
 
 import io.reactivex.Completable;
 import io.reactivex.Observable;
 import io.reactivex.Single;
-import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -219,119 +215,44 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 		});
 	}
 
-	private Map<String, String> loadVersionsFromGraph(Branch branch, SchemaContainerVersion version, ContainerType type) {
-		Map<String, String> versions = new HashMap<>();
+	private Completable diffAndSync(Project project, Branch branch, SchemaContainerVersion version, ContainerType type, SyncMetric metric) {
+		String projectUuid = project.getUuid();
 		String branchUuid = branch.getUuid();
-		version.getFieldContainers(branchUuid)
-			.filter(c -> c.getSchemaContainerVersion().equals(version))
-			.filter(c -> c.isType(type, branchUuid))
-			.forEach(c -> {
-				String v = generateVersion(c, branchUuid, type);
-				versions.put(c.getParentNode().getUuid() + "-" + c.getLanguage().getLanguageTag(), v);
-			});
-		return versions;
-	}
-
-	/**
-	 * We need to override the default method since the UUID alone is not enough to id a document in the node index. We also need to append the language.
-	 */
-	@Override
-	protected void processHits(JsonArray hits, Map<String, String> versions) {
-		for (int i = 0; i < hits.size(); i++) {
-			JsonObject hit = hits.getJsonObject(i);
-			JsonObject source = hit.getJsonObject("_source");
-			// The id contains the UUID + language
-			String uuidAndLang = hit.getString("_id");
-			String version = source.getString("version");
-			versions.put(uuidAndLang, version);
-		}
-	}
-
-	private Completable diffAndSync(Project project, Branch branch, SchemaContainerVersion version, ContainerType type, SyncMetric metric)
-		throws HttpErrorException {
-		String indexName = NodeGraphFieldContainer.composeIndexName(project.getUuid(), branch.getUuid(),
-			version.getUuid(), type);
-
-		log.info("Handling index sync on handler {" + getClass().getName() + "}");
-
-		try (Tx tx = db.tx()) {
+		String versionUuid = version.getUuid();
+		String indexName = NodeGraphFieldContainer.composeIndexName(projectUuid, branchUuid, versionUuid, type);
 
-			// 1. Load versions from the local graph (source of truth)
-			Map<String, String> sourceVersions = loadVersionsFromGraph(branch, version, type);
-
-			// 2. Load the version from the elasticsearch index (sink)
-			Map<String, String> sinkVersions = loadVersionsFromIndex(indexName);
-
-			// 3. Diff the maps
-			MapDifference<String, String> diff = Maps.difference(sourceVersions, sinkVersions);
-			if (diff.areEqual()) {
-				return Completable.complete();
-			}
-			Set<String> needInsertionInES = diff.entriesOnlyOnLeft().keySet();
-			Set<String> needRemovalInES = diff.entriesOnlyOnRight().keySet();
-			Set<String> needUpdate = diff.entriesDiffering().keySet();
-
-			log.info("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
-			log.info("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
-			log.info("Pending updates on {" + indexName + "}:" + needUpdate.size());
-
-			metric.incInsert(needInsertionInES.size());
-			metric.incDelete(needRemovalInES.size());
-			metric.incUpdate(needUpdate.size());
-
-			String versionUuid = version.getUuid();
-			String projectUuid = project.getUuid();
-			String branchUuid = branch.getUuid();
-
-			// 4. Create the SQB's
-			SearchQueueBatch storeBatch = searchQueue.create();
-			for (String uuidLang : needInsertionInES) {
-				String uuid = uuidLang.substring(0, uuidLang.indexOf("-"));
-				String lang = uuidLang.substring(uuidLang.indexOf("-") + 1);
-				GenericEntryContext context = new GenericEntryContextImpl();
-				context.setContainerType(type);
-				context.setProjectUuid(projectUuid);
-				context.setBranchUuid(branchUuid);
-				context.setLanguageTag(lang);
-				context.setSchemaContainerVersionUuid(versionUuid);
-				UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(this, uuid, context, STORE_ACTION);
-				entry.setOnProcessAction(metric::decInsert);
-				storeBatch.addEntry(entry);
-			}
-			SearchQueueBatch removalBatch = searchQueue.create();
-			for (String uuidLang : needRemovalInES) {
-				String uuid = uuidLang.substring(0, uuidLang.indexOf("-"));
-				String lang = uuidLang.substring(uuidLang.indexOf("-") + 1);
-				GenericEntryContext context = new GenericEntryContextImpl();
-				context.setContainerType(type);
-				context.setProjectUuid(projectUuid);
-				context.setBranchUuid(branchUuid);
-				context.setSchemaContainerVersionUuid(versionUuid);
-				context.setLanguageTag(lang);
-				UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(this, uuid, context, DELETE_ACTION);
-				entry.setOnProcessAction(metric::decDelete);
-				removalBatch.addEntry(entry);
-			}
-			SearchQueueBatch updateBatch = searchQueue.create();
-			for (String uuidLang : needUpdate) {
-				String uuid = uuidLang.substring(0, uuidLang.indexOf("-"));
-				String lang = uuidLang.substring(uuidLang.indexOf("-") + 1);
-				GenericEntryContext context = new GenericEntryContextImpl();
-				context.setContainerType(type);
-				context.setProjectUuid(projectUuid);
-				context.setBranchUuid(branchUuid);
-				context.setSchemaContainerVersionUuid(versionUuid);
-				context.setLanguageTag(lang);
-				UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(this, uuid, context, STORE_ACTION);
-				entry.setOnProcessAction(metric::decUpdate);
-				updateBatch.addEntry(entry);
+		return Completable.fromAction(() -> {
+			log.info("Handling index sync on handler {" + getClass().getName() + "} for index {" + indexName + "}");
+			try (Tx tx = db.tx()) {
+				// The versions of the local graph (source of truth) are generated while iterating over the containers
+				Iterator<Map.Entry<String, String>> sourceVersions = version.getFieldContainers(branchUuid)
+					.filter(c -> c.getSchemaContainerVersion().equals(version))
+					.filter(c -> c.isType(type, branchUuid))
+					.map(c -> Maps.immutableEntry(c.getDocumentId(), generateVersion(c, branchUuid, type)))
+					.iterator();
+
+				NodeRoot nodeRoot = project.getNodeRoot();
+				diffAndSync(indexName, sourceVersions, documentId -> {
+					// The document id contains the UUID + language
+					Node node = nodeRoot.findByUuid(documentId.substring(0, documentId.indexOf("-")));
+					if (node == null) {
+						return false;
+					}
+					NodeGraphFieldContainer container = node.getGraphFieldContainer(documentId.substring(documentId.indexOf("-") + 1), branchUuid, type);
+					return container != null && container.getSchemaContainerVersion().equals(version);
+				}, (documentId, action) -> {
+					String uuid = documentId.substring(0, documentId.indexOf("-"));
+					String lang = documentId.substring(documentId.indexOf("-") + 1);
+					GenericEntryContext context = new GenericEntryContextImpl();
+					context.setContainerType(type);
+					context.setProjectUuid(projectUuid);
+					context.setBranchUuid(branchUuid);
+					context.setLanguageTag(lang);
+					context.setSchemaContainerVersionUuid(versionUuid);
+					return new UpdateDocumentEntryImpl(this, uuid, context, action);
+				}, metric);
 			}
-
-			// 5. Process the SQB's
-			return Completable.mergeArray(removalBatch.processAsync(), storeBatch.processAsync(), updateBatch.processAsync());
-
-		}
-
+		});
 	}
 
 	@Override
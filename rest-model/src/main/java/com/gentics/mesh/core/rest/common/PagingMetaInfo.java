@@ -17,13 +17,17 @@ public class PagingMetaInfo {
 	private Long perPage;
 
 	@JsonProperty(required = true)
-	@JsonPropertyDescription("Number of the pages which can be found for the given per page count.")
+	@JsonPropertyDescription("Number of the pages which can be found for the given per page count. The value is -1 if the count computation was skipped.")
 	private long pageCount;
 
 	@JsonProperty(required = true)
-	@JsonPropertyDescription("Number of all elements which could be found.")
+	@JsonPropertyDescription("Number of all elements which could be found. The value is -1 if the count computation was skipped.")
 	private long totalCount;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Opaque cursor which can be used to load the next page. The cursor is only set if a next page exists.")
+	private String nextCursor;
+
 	public PagingMetaInfo() {
 	}
 
@@ -111,4 +115,24 @@ public class PagingMetaInfo {
 		return this;
 	}
 
+	/**
+	 * Return the cursor which can be used to load the next page.
+	 * 
+	 * @return Cursor or null if there is no next page
+	 */
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	/**
+	 * Set the cursor which can be used to load the next page.
+	 * 
+	 * @param nextCursor
+	 * @return Fluent API
+	 */
+	public PagingMetaInfo setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+		return this;
+	}
+
 }
@@ -4,6 +4,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
 import java.io.IOException;
+import java.io.OutputStream;
 
 import org.codehaus.jettison.json.JSONObject;
 
@@ -16,6 +17,7 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleAbstractTypeResolver;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -51,6 +53,7 @@ import com.gentics.mesh.json.serializer.FieldListSerializer;
 import com.gentics.mesh.json.serializer.JsonArraySerializer;
 import com.gentics.mesh.json.serializer.JsonObjectSerializer;
 
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -64,6 +67,17 @@ public final class JsonUtil {
 	protected static ObjectMapper defaultMapper;
 	protected static JsonSchemaGenerator schemaGen;
 
+	/**
+	 * Shared writers. Writers are immutable and thread-safe and avoid the setup of a new writer for each serialization.
+	 */
+	private static ObjectWriter compactWriter;
+	private static ObjectWriter prettyWriter;
+
+	/**
+	 * Initial capacity of the buffers which are used for the serialization of REST models.
+	 */
+	private static final int INITIAL_BUFFER_SIZE = 4096;
+
 	private static final Logger log = LoggerFactory.getLogger(JsonUtil.class);
 
 	static {
@@ -116,6 +130,8 @@ public final class JsonUtil {
 			}
 		});
 
+		compactWriter = defaultMapper.writer();
+		prettyWriter = defaultMapper.writerWithDefaultPrettyPrinter();
 	}
 
 	/**
@@ -139,7 +155,7 @@ public final class JsonUtil {
 			return ((JSONObject) obj).toString();
 		}
 		try {
-			return defaultMapper.writerWithDefaultPrettyPrinter().writeValueAsString(obj);
+			return prettyWriter.writeValueAsString(obj);
 		} catch (IOException e) {
 			// TODO i18n
 			String message = "Could not generate json from object";
@@ -148,6 +164,30 @@ public final class JsonUtil {
 		}
 	}
 
+	/**
+	 * Serialize the given object directly into a buffer. This avoids the intermediate string which would otherwise be copied into the response.
+	 * 
+	 * @param obj
+	 * @param pretty
+	 *            Whether the JSON should be indented. Compact JSON will be generated otherwise.
+	 * @return
+	 * @throws GenericRestException
+	 */
+	public static Buffer toJsonBuffer(Object obj, boolean pretty) throws GenericRestException {
+		if (obj instanceof JSONObject) {
+			return Buffer.buffer(((JSONObject) obj).toString());
+		}
+		// The buffer is not allocated from the pool since the response does not release the buffer once it has been written
+		Buffer buffer = Buffer.buffer(INITIAL_BUFFER_SIZE);
+		try (OutputStream out = new BufferOutputStream(buffer)) {
+			(pretty ? prettyWriter : compactWriter).writeValue(out, obj);
+			return buffer;
+		} catch (IOException e) {
+			String message = "Could not generate json from object";
+			throw new GenericRestException(INTERNAL_SERVER_ERROR, message, e);
+		}
+	}
+
 	/**
 	 * Transform the given JSON content back into a POJO.
 	 * 
@@ -214,4 +254,26 @@ public final class JsonUtil {
 		return defaultMapper;
 	}
 
+	/**
+	 * Output stream which appends the written bytes to a buffer.
+	 */
+	private static class BufferOutputStream extends OutputStream {
+
+		private final Buffer buffer;
+
+		private BufferOutputStream(Buffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public void write(int b) {
+			buffer.appendByte((byte) b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			buffer.appendBytes(b, off, len);
+		}
+	}
+
 }
@@ -15,6 +15,11 @@ public interface GenericParameters extends ParameterProvider {
 	 */
 	public static final String ETAG_PARAM_KEY = "etag";
 
+	/**
+	 * Query parameter key: {@value #PRETTY_PRINT_PARAM_KEY}
+	 */
+	public static final String PRETTY_PRINT_PARAM_KEY = "prettyPrint";
+
 	/**
 	 * Return the fields which should be included in the response.
 	 * 
@@ -63,4 +68,23 @@ public interface GenericParameters extends ParameterProvider {
 		setParameter(ETAG_PARAM_KEY, String.valueOf(includeEtag));
 		return this;
 	}
+
+	/**
+	 * Return whether the JSON response should be indented. Compact JSON will be returned by default.
+	 * 
+	 * @return
+	 */
+	default boolean getPrettyPrint() {
+		return Boolean.valueOf(getParameter(PRETTY_PRINT_PARAM_KEY));
+	}
+
+	/**
+	 * Set the pretty print flag.
+	 * 
+	 * @param prettyPrint
+	 */
+	default GenericParameters setPrettyPrint(boolean prettyPrint) {
+		setParameter(PRETTY_PRINT_PARAM_KEY, String.valueOf(prettyPrint));
+		return this;
+	}
 }
@@ -9,6 +9,8 @@ public interface PagingParameters extends ParameterProvider {
 	public static final String PER_PAGE_PARAMETER_KEY = "perPage";
 	public static final String SORT_BY_PARAMETER_KEY = "sortBy";
 	public static final String SORT_ORDER_PARAMETER_KEY = "order";
+	public static final String CURSOR_PARAMETER_KEY = "cursor";
+	public static final String SKIP_COUNT_PARAMETER_KEY = "skipCount";
 
 	public static final int DEFAULT_PAGE = 1;
 
@@ -56,6 +58,50 @@ public interface PagingParameters extends ParameterProvider {
 		return this;
 	}
 
+	/**
+	 * Return the opaque cursor which identifies the last element of the previous page.
+	 * 
+	 * @return Cursor or null if no cursor was specified
+	 */
+	default String getCursor() {
+		return getParameter(CURSOR_PARAMETER_KEY);
+	}
+
+	/**
+	 * Set the cursor which was returned by the previous page. The next page will start after the element which is identified by the cursor and the page
+	 * parameter will be ignored.
+	 * 
+	 * @param cursor
+	 *            Cursor of the previous page
+	 * @return Fluent API
+	 */
+	default PagingParameters setCursor(String cursor) {
+		if (cursor != null) {
+			setParameter(CURSOR_PARAMETER_KEY, cursor);
+		}
+		return this;
+	}
+
+	/**
+	 * Check whether the computation of the total count should be skipped.
+	 * 
+	 * @return
+	 */
+	default boolean isSkipCount() {
+		return Boolean.parseBoolean(getParameter(SKIP_COUNT_PARAMETER_KEY));
+	}
+
+	/**
+	 * Set the flag which controls whether the total count and page count should be computed. Computing the count requires all elements to be loaded.
+	 * 
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default PagingParameters setSkipCount(boolean flag) {
+		setParameter(SKIP_COUNT_PARAMETER_KEY, String.valueOf(flag));
+		return this;
+	}
+
 	/**
 	 * Return the sort by parameter value.
 	 * 
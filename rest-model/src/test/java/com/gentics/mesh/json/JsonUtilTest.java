@@ -0,0 +1,28 @@
+package com.gentics.mesh.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.user.UserResponse;
+
+import io.vertx.core.buffer.Buffer;
+
+public class JsonUtilTest {
+
+	@Test
+	public void testToJsonBuffer() {
+		UserResponse user = new UserResponse().setUsername("joe1").setFirstname("J\u00f6e");
+
+		Buffer compact = JsonUtil.toJsonBuffer(user, false);
+		assertFalse("The compact JSON should not contain line breaks.", compact.toString().contains("\n"));
+		assertEquals("J\u00f6e", JsonUtil.readValue(compact.toString(), UserResponse.class).getFirstname());
+
+		Buffer pretty = JsonUtil.toJsonBuffer(user, true);
+		assertTrue("The pretty JSON should be indented.", pretty.toString().contains("\n"));
+		assertEquals(JsonUtil.toJson(user), pretty.toString());
+	}
+
+}
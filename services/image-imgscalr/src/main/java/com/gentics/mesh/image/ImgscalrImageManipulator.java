@@ -3,19 +3,27 @@ package com.gentics.mesh.image;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
-import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
 import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 
 import org.apache.tika.metadata.Metadata;
 import org.apache.tika.parser.AutoDetectParser;
@@ -50,10 +58,20 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 
 	private static final Logger log = LoggerFactory.getLogger(ImgscalrImageManipulator.class);
 
+	/**
+	 * Subsampled images will be at least this factor larger than the requested size.
+	 */
+	private static final int SUBSAMPLING_MARGIN = 4;
+
 	private FocalPointModifier focalPointModifier = new FocalPointModifier();
 
 	private WorkerExecutor workerPool;
 
+	/**
+	 * Resize operations which are currently in progress. The key is the path of the cache file.
+	 */
+	private final Map<String, Single<File>> inFlight = new ConcurrentHashMap<>();
+
 	public ImgscalrImageManipulator() {
 		this(new Vertx(Mesh.vertx()), Mesh.mesh().getOptions().getImageOptions());
 	}
@@ -64,28 +82,6 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		workerPool = vertx.createSharedWorkerExecutor("resizeWorker", 5, Duration.ofSeconds(10).toNanos());
 	}
 
-	/**
-	 * Crop the image if the request contains cropping parameters. Fail if the crop parameters are invalid or incomplete.
-	 * 
-	 * @param originalImage
-	 * @param cropArea
-	 * @return cropped image or return original image if no cropping is requested
-	 */
-	protected BufferedImage crop(BufferedImage originalImage, ImageRect cropArea) {
-		if (cropArea != null) {
-			cropArea.validateCropBounds(originalImage.getWidth(), originalImage.getHeight());
-			try {
-				BufferedImage image = Scalr.crop(originalImage, cropArea.getStartX(), cropArea.getStartY(), cropArea.getWidth(),
-					cropArea.getHeight());
-				originalImage.flush();
-				return image;
-			} catch (IllegalArgumentException e) {
-				throw error(BAD_REQUEST, "image_error_cropping_failed", e);
-			}
-		}
-		return originalImage;
-	}
-
 	/**
 	 * Resize the image if the request contains resize parameters.
 	 * 
@@ -136,6 +132,11 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 
 	@Override
 	public Single<PropReadFileStream> handleResize(Flowable<Buffer> stream, String cacheKey, ImageManipulationParameters parameters) {
+		return handleResizeToFile(stream, cacheKey, parameters).flatMap(path -> PropReadFileStream.openFile(this.vertx, path));
+	}
+
+	@Override
+	public Single<String> handleResizeToFile(Flowable<Buffer> stream, String cacheKey, ImageManipulationParameters parameters) {
 		// Validate the resize parameters
 		try {
 			parameters.validate();
@@ -146,41 +147,59 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		File cacheFile = getCacheFile(cacheKey, parameters);
 
 		// Check the cache file directory
-		if (cacheFile.exists()) {
-			return PropReadFileStream.openFile(this.vertx, cacheFile.getAbsolutePath());
+		if (cache.lookup(cacheFile)) {
+			return Single.just(cacheFile.getAbsolutePath());
 		}
 
+		// Concurrent requests for the same image variant share a single resize operation. The cache file path contains both the sha512sum of the binary
+		// and the cache key of the parameters. The operation is only registered once the single is subscribed and removed once it terminated. Singles
+		// which are never subscribed thus don't leave an entry behind.
+		String key = cacheFile.getAbsolutePath();
+		Single<File> resize = Single.defer(() -> inFlight.computeIfAbsent(key, k -> resizeAndCache(stream, cacheFile, parameters)
+			.doFinally(() -> inFlight.remove(k))
+			.cache()));
+		return resize.map(File::getAbsolutePath);
+	}
+
+	/**
+	 * Resize the image and write the result to the cache file. The file is written to a temporary file first and moved to the final location once the
+	 * image has been fully written. Other requests will thus never read a partially written cache file.
+	 * 
+	 * @param stream
+	 *            Stream of the original image
+	 * @param cacheFile
+	 *            Target cache file
+	 * @param parameters
+	 * @return Single which emits the cache file
+	 */
+	private Single<File> resizeAndCache(Flowable<Buffer> stream, File cacheFile, ImageManipulationParameters parameters) {
 		// TODO handle execution timeout
 		// Make sure to run that code in the dedicated thread pool it may be CPU intensive for larger images and we don't want to exhaust the regular worker
 		// pool
 		return workerPool.rxExecuteBlocking(bh -> {
 
+			// The file may have been written by a request which completed in the meantime
+			if (cacheFile.exists()) {
+				bh.complete(cacheFile);
+				return;
+			}
+
 			// Read the image and apply the changes -
-			readImage(stream).flatMap(bi -> {
+			readImage(stream, parameters).map(bi -> {
 				if (bi == null) {
 					throw error(BAD_REQUEST, "image_error_reading_failed");
 				}
-				if (bi.getTransparency() == Transparency.TRANSLUCENT) {
-					// NOTE: For BITMASK images, the color model is likely IndexColorModel,
-					// and this model will contain the "real" color of the transparent parts
-					// which is likely a better fit than unconditionally setting it to white.
-					// Fill background with white
-					Graphics2D graphics = bi.createGraphics();
+				// Convert the image to RGB for images with transparency (gif, png). The image is drawn once onto a white background.
+				BufferedImage rgbCopy = bi;
+				if (bi.getTransparency() != Transparency.OPAQUE) {
+					rgbCopy = new BufferedImage(bi.getWidth(), bi.getHeight(), BufferedImage.TYPE_INT_RGB);
+					Graphics2D graphics = rgbCopy.createGraphics();
 					try {
-						graphics.setComposite(AlphaComposite.DstOver); // Set composite rules to paint "behind"
-						graphics.setPaint(Color.WHITE);
-						graphics.fillRect(0, 0, bi.getWidth(), bi.getHeight());
+						graphics.drawImage(bi, 0, 0, Color.WHITE, null);
 					} finally {
 						graphics.dispose();
 					}
-				}
-				// Convert the image to RGB for images with transparency (gif, png)
-				BufferedImage rgbCopy = bi;
-				if (bi.getTransparency() == Transparency.TRANSLUCENT || bi.getTransparency() == Transparency.BITMASK) {
-					rgbCopy = new BufferedImage(bi.getWidth(), bi.getHeight(), BufferedImage.TYPE_INT_RGB);
-					Graphics2D graphics = rgbCopy.createGraphics();
-					graphics.drawImage(bi, 0, 0, Color.WHITE, null);
-					graphics.dispose();
+					bi.flush();
 				}
 
 				// Manipulate image
@@ -189,7 +208,7 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 				if (cropMode != null) {
 					switch (cropMode) {
 					case RECT:
-						rgbCopy = crop(rgbCopy, parameters.getRect());
+						// The crop area has already been applied while reading the image
 						break;
 					case FOCALPOINT:
 						rgbCopy = focalPointModifier.apply(rgbCopy, parameters);
@@ -204,41 +223,122 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 				}
 
 				// Write image
-				try {
-					ImageIO.write(rgbCopy, "jpg", cacheFile);
-				} catch (Exception e) {
-					throw error(BAD_REQUEST, "image_error_writing_failed", e);
-				}
-				// Return buffer to written cache file
-				return PropReadFileStream.openFile(this.vertx, cacheFile.getAbsolutePath());
+				writeAtomically(rgbCopy, cacheFile);
+				return cacheFile;
 			}).subscribe(result -> bh.complete(result), bh::fail);
 		});
+	}
 
+	/**
+	 * Write the image to a temporary file within the cache directory and atomically move it to the target file.
+	 * 
+	 * @param image
+	 * @param cacheFile
+	 */
+	private void writeAtomically(BufferedImage image, File cacheFile) {
+		File tmpFile = null;
+		try {
+			tmpFile = File.createTempFile(cacheFile.getName(), ".tmp", cacheFile.getParentFile());
+			ImageIO.write(image, "jpg", tmpFile);
+			Files.move(tmpFile.toPath(), cacheFile.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			cache.put(cacheFile);
+		} catch (Exception e) {
+			if (tmpFile != null) {
+				tmpFile.delete();
+			}
+			throw error(BAD_REQUEST, "image_error_writing_failed", e);
+		}
 	}
 
 	/**
-	 * Read the image data stream and return the decoded image.
+	 * Read the image data stream and return the decoded image. A requested crop area will be applied while reading the image. Large images will be
+	 * subsampled while reading when the requested size is much smaller than the source image. This way only the pixels which are needed for the
+	 * requested image will be decoded.
 	 * 
 	 * @param stream
-	 * @return
+	 * @param parameters
+	 * @return Decoded and cropped image
 	 */
-	private Single<BufferedImage> readImage(Flowable<Buffer> stream) {
+	private Single<BufferedImage> readImage(Flowable<Buffer> stream, ImageManipulationParameters parameters) {
 		return workerPool.rxExecuteBlocking(bc -> {
-			try (InputStream ins = RxUtil.toInputStream(stream, vertx)) {
+			try (InputStream ins = RxUtil.toInputStream(stream, vertx); ImageInputStream iis = ImageIO.createImageInputStream(ins)) {
 				if (log.isDebugEnabled()) {
 					log.debug("Reading image from stream.." + stream.hashCode());
 				}
-				BufferedImage image = ImageIO.read(ins);
-				if (log.isDebugEnabled()) {
-					log.debug("Read image from stream.." + stream.hashCode());
+				Iterator<ImageReader> readers = iis == null ? Collections.emptyIterator() : ImageIO.getImageReaders(iis);
+				if (!readers.hasNext()) {
+					bc.complete(null);
+					return;
+				}
+				ImageReader reader = readers.next();
+				try {
+					reader.setInput(iis, true, true);
+					ImageReadParam param = reader.getDefaultReadParam();
+					int width = reader.getWidth(0);
+					int height = reader.getHeight(0);
+
+					// Only read the requested area of the image
+					ImageRect cropArea = parameters.getCropMode() == CropMode.RECT ? parameters.getRect() : null;
+					if (cropArea != null) {
+						cropArea.validateCropBounds(width, height);
+						param.setSourceRegion(new Rectangle(cropArea.getStartX(), cropArea.getStartY(), cropArea.getWidth(), cropArea.getHeight()));
+						width = cropArea.getWidth();
+						height = cropArea.getHeight();
+					}
+
+					int subsampling = calculateSubsampling(width, height, parameters);
+					if (subsampling > 1) {
+						param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+					}
+					BufferedImage image = reader.read(0, param);
+					if (log.isDebugEnabled()) {
+						log.debug("Read image from stream.." + stream.hashCode() + " using subsampling {" + subsampling + "}");
+					}
+					bc.complete(image);
+				} finally {
+					reader.dispose();
 				}
-				bc.complete(image);
 			} catch (IOException e) {
 				bc.fail(e);
 			}
 		}, false);
 	}
 
+	/**
+	 * Calculate the subsampling factor which can be used to read the image. The factor is derived from the requested size. Images will only be
+	 * subsampled when the subsampled image still exceeds the requested size by the {@link #SUBSAMPLING_MARGIN}. The final resize operation will thus
+	 * still be able to produce a smooth image.
+	 * 
+	 * @param width
+	 *            Width of the source image area
+	 * @param height
+	 *            Height of the source image area
+	 * @param parameters
+	 * @return Subsampling factor
+	 */
+	protected int calculateSubsampling(int width, int height, ImageManipulationParameters parameters) {
+		Integer pWidth = parameters.getWidth();
+		Integer pHeight = parameters.getHeight();
+		if (pWidth == null && pHeight == null) {
+			return 1;
+		}
+
+		// Zooming into the focal point requires a larger source area
+		float zoom = 1;
+		if (parameters.getCropMode() == CropMode.FOCALPOINT && parameters.getFocalPointZoom() != null) {
+			zoom = Math.max(1, parameters.getFocalPointZoom());
+		}
+
+		int factor = Integer.MAX_VALUE;
+		if (pWidth != null) {
+			factor = Math.min(factor, (int) (width / (pWidth * zoom)));
+		}
+		if (pHeight != null) {
+			factor = Math.min(factor, (int) (height / (pHeight * zoom)));
+		}
+		return Math.max(1, factor / SUBSAMPLING_MARGIN);
+	}
+
 	@Override
 	public int[] calculateDominantColor(BufferedImage image) {
 		// Resize the image to 1x1 and sample the pixel
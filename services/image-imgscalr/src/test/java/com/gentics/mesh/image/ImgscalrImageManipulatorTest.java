@@ -15,6 +15,7 @@ import java.nio.charset.Charset;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.imageio.ImageIO;
 
@@ -31,12 +32,15 @@ import org.xml.sax.SAXException;
 import com.gentics.mesh.core.image.spi.ImageInfo;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.parameter.image.CropMode;
 import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
 import com.gentics.mesh.util.PropReadFileStream;
 import com.gentics.mesh.util.RxUtil;
 
 import io.reactivex.Flowable;
 import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.processors.PublishProcessor;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -88,6 +92,35 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 
 	}
 
+	@Test
+	public void testConcurrentResize() throws Exception {
+		byte[] bytes = IOUtils.toByteArray(getClass().getResourceAsStream("/pictures/blume.jpg"));
+		ImageManipulationParametersImpl parameters = new ImageManipulationParametersImpl().setWidth(150).setHeight(180);
+
+		// The stream is only emitted once the gate has been opened. Both requests are thus subscribed while the first resize operation is still in flight.
+		AtomicInteger reads = new AtomicInteger();
+		PublishProcessor<Object> gate = PublishProcessor.create();
+		Flowable<Buffer> stream = Flowable.defer(() -> {
+			reads.incrementAndGet();
+			return Flowable.just(Buffer.buffer(bytes));
+		}).delaySubscription(gate);
+		TestObserver<PropReadFileStream> first = manipulator.handleResize(stream, "concurrentResize", parameters).test();
+		TestObserver<PropReadFileStream> second = manipulator.handleResize(stream, "concurrentResize", parameters).test();
+		gate.onComplete();
+
+		assertTrue("The first resize operation did not complete in time", first.awaitTerminalEvent(20, TimeUnit.SECONDS));
+		assertTrue("The second resize operation did not complete in time", second.awaitTerminalEvent(20, TimeUnit.SECONDS));
+		first.assertNoErrors();
+		second.assertNoErrors();
+		assertEquals("The image should only have been read and decoded once", 1, reads.get());
+		File firstFile = new File(first.values().get(0).getPath());
+		File secondFile = new File(second.values().get(0).getPath());
+		assertEquals(firstFile, secondFile);
+		BufferedImage resizedImage = ImageIO.read(secondFile);
+		assertThat(resizedImage).hasSize(150, 180);
+		assertEquals("No temporary files should remain in the cache folder", 1, firstFile.getParentFile().list().length);
+	}
+
 	@Test
 	public void testExtractImageInfo() throws IOException, JSONException {
 		checkImages((imageName, width, height, color, refImage, stream) -> {
@@ -189,32 +222,43 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 
 	@Test(expected = GenericRestException.class)
 	public void testCropStartOutOfBounds() throws Exception {
-		BufferedImage bi = new BufferedImage(100, 200, BufferedImage.TYPE_INT_ARGB);
-		manipulator.crop(bi, new ImageManipulationParametersImpl().setRect(500, 500, 20, 25).getRect());
+		byte[] bytes = IOUtils.toByteArray(getClass().getResourceAsStream("/pictures/blume.jpg"));
+		manipulator.handleResizeToFile(Flowable.just(Buffer.buffer(bytes)), "cropStartOutOfBounds", new ImageManipulationParametersImpl().setRect(5000,
+			5000, 20, 25).setCropMode(CropMode.RECT)).blockingGet();
 	}
 
 	@Test(expected = GenericRestException.class)
 	public void testCropAreaOutOfBounds() throws Exception {
-		BufferedImage bi = new BufferedImage(100, 200, BufferedImage.TYPE_INT_ARGB);
-		manipulator.crop(bi, new ImageManipulationParametersImpl().setRect(1, 1, 400, 400).getRect());
+		byte[] bytes = IOUtils.toByteArray(getClass().getResourceAsStream("/pictures/blume.jpg"));
+		manipulator.handleResizeToFile(Flowable.just(Buffer.buffer(bytes)), "cropAreaOutOfBounds", new ImageManipulationParametersImpl().setRect(1, 1,
+			40000, 40000).setCropMode(CropMode.RECT)).blockingGet();
 	}
 
 	@Test
-	public void testCropImage() {
+	public void testCalculateSubsampling() {
+		// The factor only depends on the requested size
+		assertEquals(2, manipulator.calculateSubsampling(1160, 1376, new ImageManipulationParametersImpl().setWidth(100)));
+		assertEquals(1, manipulator.calculateSubsampling(1160, 1376, new ImageManipulationParametersImpl().setWidth(400)));
+
+		// No resize requested
+		assertEquals(1, manipulator.calculateSubsampling(12000, 8000, new ImageManipulationParametersImpl()));
+
+		// The subsampled image must still be larger than the requested size
+		assertEquals(10, manipulator.calculateSubsampling(12000, 8000, new ImageManipulationParametersImpl().setWidth(300)));
+		assertEquals(5, manipulator.calculateSubsampling(12000, 8000, new ImageManipulationParametersImpl().setWidth(300).setHeight(400)));
+		assertEquals(1, manipulator.calculateSubsampling(12000, 8000, new ImageManipulationParametersImpl().setWidth(4000)));
+	}
 
-		// No parameters
-		BufferedImage bi = new BufferedImage(100, 200, BufferedImage.TYPE_INT_ARGB);
-		BufferedImage outputImage = manipulator.crop(bi, null);
-		assertEquals(100, outputImage.getWidth());
-		assertEquals(200, outputImage.getHeight());
-		assertEquals("No cropping operation should have occured", bi.hashCode(), outputImage.hashCode());
+	@Test
+	public void testCropImage() throws Exception {
+		byte[] bytes = IOUtils.toByteArray(getClass().getResourceAsStream("/pictures/blume.jpg"));
 
-		// Valid cropping
-		bi = new BufferedImage(100, 200, BufferedImage.TYPE_INT_ARGB);
-		outputImage = manipulator.crop(bi, new ImageManipulationParametersImpl().setRect(1, 1, 20, 25).getRect());
+		// Only the crop area is read from the image
+		String path = manipulator.handleResizeToFile(Flowable.just(Buffer.buffer(bytes)), "cropImage", new ImageManipulationParametersImpl().setRect(1,
+			1, 20, 25).setCropMode(CropMode.RECT)).blockingGet();
+		BufferedImage outputImage = ImageIO.read(new File(path));
 		assertEquals(25, outputImage.getWidth());
 		assertEquals(20, outputImage.getHeight());
-
 	}
 
 	@Test
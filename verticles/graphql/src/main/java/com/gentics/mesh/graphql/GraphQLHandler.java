@@ -1,26 +1,45 @@
 package com.gentics.mesh.graphql;
 
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
 import static graphql.GraphQL.newGraphQL;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import org.dataloader.DataLoaderRegistry;
+
 import com.syncleus.ferma.tx.Tx;
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.rest.error.PermissionException;
+import com.gentics.mesh.etc.config.GraphQLOptions;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphql.GraphQLSchemaCache.CachedSchema;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.cost.QueryBudgetInstrumentation;
+import com.gentics.mesh.graphql.cost.QueryBudgetInstrumentation.BudgetExceededException;
+import com.gentics.mesh.graphql.cost.QueryCost;
+import com.gentics.mesh.graphql.cost.QueryCostAnalyzer;
+import com.gentics.mesh.graphql.cost.QueryCostMetric;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
 import com.gentics.mesh.graphql.type.QueryTypeProvider;
+import com.gentics.mesh.json.JsonUtil;
 import graphql.ExceptionWhileDataFetching;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLError;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation;
+import graphql.language.Document;
 import graphql.language.SourceLocation;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -32,6 +51,21 @@ public class GraphQLHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(GraphQLHandler.class);
 
+	/**
+	 * Error type for queries which exceed the configured maximum depth.
+	 */
+	public static final String QUERY_TOO_DEEP = "QueryTooDeep";
+
+	/**
+	 * Error type for queries which exceed the configured maximum amount of estimated element visits.
+	 */
+	public static final String QUERY_TOO_EXPENSIVE = "QueryTooExpensive";
+
+	/**
+	 * Error type for queries which exceeded the execution time budget.
+	 */
+	public static final String QUERY_TIMEOUT = "QueryTimeout";
+
 	@Inject
 	public QueryTypeProvider typeProvider;
 
@@ -54,9 +88,55 @@ public class GraphQLHandler {
 		try (Tx tx = db.tx()) {
 			JsonObject queryJson = new JsonObject(body);
 			String query = queryJson.getString("query");
-			GraphQL graphQL = newGraphQL(typeProvider.getRootSchema(gc)).build();
-			ExecutionInput executionInput = ExecutionInput.newExecutionInput().query(query).context(gc).variables(extractVariables(queryJson))
-					.build();
+			String queryHash = PersistedQueryStore.getHash(queryJson);
+			if (queryHash != null) {
+				if (query == null) {
+					query = PersistedQueryStore.get(queryHash);
+					if (query == null) {
+						sendError(gc, PersistedQueryStore.PERSISTED_QUERY_NOT_FOUND);
+						return;
+					}
+				} else if (!PersistedQueryStore.register(queryHash, query)) {
+					sendError(gc, PersistedQueryStore.PERSISTED_QUERY_HASH_MISMATCH);
+					return;
+				}
+			}
+			String schemaKey = GraphQLSchemaCache.schemaKey(gc.getProject(), gc.getBranch());
+			CachedSchema schema = GraphQLSchemaCache.get(schemaKey, () -> typeProvider.getRootSchema(gc));
+			GraphQLOptions options = Mesh.mesh().getOptions().getGraphQLOptions();
+			String operationName = queryJson.getString("operationName");
+			Map<String, Object> variables = extractVariables(queryJson);
+
+			// Estimate the cost before executing the query
+			QueryCost cost = null;
+			Document document = query == null ? null : schema.getDocumentCache().getDocument(query);
+			if (document != null) {
+				long defaultPageSize = options == null ? 0 : options.getDefaultPageSize();
+				cost = QueryCostAnalyzer.analyze(schema.getSchema(), document, operationName, variables, defaultPageSize);
+				QueryCostMetric.record(cost);
+				JsonObject violation = checkLimits(cost, options);
+				if (violation != null) {
+					QueryCostMetric.rejected();
+					log.warn("Rejected query {" + query + "} with cost " + cost.toJson().encode());
+					sendError(gc, violation, cost);
+					return;
+				}
+			}
+
+			DataLoaderRegistry dataLoaders = NodeDataLoader.createRegistry(gc);
+			List<Instrumentation> instrumentations = new ArrayList<>();
+			instrumentations.add(new DataLoaderDispatcherInstrumentation(dataLoaders));
+			QueryBudgetInstrumentation budget = null;
+			if (options != null && options.getTimeout() > 0) {
+				budget = new QueryBudgetInstrumentation(options.getTimeout());
+				instrumentations.add(budget);
+			}
+			// Reuse the document which was already parsed for the cost estimation
+			GraphQL graphQL = newGraphQL(schema.getSchema()).preparsedDocumentProvider(schema.getDocumentCache().withDocument(query, document, schema
+				.getSchema())).instrumentation(
+				new ChainedInstrumentation(instrumentations)).build();
+			ExecutionInput executionInput = ExecutionInput.newExecutionInput().query(query).operationName(operationName).context(gc).variables(
+				variables).build();
 			ExecutionResult result = graphQL.execute(executionInput);
 			List<GraphQLError> errors = result.getErrors();
 			JsonObject response = new JsonObject();
@@ -77,7 +157,21 @@ public class GraphQLHandler {
 				Map<String, Object> data = (Map<String, Object>) result.getData();
 				response.put("data", new JsonObject(data));
 			}
-			gc.send(response.encodePrettily(), OK);
+			if (budget != null && budget.isExceeded()) {
+				QueryCostMetric.timedOut();
+				log.warn("Query {" + query + "} exceeded the execution time budget of {" + options.getTimeout() + "} ms");
+				JsonArray jsonErrors = response.getJsonArray("errors");
+				if (jsonErrors == null) {
+					jsonErrors = new JsonArray();
+					response.put("errors", jsonErrors);
+				}
+				jsonErrors.add(new JsonObject().put("message", "The execution time budget of " + options.getTimeout()
+					+ " ms was exceeded. The response only contains partial data.").put("type", QUERY_TIMEOUT));
+			}
+			if (cost != null) {
+				response.put("extensions", new JsonObject().put("cost", cost.toJson()));
+			}
+			gc.send(JsonUtil.toJsonBuffer(response, false), OK, APPLICATION_JSON_UTF8);
 		}
 
 	}
@@ -98,6 +192,56 @@ public class GraphQLHandler {
 		}
 	}
 
+	/**
+	 * Send a response which only contains the given error message.
+	 * 
+	 * @param gc
+	 * @param message
+	 */
+	private void sendError(GraphQLContext gc, String message) {
+		sendError(gc, new JsonObject().put("message", message), null);
+	}
+
+	/**
+	 * Send a response which only contains the given error.
+	 * 
+	 * @param gc
+	 * @param error
+	 * @param cost
+	 *            Estimated cost which will be added to the extensions of the response or null
+	 */
+	private void sendError(GraphQLContext gc, JsonObject error, QueryCost cost) {
+		JsonObject response = new JsonObject();
+		response.put("errors", new JsonArray().add(error));
+		if (cost != null) {
+			response.put("extensions", new JsonObject().put("cost", cost.toJson()));
+		}
+		gc.send(JsonUtil.toJsonBuffer(response, false), OK, APPLICATION_JSON_UTF8);
+	}
+
+	/**
+	 * Check the estimated cost against the configured limits.
+	 * 
+	 * @param cost
+	 * @param options
+	 * @return Error which describes the exceeded limit or null if the query may be executed
+	 */
+	private JsonObject checkLimits(QueryCost cost, GraphQLOptions options) {
+		if (options == null) {
+			return null;
+		}
+		if (options.getMaxDepth() > 0 && cost.getDepth() > options.getMaxDepth()) {
+			return new JsonObject().put("message", "The query depth of " + cost.getDepth() + " exceeds the limit of " + options.getMaxDepth())
+				.put("type", QUERY_TOO_DEEP);
+		}
+		if (options.getMaxNodeVisits() > 0 && cost.getEstimatedVisits() > options.getMaxNodeVisits()) {
+			return new JsonObject().put("message", "The estimated amount of " + cost.getEstimatedVisits()
+				+ " loaded elements exceeds the limit of " + options.getMaxNodeVisits() + ". Use smaller page sizes or less nested fields.")
+				.put("type", QUERY_TOO_EXPENSIVE);
+		}
+		return null;
+	}
+
 	/**
 	 * Add the listed errors to the response.
 	 * 
@@ -111,8 +255,17 @@ public class GraphQLHandler {
 			JsonObject jsonError = new JsonObject();
 			if (error instanceof ExceptionWhileDataFetching) {
 				ExceptionWhileDataFetching dataError = (ExceptionWhileDataFetching) error;
-				if (dataError.getException() instanceof PermissionException) {
-					PermissionException restException = (PermissionException) dataError.getException();
+				Throwable exception = dataError.getException();
+				// Errors of the data loaders are wrapped
+				if (exception instanceof CompletionException && exception.getCause() != null) {
+					exception = exception.getCause();
+				}
+				// The exhausted budget is reported by a single timeout error
+				if (exception instanceof BudgetExceededException) {
+					continue;
+				}
+				if (exception instanceof PermissionException) {
+					PermissionException restException = (PermissionException) exception;
 					// TODO translate error
 					// TODO add i18n parameters
 					jsonError.put("message", restException.getI18nKey());
@@ -120,7 +273,7 @@ public class GraphQLHandler {
 					jsonError.put("elementId", restException.getElementId());
 					jsonError.put("elementType", restException.getElementType());
 				} else {
-					log.error("Error while fetching data.", dataError.getException());
+					log.error("Error while fetching data.", exception);
 					jsonError.put("message", dataError.getMessage());
 					jsonError.put("type", dataError.getErrorType());
 				}
@@ -0,0 +1,135 @@
+package com.gentics.mesh.graphql;
+
+import static com.gentics.mesh.Events.EVENT_BRANCH_DELETED;
+import static com.gentics.mesh.Events.EVENT_BRANCH_UPDATED;
+import static com.gentics.mesh.Events.EVENT_MICROSCHEMA_DELETED;
+import static com.gentics.mesh.Events.EVENT_MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.Events.EVENT_PROJECT_DELETED;
+import static com.gentics.mesh.Events.EVENT_SCHEMA_DELETED;
+import static com.gentics.mesh.Events.EVENT_SCHEMA_UPDATED;
+import static com.gentics.mesh.Events.MESH_MIGRATION;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.schema.MicroschemaContainer;
+import com.gentics.mesh.core.data.schema.SchemaContainer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import graphql.schema.GraphQLSchema;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Cache for the built GraphQL schemas.
+ *
+ * The GraphQL schema of a project contains one type per schema and microschema. Building those types is expensive and thus the schema is only built once
+ * per project, branch and set of schema versions. The key contains the uuids of the latest schema and microschema versions. A changed or newly assigned
+ * schema will thus never return an outdated schema. The schema, microschema, branch and migration events additionally clear the cache so that outdated
+ * entries do not linger. The GraphQL instance itself is created per request since it carries the request specific instrumentation.
+ */
+public final class GraphQLSchemaCache {
+
+	private static final Logger log = LoggerFactory.getLogger(GraphQLSchemaCache.class);
+
+	private static final int MAX_ENTRIES = 100;
+
+	private static final Cache<String, CachedSchema> CACHE = Caffeine.newBuilder().maximumSize(MAX_ENTRIES).expireAfterAccess(1, TimeUnit.HOURS).build();
+
+	private GraphQLSchemaCache() {
+	}
+
+	/**
+	 * Compose the key for the schema of the given project and branch. Needs to be called within a transaction.
+	 *
+	 * @param project
+	 * @param branch
+	 * @return
+	 */
+	public static String schemaKey(Project project, Branch branch) {
+		StringBuilder key = new StringBuilder();
+		key.append(project.getUuid());
+		key.append("-");
+		key.append(branch.getUuid());
+		for (SchemaContainer schema : project.getSchemaContainerRoot().findAll()) {
+			key.append("-");
+			key.append(schema.getLatestVersion().getUuid());
+		}
+		key.append("|");
+		for (MicroschemaContainer microschema : project.getMicroschemaContainerRoot().findAll()) {
+			key.append("-");
+			key.append(microschema.getLatestVersion().getUuid());
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Return the cached schema or build a new one using the given supplier.
+	 *
+	 * @param key
+	 *            Key which was created via {@link #schemaKey(Project, Branch)}
+	 * @param builder
+	 * @return
+	 */
+	public static CachedSchema get(String key, Supplier<GraphQLSchema> builder) {
+		CachedSchema cached = CACHE.getIfPresent(key);
+		if (cached == null) {
+			// The schema is not built within the cache since the supplier reads from the graph of the calling thread.
+			cached = new CachedSchema(builder.get());
+			CACHE.put(key, cached);
+		}
+		return cached;
+	}
+
+	/**
+	 * Register the event handlers which invalidate the cache.
+	 */
+	public static void registerEventHandler() {
+		EventBus eb = Mesh.vertx().eventBus();
+		for (String address : new String[] { EVENT_SCHEMA_UPDATED, EVENT_SCHEMA_DELETED, EVENT_MICROSCHEMA_UPDATED, EVENT_MICROSCHEMA_DELETED,
+			EVENT_BRANCH_UPDATED, EVENT_BRANCH_DELETED, EVENT_PROJECT_DELETED, MESH_MIGRATION }) {
+			eb.consumer(address, e -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing GraphQL schema cache due to received event from {" + e.address() + "}");
+				}
+				invalidate();
+			});
+		}
+	}
+
+	/**
+	 * Invalidate all cached schemas.
+	 */
+	public static void invalidate() {
+		CACHE.invalidateAll();
+	}
+
+	/**
+	 * Built schema together with the cache for the query documents which were validated against the schema.
+	 */
+	public static final class CachedSchema {
+
+		private final GraphQLSchema schema;
+
+		private final QueryDocumentCache documentCache = new QueryDocumentCache();
+
+		CachedSchema(GraphQLSchema schema) {
+			this.schema = schema;
+		}
+
+		public GraphQLSchema getSchema() {
+			return schema;
+		}
+
+		public QueryDocumentCache getDocumentCache() {
+			return documentCache;
+		}
+
+	}
+
+}
@@ -0,0 +1,101 @@
+package com.gentics.mesh.graphql;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hashing;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Store for persisted GraphQL queries.
+ *
+ * Clients may send the SHA-256 hash of a query via the <code>extensions.persistedQuery.sha256Hash</code> property of the request instead of the query
+ * itself. The query text is looked up by the hash. Unknown hashes are answered with the {@link #PERSISTED_QUERY_NOT_FOUND} error. The client will in that
+ * case resend the request with the query and the hash which registers the query in the store. The store is local to each instance and bounded.
+ */
+public final class PersistedQueryStore {
+
+	/**
+	 * Error message which is returned when the hash of a persisted query is unknown.
+	 */
+	public static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+
+	/**
+	 * Error message which is returned when the hash does not match the provided query.
+	 */
+	public static final String PERSISTED_QUERY_HASH_MISMATCH = "provided sha does not match query";
+
+	private static final int MAX_ENTRIES = 10_000;
+
+	private static final Cache<String, String> QUERIES = Caffeine.newBuilder().maximumSize(MAX_ENTRIES).expireAfterAccess(24, TimeUnit.HOURS)
+		.build();
+
+	private PersistedQueryStore() {
+	}
+
+	/**
+	 * Return the persisted query hash of the request.
+	 *
+	 * @param request
+	 *            GraphQL request body
+	 * @return Hash or null if the request does not reference a persisted query
+	 */
+	public static String getHash(JsonObject request) {
+		JsonObject extensions = request.getJsonObject("extensions");
+		if (extensions == null) {
+			return null;
+		}
+		JsonObject persistedQuery = extensions.getJsonObject("persistedQuery");
+		if (persistedQuery == null) {
+			return null;
+		}
+		return persistedQuery.getString("sha256Hash");
+	}
+
+	/**
+	 * Return the query for the given hash.
+	 *
+	 * @param hash
+	 * @return Query or null if the query has not been registered
+	 */
+	public static String get(String hash) {
+		return QUERIES.getIfPresent(hash.toLowerCase());
+	}
+
+	/**
+	 * Register the query for the given hash.
+	 *
+	 * @param hash
+	 * @param query
+	 * @return false if the hash does not match the query. The query will not be stored in that case
+	 */
+	public static boolean register(String hash, String query) {
+		String computedHash = hash(query);
+		if (!computedHash.equalsIgnoreCase(hash)) {
+			return false;
+		}
+		QUERIES.put(computedHash, query);
+		return true;
+	}
+
+	/**
+	 * Compute the hex encoded SHA-256 hash of the query.
+	 *
+	 * @param query
+	 * @return
+	 */
+	public static String hash(String query) {
+		return Hashing.sha256().hashString(query, StandardCharsets.UTF_8).toString();
+	}
+
+	/**
+	 * Remove all persisted queries.
+	 */
+	public static void invalidate() {
+		QUERIES.invalidateAll();
+	}
+
+}
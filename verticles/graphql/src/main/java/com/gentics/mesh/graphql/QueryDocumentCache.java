@@ -0,0 +1,81 @@
+package com.gentics.mesh.graphql;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.language.Document;
+import graphql.parser.Parser;
+import graphql.schema.GraphQLSchema;
+import graphql.validation.ValidationError;
+import graphql.validation.Validator;
+
+/**
+ * LRU cache for parsed and validated query documents.
+ *
+ * The validation result depends on the GraphQL schema and thus each cached schema uses its own document cache. The cache is dropped together with
+ * the schema once the schema changes.
+ */
+public class QueryDocumentCache implements PreparsedDocumentProvider {
+
+	/**
+	 * Maximum amount of query documents which will be cached per GraphQL schema.
+	 */
+	public static final int MAX_ENTRIES = 1000;
+
+	private final Cache<String, PreparsedDocumentEntry> documents = Caffeine.newBuilder().maximumSize(MAX_ENTRIES).build();
+
+	@Override
+	public PreparsedDocumentEntry get(String query, Function<String, PreparsedDocumentEntry> computeFunction) {
+		return documents.get(query, computeFunction);
+	}
+
+	/**
+	 * Return the parsed document for the given query. Previously executed queries are taken from the cache. Other queries will be parsed but not cached
+	 * since they still need to be validated.
+	 *
+	 * @param query
+	 * @return Parsed document or null if the query could not be parsed
+	 */
+	public Document getDocument(String query) {
+		PreparsedDocumentEntry entry = documents.getIfPresent(query);
+		if (entry != null) {
+			return entry.hasErrors() ? null : entry.getDocument();
+		}
+		try {
+			return new Parser().parseDocument(query);
+		} catch (Exception e) {
+			// The parser error will be reported by the execution
+			return null;
+		}
+	}
+
+	/**
+	 * Return a provider which uses the given document for the query instead of parsing the query again. The document will only be validated and then
+	 * added to the cache.
+	 *
+	 * @param query
+	 * @param document
+	 *            Parsed document of the query (may be null if the query could not be parsed)
+	 * @param schema
+	 *            Schema which is used to validate the document
+	 * @return
+	 */
+	public PreparsedDocumentProvider withDocument(String query, Document document, GraphQLSchema schema) {
+		if (document == null) {
+			return this;
+		}
+		return (executedQuery, computeFunction) -> documents.get(executedQuery, key -> {
+			if (!key.equals(query)) {
+				return computeFunction.apply(key);
+			}
+			List<ValidationError> errors = new Validator().validateDocument(schema, document);
+			return errors.isEmpty() ? new PreparsedDocumentEntry(document) : new PreparsedDocumentEntry(errors);
+		});
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.gentics.mesh.graphql.cost;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.gentics.mesh.core.data.page.impl.AbstractDynamicPage;
+
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
+
+/**
+ * Instrumentation which enforces the execution time budget of a query.
+ *
+ * The data fetchers are wrapped and will no longer load any data once the budget has been exhausted. Pages which are returned by the data fetchers also
+ * check the budget while iterating over their elements, since a single page may need to load many elements. The execution of the query thus completes
+ * quickly with partial data. The handler checks {@link #isExceeded()} and adds a corresponding error to the response.
+ */
+public class QueryBudgetInstrumentation extends SimpleInstrumentation {
+
+	private final long deadline;
+
+	private volatile boolean exceeded = false;
+
+	/**
+	 * Create a new instrumentation.
+	 *
+	 * @param timeout
+	 *            Budget in milliseconds. The budget starts when the instrumentation is created.
+	 */
+	public QueryBudgetInstrumentation(long timeout) {
+		this.deadline = System.currentTimeMillis() + timeout;
+	}
+
+	@Override
+	public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher, InstrumentationFieldFetchParameters parameters) {
+		return env -> {
+			if (exceeded || System.currentTimeMillis() > deadline) {
+				exceeded = true;
+				return null;
+			}
+			Object value = dataFetcher.get(env);
+			if (value instanceof CompletableFuture) {
+				// Pages may also be provided by the data loaders
+				return ((CompletableFuture<?>) value).thenApply(this::checkPage);
+			}
+			return checkPage(value);
+		};
+	}
+
+	private Object checkPage(Object value) {
+		if (value instanceof AbstractDynamicPage) {
+			((AbstractDynamicPage<?>) value).setIterationCheck(this::check);
+		}
+		return value;
+	}
+
+	/**
+	 * Check the budget while iterating over the elements of a page.
+	 *
+	 * @throws BudgetExceededException
+	 *             if the budget has been exhausted
+	 */
+	public void check() {
+		if (exceeded || System.currentTimeMillis() > deadline) {
+			exceeded = true;
+			throw new BudgetExceededException();
+		}
+	}
+
+	/**
+	 * Check whether the budget was exhausted during the execution.
+	 *
+	 * @return
+	 */
+	public boolean isExceeded() {
+		return exceeded;
+	}
+
+	/**
+	 * Exception which aborts the iteration over the elements of a page once the budget has been exhausted.
+	 */
+	public static class BudgetExceededException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		public BudgetExceededException() {
+			super("The execution time budget was exceeded", null, false, false);
+		}
+
+	}
+
+}
@@ -0,0 +1,46 @@
+package com.gentics.mesh.graphql.cost;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Estimated cost of a GraphQL query.
+ */
+public class QueryCost {
+
+	private final int depth;
+
+	private final long estimatedVisits;
+
+	public QueryCost(int depth, long estimatedVisits) {
+		this.depth = depth;
+		this.estimatedVisits = estimatedVisits;
+	}
+
+	/**
+	 * Return the maximum nesting depth of the selected fields.
+	 *
+	 * @return
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Return the estimated amount of elements which will be loaded when executing the query.
+	 *
+	 * @return
+	 */
+	public long getEstimatedVisits() {
+		return estimatedVisits;
+	}
+
+	/**
+	 * Return the JSON representation which is added to the extensions of the response.
+	 *
+	 * @return
+	 */
+	public JsonObject toJson() {
+		return new JsonObject().put("depth", depth).put("estimatedVisits", estimatedVisits);
+	}
+
+}
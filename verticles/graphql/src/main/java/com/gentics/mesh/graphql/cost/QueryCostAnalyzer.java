@@ -0,0 +1,224 @@
+package com.gentics.mesh.graphql.cost;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import graphql.language.Argument;
+import graphql.language.Definition;
+import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.IntValue;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.language.Value;
+import graphql.language.VariableReference;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLModifiedType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+
+/**
+ * Static cost estimator for GraphQL queries.
+ *
+ * The analyzer walks the selected fields of a parsed query before it gets executed. It determines the maximum nesting depth and estimates the amount of
+ * elements which will be loaded. Each field which returns an object counts as one visit per parent element. The amount of parent elements is multiplied
+ * by the following fan-out for nested selections:
+ * <ul>
+ * <li>Paging fields use the value of the <code>perPage</code> argument or the default page size of the server if no page size was specified. Pages
+ * without a page size are unbounded and use {@link #ESTIMATED_PAGE_SIZE}</li>
+ * <li>Other list fields use {@link #ESTIMATED_LIST_SIZE}</li>
+ * <li>The <code>elements</code> of a page have already been accounted for by the paging field</li>
+ * </ul>
+ * Introspection fields are ignored since their size is bound by the schema.
+ */
+public class QueryCostAnalyzer {
+
+	/**
+	 * Estimated size of list fields.
+	 */
+	public static final long ESTIMATED_LIST_SIZE = 10;
+
+	/**
+	 * Estimated size of paging fields which are not limited by a page size.
+	 */
+	public static final long ESTIMATED_PAGE_SIZE = 100;
+
+	private static final String PER_PAGE_ARGUMENT = "perPage";
+
+	private static final String ELEMENTS_FIELD = "elements";
+
+	private final GraphQLSchema schema;
+
+	private final Map<String, Object> variables;
+
+	private final long defaultPageSize;
+
+	private final Map<String, FragmentDefinition> fragments = new HashMap<>();
+
+	private int depth;
+
+	private long visits;
+
+	private QueryCostAnalyzer(GraphQLSchema schema, Map<String, Object> variables, long defaultPageSize) {
+		this.schema = schema;
+		this.variables = variables == null ? Collections.emptyMap() : variables;
+		this.defaultPageSize = defaultPageSize;
+	}
+
+	/**
+	 * Estimate the cost of the selected operation of the given document.
+	 *
+	 * @param schema
+	 *            Schema which is used to determine the types of the fields
+	 * @param document
+	 *            Parsed query
+	 * @param operationName
+	 *            Name of the operation which will be executed or null to use the first operation
+	 * @param variables
+	 *            Variables of the query
+	 * @param defaultPageSize
+	 *            Page size which is used by paging fields without the <code>perPage</code> argument. A value of 0 or less means that those pages are
+	 *            unbounded and estimated with {@link #ESTIMATED_PAGE_SIZE}.
+	 * @return
+	 */
+	public static QueryCost analyze(GraphQLSchema schema, Document document, String operationName, Map<String, Object> variables,
+		long defaultPageSize) {
+		QueryCostAnalyzer analyzer = new QueryCostAnalyzer(schema, variables, defaultPageSize);
+		OperationDefinition operation = null;
+		for (Definition definition : document.getDefinitions()) {
+			if (definition instanceof FragmentDefinition) {
+				FragmentDefinition fragment = (FragmentDefinition) definition;
+				analyzer.fragments.put(fragment.getName(), fragment);
+			} else if (definition instanceof OperationDefinition && operation == null) {
+				OperationDefinition candidate = (OperationDefinition) definition;
+				if (operationName == null || operationName.equals(candidate.getName())) {
+					operation = candidate;
+				}
+			}
+		}
+		if (operation != null) {
+			analyzer.visit(operation.getSelectionSet(), schema.getQueryType(), 1, 1, new HashSet<>());
+		}
+		return new QueryCost(analyzer.depth, analyzer.visits);
+	}
+
+	/**
+	 * Visit the selections of the given set.
+	 *
+	 * @param selectionSet
+	 * @param parentType
+	 *            Type which contains the selected fields or null if the type is unknown
+	 * @param level
+	 *            Nesting level of the selected fields
+	 * @param parentCount
+	 *            Estimated amount of parent elements
+	 * @param fragmentPath
+	 *            Names of the fragments which are currently being visited. Used to guard against fragment cycles.
+	 */
+	private void visit(SelectionSet selectionSet, GraphQLType parentType, int level, long parentCount, Set<String> fragmentPath) {
+		if (selectionSet == null) {
+			return;
+		}
+		for (Selection selection : selectionSet.getSelections()) {
+			if (selection instanceof Field) {
+				visitField((Field) selection, parentType, level, parentCount, fragmentPath);
+			} else if (selection instanceof InlineFragment) {
+				InlineFragment fragment = (InlineFragment) selection;
+				GraphQLType type = fragment.getTypeCondition() == null ? parentType : schema.getType(fragment.getTypeCondition().getName());
+				visit(fragment.getSelectionSet(), type, level, parentCount, fragmentPath);
+			} else if (selection instanceof FragmentSpread) {
+				String name = ((FragmentSpread) selection).getName();
+				FragmentDefinition fragment = fragments.get(name);
+				if (fragment != null && fragmentPath.add(name)) {
+					visit(fragment.getSelectionSet(), schema.getType(fragment.getTypeCondition().getName()), level, parentCount, fragmentPath);
+					fragmentPath.remove(name);
+				}
+			}
+		}
+	}
+
+	private void visitField(Field field, GraphQLType parentType, int level, long parentCount, Set<String> fragmentPath) {
+		if (field.getName().startsWith("__")) {
+			return;
+		}
+		depth = Math.max(depth, level);
+		if (field.getSelectionSet() == null || field.getSelectionSet().getSelections().isEmpty()) {
+			return;
+		}
+
+		GraphQLFieldDefinition definition = null;
+		if (parentType instanceof GraphQLFieldsContainer) {
+			definition = ((GraphQLFieldsContainer) parentType).getFieldDefinition(field.getName());
+		}
+		GraphQLType type = definition == null ? null : definition.getType();
+		boolean isList = false;
+		while (type instanceof GraphQLModifiedType) {
+			isList |= type instanceof GraphQLList;
+			type = ((GraphQLModifiedType) type).getWrappedType();
+		}
+
+		long count = parentCount;
+		if (definition != null && definition.getArgument(PER_PAGE_ARGUMENT) != null) {
+			count = multiply(parentCount, getPageSize(field));
+		} else if (isList && !ELEMENTS_FIELD.equals(field.getName())) {
+			count = multiply(parentCount, ESTIMATED_LIST_SIZE);
+		}
+		// The elements of a page have already been counted by the paging field
+		if (!(isList && ELEMENTS_FIELD.equals(field.getName()))) {
+			visits = add(visits, count);
+		}
+		visit(field.getSelectionSet(), type, level + 1, count, fragmentPath);
+	}
+
+	/**
+	 * Return the page size which was requested for the paging field.
+	 *
+	 * @param field
+	 * @return
+	 */
+	private long getPageSize(Field field) {
+		for (Argument argument : field.getArguments()) {
+			if (!PER_PAGE_ARGUMENT.equals(argument.getName())) {
+				continue;
+			}
+			Value value = argument.getValue();
+			if (value instanceof IntValue) {
+				return Math.max(0, ((IntValue) value).getValue().longValue());
+			}
+			if (value instanceof VariableReference) {
+				Object variable = variables.get(((VariableReference) value).getName());
+				if (variable instanceof Number) {
+					return Math.max(0, ((Number) variable).longValue());
+				}
+			}
+		}
+		// The page is unbounded if the server does not apply a default page size
+		return defaultPageSize > 0 ? defaultPageSize : ESTIMATED_PAGE_SIZE;
+	}
+
+	private static long multiply(long a, long b) {
+		try {
+			return Math.multiplyExact(a, b);
+		} catch (ArithmeticException e) {
+			return Long.MAX_VALUE;
+		}
+	}
+
+	private static long add(long a, long b) {
+		try {
+			return Math.addExact(a, b);
+		} catch (ArithmeticException e) {
+			return Long.MAX_VALUE;
+		}
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.gentics.mesh.graphql.cost;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
+
+/**
+ * Metrics for the estimated cost of the handled GraphQL queries.
+ */
+public final class QueryCostMetric {
+
+	private static final MetricRegistry metricRegistry = SharedMetricRegistries.getOrCreate("mesh");
+
+	/**
+	 * Name of the histogram of the estimated element visits per query.
+	 */
+	public static final String COST = "graphql.query.cost";
+
+	/**
+	 * Name of the histogram of the depth per query.
+	 */
+	public static final String DEPTH = "graphql.query.depth";
+
+	/**
+	 * Name of the counter for queries which were rejected since they exceeded the configured limits.
+	 */
+	public static final String REJECTED = "graphql.query.rejected";
+
+	/**
+	 * Name of the counter for queries which exceeded the execution time budget.
+	 */
+	public static final String TIMED_OUT = "graphql.query.timeout";
+
+	private QueryCostMetric() {
+	}
+
+	/**
+	 * Record the estimated cost of a query.
+	 *
+	 * @param cost
+	 */
+	public static void record(QueryCost cost) {
+		metricRegistry.histogram(COST).update(cost.getEstimatedVisits());
+		metricRegistry.histogram(DEPTH).update(cost.getDepth());
+	}
+
+	/**
+	 * Record a query which was rejected before execution.
+	 */
+	public static void rejected() {
+		metricRegistry.counter(REJECTED).inc();
+	}
+
+	/**
+	 * Record a query which was aborted since it exceeded the execution time budget.
+	 */
+	public static void timedOut() {
+		metricRegistry.counter(TIMED_OUT).inc();
+	}
+
+}
@@ -0,0 +1,361 @@
+package com.gentics.mesh.graphql.dataloader;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+import static com.gentics.mesh.core.rest.error.Errors.missingPerm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.dataloader.BatchLoader;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
+import com.gentics.mesh.core.data.Tag;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.NodeContent;
+import com.gentics.mesh.dagger.MeshInternal;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Data loaders which batch the loading of nodes and their related elements.
+ *
+ * The requested elements of all nodes of the same query level are collected and loaded at once when the level has been fetched. The read permissions of
+ * the loaded elements are checked using a single batched permission check per level. Elements which are requested multiple times within the same request
+ * are only loaded once. The loaders are bound to the request and are stored in the {@link GraphQLContext}.
+ */
+public final class NodeDataLoader {
+
+	private static final MetricRegistry metricRegistry = SharedMetricRegistries.getOrCreate("mesh");
+
+	/**
+	 * Name of the counter for the dispatched batches of all loaders.
+	 */
+	public static final String BATCHES = "graphql.dataloader.batches";
+
+	/**
+	 * Name of the counter for the keys which were loaded by all loaders.
+	 */
+	public static final String KEYS = "graphql.dataloader.keys";
+
+	/**
+	 * Key of the data loader registry within the context.
+	 */
+	public static final String REGISTRY_KEY = "dataLoaderRegistry";
+
+	/**
+	 * Name of the loader which loads the content of a node.
+	 */
+	public static final String CONTENT_LOADER = "nodeContentLoader";
+
+	/**
+	 * Name of the loader which loads the content of the items of a node list. Items without read permission are omitted.
+	 */
+	public static final String LIST_CONTENT_LOADER = "nodeListContentLoader";
+
+	/**
+	 * Name of the loader which loads the content of a node by its uuid.
+	 */
+	public static final String NODE_LOADER = "nodeLoader";
+
+	/**
+	 * Name of the loader which loads the readable tags of a node.
+	 */
+	public static final String TAGS_LOADER = "nodeTagsLoader";
+
+	/**
+	 * Name of the loader which loads the content of a node without checking the permissions.
+	 */
+	public static final String CONTAINER_LOADER = "nodeContainerLoader";
+
+	private NodeDataLoader() {
+	}
+
+	/**
+	 * Create the data loaders for the given request context and store the registry within the context.
+	 *
+	 * @param gc
+	 * @return Created registry
+	 */
+	public static DataLoaderRegistry createRegistry(GraphQLContext gc) {
+		DataLoaderRegistry registry = new DataLoaderRegistry();
+		registry.register(CONTENT_LOADER, newLoader(keys -> loadContents(gc, keys, false)));
+		registry.register(LIST_CONTENT_LOADER, newLoader(keys -> loadContents(gc, keys, true)));
+		registry.register(NODE_LOADER, newLoader(keys -> loadNodes(gc, keys)));
+		registry.register(TAGS_LOADER, newLoader(keys -> loadTags(gc, keys)));
+		registry.register(CONTAINER_LOADER, newLoader(keys -> loadContainers(gc, keys)));
+		gc.put(REGISTRY_KEY, registry);
+		return registry;
+	}
+
+	/**
+	 * Load the content of the given node for the given languages. The returned future will be completed once the loader has been dispatched. It will fail
+	 * if the user has no read permission on the node.
+	 *
+	 * @param env
+	 * @param node
+	 * @param languageTags
+	 * @return Future which will provide the {@link NodeContent}
+	 */
+	public static CompletableFuture<Object> loadContent(DataFetchingEnvironment env, Node node, List<String> languageTags) {
+		DataLoader<ContentKey, Object> loader = getLoader(env, CONTENT_LOADER);
+		return loader.load(new ContentKey(node, languageTags));
+	}
+
+	/**
+	 * Load the contents of the items of a node list for the given languages. Items for which the user has no read permission are omitted.
+	 *
+	 * @param env
+	 * @param nodes
+	 * @param languageTags
+	 * @return Future which will provide the list of readable {@link NodeContent}s
+	 */
+	public static CompletableFuture<List<NodeContent>> loadListContents(DataFetchingEnvironment env, List<Node> nodes, List<String> languageTags) {
+		List<ContentKey> keys = new ArrayList<>(nodes.size());
+		for (Node node : nodes) {
+			keys.add(new ContentKey(node, languageTags));
+		}
+		DataLoader<ContentKey, NodeContent> loader = getLoader(env, LIST_CONTENT_LOADER);
+		return loader.loadMany(keys).thenApply(contents -> {
+			contents.removeIf(Objects::isNull);
+			return contents;
+		});
+	}
+
+	/**
+	 * Load the content of the node with the given uuid. The returned future will provide null if the node could not be found and will fail if the user has
+	 * no read permission on the node.
+	 *
+	 * @param env
+	 * @param uuid
+	 * @param languageTags
+	 * @return Future which will provide the {@link NodeContent}
+	 */
+	public static CompletableFuture<Object> loadNode(DataFetchingEnvironment env, String uuid, List<String> languageTags) {
+		DataLoader<UuidKey, Object> loader = getLoader(env, NODE_LOADER);
+		return loader.load(new UuidKey(uuid, languageTags));
+	}
+
+	/**
+	 * Load the tags of the given node which can be read by the user.
+	 *
+	 * @param env
+	 * @param node
+	 * @return Future which will provide the list of tags
+	 */
+	public static CompletableFuture<List<Tag>> loadTags(DataFetchingEnvironment env, Node node) {
+		DataLoader<NodeKey, List<Tag>> loader = getLoader(env, TAGS_LOADER);
+		return loader.load(new NodeKey(node));
+	}
+
+	/**
+	 * Load the contents of the given nodes for the given languages. The permissions of the nodes are not checked.
+	 *
+	 * @param env
+	 * @param nodes
+	 * @param languageTags
+	 * @return Future which will provide the list of {@link NodeContent}s
+	 */
+	public static CompletableFuture<List<NodeContent>> loadContainers(DataFetchingEnvironment env, List<Node> nodes, List<String> languageTags) {
+		List<ContentKey> keys = new ArrayList<>(nodes.size());
+		for (Node node : nodes) {
+			keys.add(new ContentKey(node, languageTags));
+		}
+		DataLoader<ContentKey, NodeContent> loader = getLoader(env, CONTAINER_LOADER);
+		return loader.loadMany(keys);
+	}
+
+	private static <K, V> DataLoader<K, V> getLoader(DataFetchingEnvironment env, String name) {
+		GraphQLContext gc = env.getContext();
+		DataLoaderRegistry registry = gc.get(REGISTRY_KEY);
+		return registry.getDataLoader(name);
+	}
+
+	private static <K, V> DataLoader<K, V> newLoader(Function<List<K>, List<V>> loadFunction) {
+		BatchLoader<K, V> batchLoader = keys -> {
+			metricRegistry.counter(BATCHES).inc();
+			metricRegistry.counter(KEYS).inc(keys.size());
+			return CompletableFuture.completedFuture(loadFunction.apply(keys));
+		};
+		return new DataLoader<>(batchLoader);
+	}
+
+	private static List<Object> loadContents(GraphQLContext gc, List<ContentKey> keys, boolean omitDenied) {
+		List<Object> ids = new ArrayList<>(keys.size());
+		for (ContentKey key : keys) {
+			ids.add(key.nodeId);
+		}
+		// Read published permission falls back to the read permission
+		boolean[] granted = gc.getUser().hasPermissionForIds(ids, READ_PUBLISHED_PERM);
+		List<Object> contents = new ArrayList<>(keys.size());
+		for (int i = 0; i < granted.length; i++) {
+			Node node = keys.get(i).node;
+			List<String> languageTags = keys.get(i).languageTags;
+			if (granted[i]) {
+				contents.add(new NodeContent(node, node.findVersion(gc, languageTags), languageTags));
+			} else if (omitDenied) {
+				contents.add(null);
+			} else {
+				contents.add(missingPerm(node.getTypeInfo().getType(), node.getUuid()));
+			}
+		}
+		return contents;
+	}
+
+	private static List<Object> loadNodes(GraphQLContext gc, List<UuidKey> keys) {
+		List<Node> nodes = new ArrayList<>(keys.size());
+		List<Object> ids = new ArrayList<>(keys.size());
+		for (UuidKey key : keys) {
+			Node node = MeshInternal.get().boot().nodeRoot().findByUuid(key.uuid);
+			nodes.add(node);
+			if (node != null) {
+				ids.add(node.id());
+			}
+		}
+		boolean[] granted = gc.getUser().hasPermissionForIds(ids, READ_PUBLISHED_PERM);
+		List<Object> contents = new ArrayList<>(keys.size());
+		int idx = 0;
+		for (int i = 0; i < keys.size(); i++) {
+			Node node = nodes.get(i);
+			List<String> languageTags = keys.get(i).languageTags;
+			if (node == null) {
+				// TODO Throw graphql aware not found exception
+				contents.add(null);
+			} else if (granted[idx++]) {
+				contents.add(new NodeContent(node, node.findVersion(gc, languageTags), languageTags));
+			} else {
+				contents.add(missingPerm(node.getTypeInfo().getType(), node.getUuid()));
+			}
+		}
+		return contents;
+	}
+
+	private static List<List<Tag>> loadTags(GraphQLContext gc, List<NodeKey> keys) {
+		List<List<Tag>> tagsPerNode = new ArrayList<>(keys.size());
+		List<Object> ids = new ArrayList<>();
+		for (NodeKey key : keys) {
+			List<Tag> tags = new ArrayList<>();
+			for (Tag tag : key.node.getTags(gc.getBranch())) {
+				tags.add(tag);
+				ids.add(tag.id());
+			}
+			tagsPerNode.add(tags);
+		}
+		// Check the permissions of the tags of all nodes at once
+		boolean[] granted = gc.getUser().hasPermissionForIds(ids, READ_PERM);
+		List<List<Tag>> readableTagsPerNode = new ArrayList<>(keys.size());
+		int idx = 0;
+		for (List<Tag> tags : tagsPerNode) {
+			List<Tag> readableTags = new ArrayList<>(tags.size());
+			for (Tag tag : tags) {
+				if (granted[idx++]) {
+					readableTags.add(tag);
+				}
+			}
+			readableTagsPerNode.add(readableTags);
+		}
+		return readableTagsPerNode;
+	}
+
+	private static List<NodeContent> loadContainers(GraphQLContext gc, List<ContentKey> keys) {
+		List<NodeContent> contents = new ArrayList<>(keys.size());
+		for (ContentKey key : keys) {
+			contents.add(new NodeContent(key.node, key.node.findVersion(gc, key.languageTags), key.languageTags));
+		}
+		return contents;
+	}
+
+	/**
+	 * Key which identifies the requested content of a node.
+	 */
+	private static final class ContentKey {
+
+		private final Node node;
+
+		private final Object nodeId;
+
+		private final List<String> languageTags;
+
+		ContentKey(Node node, List<String> languageTags) {
+			this.node = node;
+			this.nodeId = node.id();
+			this.languageTags = languageTags;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof ContentKey)) {
+				return false;
+			}
+			ContentKey other = (ContentKey) obj;
+			return nodeId.equals(other.nodeId) && Objects.equals(languageTags, other.languageTags);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(nodeId, languageTags);
+		}
+	}
+
+	/**
+	 * Key which identifies a node by its uuid together with the requested languages.
+	 */
+	private static final class UuidKey {
+
+		private final String uuid;
+
+		private final List<String> languageTags;
+
+		UuidKey(String uuid, List<String> languageTags) {
+			this.uuid = uuid;
+			this.languageTags = languageTags;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof UuidKey)) {
+				return false;
+			}
+			UuidKey other = (UuidKey) obj;
+			return uuid.equals(other.uuid) && Objects.equals(languageTags, other.languageTags);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(uuid, languageTags);
+		}
+	}
+
+	/**
+	 * Key which identifies a node.
+	 */
+	private static final class NodeKey {
+
+		private final Node node;
+
+		private final Object nodeId;
+
+		NodeKey(Node node) {
+			this.node = node;
+			this.nodeId = node.id();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof NodeKey && nodeId.equals(((NodeKey) obj).nodeId);
+		}
+
+		@Override
+		public int hashCode() {
+			return nodeId.hashCode();
+		}
+	}
+
+}
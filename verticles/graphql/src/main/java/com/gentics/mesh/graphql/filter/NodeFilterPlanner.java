@@ -0,0 +1,195 @@
+package com.gentics.mesh.graphql.filter;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.root.NodeRoot;
+import com.gentics.mesh.core.data.schema.SchemaContainer;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.util.PermissionFilteringIterator;
+import com.syncleus.ferma.FramedTransactionalGraph;
+import com.syncleus.ferma.tx.Tx;
+
+/**
+ * Planner for project wide node filters.
+ *
+ * Without a plan all nodes of the project need to be loaded in order to evaluate the {@link NodeFilter} predicate. The planner examines the top level
+ * filter conditions and uses the graph indices to load only the candidate nodes for the following conditions:
+ * <ul>
+ * <li><code>uuid: {equals: "..."}</code> and <code>uuid: {oneOf: [...]}</code> via the uuid index of the node root</li>
+ * <li><code>schema: {is: ...}</code>, <code>schema: {uuid: {equals: "..."}}</code> and <code>schema: {name: {equals: "..."}}</code> via the schema
+ * edges of the nodes</li>
+ * </ul>
+ * Conditions which have been fully answered by the index lookup are removed from the filter. All remaining conditions are evaluated in memory.
+ */
+public final class NodeFilterPlanner {
+
+	private static final String UUID_KEY = "uuid";
+
+	private static final String SCHEMA_KEY = "schema";
+
+	private static final String NAME_KEY = "name";
+
+	private static final String IS_KEY = "is";
+
+	private static final String EQUALS_KEY = "equals";
+
+	private static final String ONE_OF_KEY = "oneOf";
+
+	private NodeFilterPlanner() {
+	}
+
+	/**
+	 * Plan the loading of the nodes of the current project for the given filter.
+	 *
+	 * @param gc
+	 * @param filter
+	 *            Filter argument or null
+	 * @return
+	 */
+	public static Plan plan(GraphQLContext gc, Map<String, ?> filter) {
+		NodeRoot nodeRoot = gc.getProject().getNodeRoot();
+		if (filter == null || filter.isEmpty()) {
+			return new Plan(nodeRoot.findAllStream(gc), null);
+		}
+
+		// Uuids are the most selective condition
+		Map<String, ?> uuidFilter = getMap(filter, UUID_KEY);
+		List<?> uuids = uuidFilter == null ? null : getValues(uuidFilter);
+		if (uuids != null) {
+			Stream<Node> nodes = uuids.stream().filter(Objects::nonNull).distinct().map(uuid -> nodeRoot.findByUuid(uuid.toString())).filter(
+				Objects::nonNull);
+			return new Plan(filterPermissions(gc, nodeRoot, nodes), residual(filter, UUID_KEY, uuidFilter.size() == 1));
+		}
+
+		Map<String, ?> schemaFilter = getMap(filter, SCHEMA_KEY);
+		if (schemaFilter != null && schemaFilter.size() == 1) {
+			SchemaContainer schema = findSchema(gc.getProject(), schemaFilter);
+			if (schema != null) {
+				String projectUuid = gc.getProject().getUuid();
+				Stream<Node> nodes = StreamSupport.stream(schema.getNodes().spliterator(), false).map(Node.class::cast).filter(node -> projectUuid
+					.equals(node.getProject().getUuid()));
+				return new Plan(filterPermissions(gc, nodeRoot, nodes), residual(filter, SCHEMA_KEY, true));
+			}
+		}
+
+		return new Plan(nodeRoot.findAllStream(gc), filter);
+	}
+
+	/**
+	 * Locate the schema which is referenced by the given schema filter.
+	 *
+	 * @param project
+	 * @param schemaFilter
+	 * @return Found schema or null if the filter can't be answered via a lookup
+	 */
+	private static SchemaContainer findSchema(Project project, Map<String, ?> schemaFilter) {
+		Object is = schemaFilter.get(IS_KEY);
+		if (is != null) {
+			return project.getSchemaContainerRoot().findByUuid(is.toString());
+		}
+		Map<String, ?> uuidFilter = getMap(schemaFilter, UUID_KEY);
+		if (uuidFilter != null && uuidFilter.size() == 1 && uuidFilter.get(EQUALS_KEY) != null) {
+			return project.getSchemaContainerRoot().findByUuid(uuidFilter.get(EQUALS_KEY).toString());
+		}
+		Map<String, ?> nameFilter = getMap(schemaFilter, NAME_KEY);
+		if (nameFilter != null && nameFilter.size() == 1 && nameFilter.get(EQUALS_KEY) != null) {
+			return project.getSchemaContainerRoot().findByName(nameFilter.get(EQUALS_KEY).toString());
+		}
+		return null;
+	}
+
+	/**
+	 * Return the values of an equals or oneOf string filter.
+	 *
+	 * @param stringFilter
+	 * @return List of values or null if the filter contains neither condition
+	 */
+	private static List<?> getValues(Map<String, ?> stringFilter) {
+		Object equals = stringFilter.get(EQUALS_KEY);
+		if (equals != null) {
+			return Collections.singletonList(equals);
+		}
+		Object oneOf = stringFilter.get(ONE_OF_KEY);
+		if (oneOf instanceof List) {
+			return (List<?>) oneOf;
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, ?> getMap(Map<String, ?> filter, String key) {
+		Object value = filter.get(key);
+		return value instanceof Map ? (Map<String, ?>) value : null;
+	}
+
+	/**
+	 * Return the filter which still needs to be evaluated in memory.
+	 *
+	 * @param filter
+	 * @param key
+	 *            Key of the condition which was used for the lookup
+	 * @param answered
+	 *            Whether the condition has been fully answered by the lookup
+	 * @return Remaining filter or null if no conditions remain
+	 */
+	private static Map<String, ?> residual(Map<String, ?> filter, String key, boolean answered) {
+		if (!answered) {
+			return filter;
+		}
+		Map<String, Object> residual = new HashMap<>(filter);
+		residual.remove(key);
+		return residual.isEmpty() ? null : residual;
+	}
+
+	private static Stream<? extends Node> filterPermissions(GraphQLContext gc, NodeRoot nodeRoot, Stream<Node> nodes) {
+		FramedTransactionalGraph graph = Tx.getActive().getGraph();
+		// Use the same permission as the project wide listing
+		return PermissionFilteringIterator.filter(gc.getUser(), nodes.map(Node::getVertex), READ_PERM).map(vertex -> graph.frameElementExplicit(
+			vertex, nodeRoot.getPersistanceClass()));
+	}
+
+	/**
+	 * Result of the planning.
+	 */
+	public static final class Plan {
+
+		private final Stream<? extends Node> nodes;
+
+		private final Map<String, ?> residualFilter;
+
+		Plan(Stream<? extends Node> nodes, Map<String, ?> residualFilter) {
+			this.nodes = nodes;
+			this.residualFilter = residualFilter;
+		}
+
+		/**
+		 * Return the stream of candidate nodes. The read permission has already been checked.
+		 *
+		 * @return
+		 */
+		public Stream<? extends Node> getNodes() {
+			return nodes;
+		}
+
+		/**
+		 * Return the filter which needs to be applied to the candidate nodes.
+		 *
+		 * @return Filter or null if no filtering is needed
+		 */
+		public Map<String, ?> getResidualFilter() {
+			return residualFilter;
+		}
+
+	}
+
+}
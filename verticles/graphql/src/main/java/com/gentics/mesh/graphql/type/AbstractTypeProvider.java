@@ -9,14 +9,15 @@ import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.impl.DynamicStreamPageImpl;
-import com.gentics.mesh.core.data.root.NodeRoot;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.error.MeshConfigurationException;
+import com.gentics.mesh.etc.config.GraphQLOptions;
 import com.gentics.mesh.graphql.context.GraphQLContext;
 import com.gentics.mesh.graphql.filter.NodeFilter;
+import com.gentics.mesh.graphql.filter.NodeFilterPlanner;
 import com.gentics.mesh.parameter.LinkType;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
@@ -398,6 +399,12 @@ public abstract class AbstractTypeProvider {
 		Long perPage = env.getArgument("perPage");
 		if (perPage != null) {
 			parameters.setPerPage(perPage);
+		} else {
+			// Apply the default page size if one was configured
+			GraphQLOptions options = Mesh.mesh().getOptions().getGraphQLOptions();
+			if (options != null && options.getDefaultPageSize() > 0) {
+				parameters.setPerPage(options.getDefaultPageSize());
+			}
 		}
 		parameters.validate();
 		return parameters;
@@ -412,17 +419,25 @@ public abstract class AbstractTypeProvider {
 	 */
 	protected DynamicStreamPageImpl<NodeContent> fetchFilteredNodes(DataFetchingEnvironment env) {
 		GraphQLContext gc = env.getContext();
-		NodeRoot nodeRoot = gc.getProject().getNodeRoot();
+		Map<String, ?> filterArgument = env.getArgument("filter");
+		PagingParameters pagingInfo = getPagingInfo(env);
 
 		List<String> languageTags = getLanguageArgument(env);
 
-		Stream<NodeContent> contents = nodeRoot.findAllStream(gc)
+		// Use the graph indices to narrow down the nodes which need to be loaded
+		NodeFilterPlanner.Plan plan = NodeFilterPlanner.plan(gc, filterArgument);
+		Stream<NodeContent> contents = plan.getNodes()
 			// Now lets try to load the containers for those found nodes - apply the language fallback
 			.map(node -> new NodeContent(node, node.findVersion(gc, languageTags), languageTags))
 			// Filter nodes without a container
 			.filter(content -> content.getContainer() != null);
 
-		return applyNodeFilter(env, contents);
+		Map<String, ?> residualFilter = plan.getResidualFilter();
+		if (residualFilter != null) {
+			return new DynamicStreamPageImpl<>(contents, pagingInfo, NodeFilter.filter(gc).createPredicate(residualFilter));
+		} else {
+			return new DynamicStreamPageImpl<>(contents, pagingInfo);
+		}
 	}
 
 	protected DynamicStreamPageImpl<NodeContent> applyNodeFilter(DataFetchingEnvironment env, Stream<? extends NodeContent> stream) {
@@ -32,9 +32,11 @@ import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.core.data.page.Page;
+import com.gentics.mesh.core.data.page.impl.DynamicStreamPageImpl;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
 import com.gentics.mesh.graphql.filter.NodeFilter;
 import com.gentics.mesh.graphql.type.field.NodeFieldTypeProvider;
 import com.gentics.mesh.parameter.PagingParameters;
@@ -95,10 +97,9 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 		if (parentNode == null) {
 			return null;
 		}
-		gc.requiresPerm(parentNode, READ_PERM, READ_PUBLISHED_PERM);
-
 		List<String> languageTags =  getLanguageArgument(env, content);
-		return new NodeContent(parentNode, parentNode.findVersion(gc, languageTags), languageTags);
+		// The permissions of the parent node will be checked by the loader
+		return NodeDataLoader.loadContent(env, parentNode, languageTags);
 	}
 
 	public Object nodeLanguageFetcher(DataFetchingEnvironment env) {
@@ -135,10 +136,9 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			return null;
 		}
 
-		return content.getNode().getBreadcrumbNodes(gc).stream().map(node -> {
-			List<String> languageTags =  getLanguageArgument(env, content);
-			return new NodeContent(node, node.findVersion(gc, languageTags), languageTags);
-		}).collect(Collectors.toList());
+		List<String> languageTags = getLanguageArgument(env, content);
+		List<Node> nodes = content.getNode().getBreadcrumbNodes(gc).stream().collect(Collectors.toList());
+		return NodeDataLoader.loadContainers(env, nodes, languageTags);
 	}
 
 	public Object languagesFetcher(DataFetchingEnvironment env) {
@@ -268,13 +268,13 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 		// .tags
 		nodeType.field(newFieldDefinition().name("tags").argument(createPagingArgs()).type(new GraphQLTypeReference(TAG_PAGE_TYPE_NAME)).dataFetcher((
 			env) -> {
-			GraphQLContext gc = env.getContext();
 			NodeContent content = env.getSource();
 			if (content == null) {
 				return null;
 			}
-			Node node = content.getNode();
-			return node.getTags(gc.getUser(), getPagingInfo(env), gc.getBranch());
+			PagingParameters pagingInfo = getPagingInfo(env);
+			// The readable tags are loaded together with the tags of the other nodes of the same level
+			return NodeDataLoader.loadTags(env, content.getNode()).thenApply(tags -> new DynamicStreamPageImpl<>(tags.stream(), pagingInfo));
 		}));
 
 		// TODO Fix name confusion and check what version of schema should be used to determine this type
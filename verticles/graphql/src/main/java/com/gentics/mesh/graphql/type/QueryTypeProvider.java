@@ -48,6 +48,7 @@ import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.service.WebRootService;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
 import com.gentics.mesh.graphql.filter.GroupFilter;
 import com.gentics.mesh.graphql.filter.NodeFilter;
 import com.gentics.mesh.graphql.filter.RoleFilter;
@@ -173,16 +174,9 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 	public Object nodeFetcher(DataFetchingEnvironment env) {
 		String uuid = env.getArgument("uuid");
 		if (uuid != null) {
-			GraphQLContext gc = env.getContext();
-			Node node = boot.nodeRoot().findByUuid(uuid);
-			if (node == null) {
-				// TODO Throw graphql aware not found exception
-				return null;
-			}
-			node = gc.requiresPerm(node, READ_PERM, READ_PUBLISHED_PERM);
 			List<String> languageTags = getLanguageArgument(env);
-			NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
-			return new NodeContent(node, container, languageTags);
+			// The permissions of the node will be checked by the loader
+			return NodeDataLoader.loadNode(env, uuid, languageTags);
 		}
 		String path = env.getArgument("path");
 		if (path != null) {
@@ -6,7 +6,6 @@ import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.data.node.Node;
-import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.core.data.node.field.BooleanGraphField;
 import com.gentics.mesh.core.data.node.field.DateGraphField;
@@ -27,6 +26,7 @@ import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
 import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.core.rest.schema.ListFieldSchema;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
 import com.gentics.mesh.graphql.filter.NodeFilter;
 import com.gentics.mesh.graphql.type.AbstractTypeProvider;
 import com.gentics.mesh.parameter.LinkType;
@@ -41,14 +41,10 @@ import graphql.schema.GraphQLTypeReference;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
-import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.graphql.type.NodeTypeProvider.NODE_TYPE_NAME;
 import static com.gentics.mesh.graphql.type.field.MicronodeFieldTypeProvider.MICRONODE_TYPE_NAME;
 import static graphql.Scalars.GraphQLBigDecimal;
@@ -300,25 +296,24 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 					return null;
 				}
 				Map<String, ?> filterArgument = env.getArgument("filter");
-				Stream<NodeContent> nodes = nodeList.getList().stream().map(item -> {
-					Node node = item.getNode();
-					List<String> languageTags = Collections.emptyList();
-					if (container instanceof NodeGraphFieldContainer) {
-						languageTags = Arrays.asList(container.getLanguage().getLanguageTag());
-					} else {
-						// Other containers (e.g. micronodes do not have a language thus we can't use that language to define the loaded language variant. We
-						// thus fallback to the default mesh language.
-						String defaultLanguage = Mesh.mesh().getOptions().getDefaultLanguage();
-						languageTags = Arrays.asList(defaultLanguage);
+				List<String> languageTags;
+				if (container instanceof NodeGraphFieldContainer) {
+					languageTags = Arrays.asList(container.getLanguage().getLanguageTag());
+				} else {
+					// Other containers (e.g. micronodes do not have a language thus we can't use that language to define the loaded language variant. We
+					// thus fallback to the default mesh language.
+					String defaultLanguage = Mesh.mesh().getOptions().getDefaultLanguage();
+					languageTags = Arrays.asList(defaultLanguage);
+				}
+				List<Node> nodes = nodeList.getList().stream().map(item -> item.getNode()).collect(Collectors.toList());
+				// The items are loaded together with the items of the other lists of the same level. Items which can't be read are omitted.
+				// TODO we need to add more assertions and check what happens if the itemContainer is null
+				return NodeDataLoader.loadListContents(env, nodes, languageTags).thenApply(contents -> {
+					if (filterArgument == null) {
+						return contents;
 					}
-					// TODO we need to add more assertions and check what happens if the itemContainer is null
-					NodeGraphFieldContainer itemContainer = node.findVersion(gc, languageTags);
-					return new NodeContent(node, itemContainer, languageTags);
+					return contents.stream().filter(NodeFilter.filter(gc).createPredicate(filterArgument)).collect(Collectors.toList());
 				});
-				if (filterArgument != null) {
-					nodes = nodes.filter(nodeFilter.createPredicate(filterArgument));
-				}
-				return nodes.collect(Collectors.toList());
 			case "micronode":
 				MicronodeGraphFieldList micronodeList = container.getMicronodeList(schema.getName());
 				if (micronodeList == null) {
@@ -380,7 +375,6 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 	public GraphQLFieldDefinition createNodeDef(FieldSchema schema) {
 		return newFieldDefinition().name(schema.getName()).argument(createLanguageTagArg(false)).description(schema.getLabel())
 			.type(new GraphQLTypeReference(NODE_TYPE_NAME)).dataFetcher(env -> {
-				GraphQLContext gc = env.getContext();
 				GraphFieldContainer source = env.getSource();
 				// TODO decide whether we want to reference the default content by default
 				NodeGraphField nodeField = source.getNode(schema.getName());
@@ -389,10 +383,8 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 					if (node != null) {
 						//Note that we would need to check for micronodes which are not language specific!
 						List<String> languageTags = getLanguageArgument(env, source);
-						// Check permissions for the linked node
-						gc.requiresPerm(node, READ_PERM, READ_PUBLISHED_PERM);
-						NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
-						return new NodeContent(node, container, languageTags);
+						// The permissions of the linked node will be checked by the loader
+						return NodeDataLoader.loadContent(env, node, languageTags);
 					}
 				}
 				return null;